@@ -4,11 +4,14 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skala.decase.domain.document.controller.dto.DocumentDetailResponse;
 import com.skala.decase.domain.document.controller.dto.DocumentResponse;
+import com.skala.decase.domain.document.controller.dto.DocumentUploadResponse;
 import com.skala.decase.domain.document.service.DocumentService;
+import com.skala.decase.domain.document.service.DocumentUploadService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -22,11 +25,12 @@ import java.util.List;
 public class DocumentController {
 
     private final DocumentService documentService;
+    private final DocumentUploadService documentUploadService;
     private final ObjectMapper objectMapper;
 
-    @Operation(summary = "문서 업로드", description = "사용자가 문서를 업로드합니다.")
+    @Operation(summary = "문서 업로드", description = "사용자가 문서를 업로드합니다. 파일별 저장 결과를 요청 순서대로 돌려줍니다.")
     @PostMapping(value = "/projects/{projectId}/documents/uploads", consumes = "multipart/form-data")
-    public ResponseEntity<List<DocumentResponse>> uploadDocuments(
+    public ResponseEntity<List<DocumentUploadResponse>> uploadDocuments(
             @PathVariable Long projectId,
             @RequestParam Long memberId,
             @RequestPart("files") List<MultipartFile> files,
@@ -34,7 +38,7 @@ public class DocumentController {
     ) throws Exception {
         List<Integer> types = objectMapper.readValue(typesJson, new TypeReference<>() {
         });
-        return ResponseEntity.ok(documentService.uploadDocuments(projectId, memberId, files, types));
+        return ResponseEntity.ok(documentUploadService.uploadDocuments(projectId, memberId, files, types));
     }
 
     // @DeleteMapping("/{docId}")
@@ -45,8 +49,9 @@ public class DocumentController {
 
     @Operation(summary = "문서 다운로드", description = "docId에 해당하는 문서를 다운로드합니다.")
     @GetMapping("/documents/{docId}/downloads")
-    public ResponseEntity<Resource> downloadDocument(@PathVariable String docId) throws Exception {
-        return documentService.downloadDocument(docId);
+    public void downloadDocument(@PathVariable String docId, HttpServletRequest request,
+                                 HttpServletResponse response) throws Exception {
+        documentService.downloadDocument(docId, request, response);
     }
 
     @Operation(summary = "문서 정보 상세보기", description = "docId에 해당하는 문서의 이름, 설명, 생성 날짜, 생성자를 반환합니다.")
@@ -1,8 +1,10 @@
 package com.skala.decase.domain.document.controller.dto;
 
 import java.util.List;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
@@ -17,6 +19,8 @@ public class DocumentPreviewDto {
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class SheetData {
         private String sheetName;
         private List<List<String>> data;
@@ -0,0 +1,17 @@
+package com.skala.decase.domain.document.controller.dto;
+
+/**
+ * 여러 파일 업로드의 파일별 결과. 요청한 파일 순서와 같습니다.
+ *
+ * @param docId    저장한 문서 ID. 실패하면 null
+ * @param uploaded 저장 여부
+ * @param error    실패 사유. 성공하면 null
+ */
+public record DocumentUploadResponse(
+        String docId,
+        String fileName,
+        String docDescription,
+        boolean uploaded,
+        String error
+) {
+}
@@ -43,6 +43,10 @@ public class Document {
     @Column(name = "path", length = 1000, nullable = false)
     private String path;
 
+    // 파일 내용의 SHA-256. 내용 저장소 도입 전에 올린 문서는 null 이며 path 의 파일을 따로 가집니다.
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Column(name = "name", length = 100, nullable = false)
     private String name;
 
@@ -0,0 +1,38 @@
+package com.skala.decase.domain.document.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 저장된 문서 파일 내용
+ * <p>
+ * 같은 내용의 업로드는 파일 하나를 함께 쓰며, refCount 는 이 내용을 가리키는 {@link Document} 수입니다.
+ * 행은 DocumentContentRepository 의 네이티브 쿼리로만 만들고 바꿉니다.
+ */
+@Entity
+@Table(name = "TM_DOCUMENT_CONTENTS")
+@Getter
+@NoArgsConstructor
+public class DocumentContent {
+
+    @Id
+    @Column(name = "content_hash", length = 64, nullable = false)
+    private String contentHash;  // SHA-256 (16진수)
+
+    @Column(name = "path", length = 1000, nullable = false)
+    private String path;
+
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_date", nullable = false)
+    private LocalDateTime createdDate;
+}
@@ -0,0 +1,27 @@
+package com.skala.decase.domain.document.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 문서 ID 접두사별 다음 번호
+ * <p>
+ * 서버는 번호를 블록 단위로 가져가므로 nextValue 는 아직 어떤 서버에도 나눠주지 않은 가장 작은 번호입니다.
+ */
+@Entity
+@Table(name = "TM_DOCUMENT_ID_SEQUENCES")
+@Getter
+@NoArgsConstructor
+public class DocumentIdSequence {
+
+    @Id
+    @Column(name = "prefix", length = 20, nullable = false)
+    private String prefix;  // RFP, MOMD, ASIS ...
+
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+}
@@ -0,0 +1,11 @@
+package com.skala.decase.domain.document.event;
+
+/**
+ * 문서 파일 내용의 참조가 하나 줄었다는 이벤트
+ *
+ * @param contentHash 파일 내용의 SHA-256 (16진수)
+ */
+public record DocumentContentReleasedEvent(
+        String contentHash
+) {
+}
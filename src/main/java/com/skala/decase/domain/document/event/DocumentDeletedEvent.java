@@ -0,0 +1,11 @@
+package com.skala.decase.domain.document.event;
+
+/**
+ * 문서가 삭제되었다는 이벤트
+ *
+ * @param docId 삭제된 문서 ID
+ */
+public record DocumentDeletedEvent(
+        String docId
+) {
+}
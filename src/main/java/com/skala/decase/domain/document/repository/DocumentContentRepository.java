@@ -0,0 +1,46 @@
+package com.skala.decase.domain.document.repository;
+
+import com.skala.decase.domain.document.domain.DocumentContent;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DocumentContentRepository extends JpaRepository<DocumentContent, String> {
+
+    /**
+     * 내용의 참조를 하나 늘립니다. 처음 저장하는 내용이면 참조 1 로 행을 만듭니다.
+     * 행 잠금을 잡으므로 같은 내용을 동시에 저장하거나 지우는 트랜잭션은 커밋까지 기다립니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO tm_document_contents (content_hash, path, size, ref_count, created_date)
+            VALUES (:contentHash, :path, :size, 1, NOW())
+            ON DUPLICATE KEY UPDATE ref_count = ref_count + 1
+            """, nativeQuery = true)
+    int acquire(@Param("contentHash") String contentHash, @Param("path") String path, @Param("size") long size);
+
+    @Modifying
+    @Query(value = """
+            UPDATE tm_document_contents
+            SET ref_count = ref_count - 1
+            WHERE content_hash = :contentHash
+              AND ref_count > 0
+            """, nativeQuery = true)
+    int release(@Param("contentHash") String contentHash);
+
+    /**
+     * 참조가 없는 내용의 행을 지웁니다. 지운 행 수가 1 이면 파일도 지워도 됩니다.
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM tm_document_contents
+            WHERE content_hash = :contentHash
+              AND ref_count = 0
+            """, nativeQuery = true)
+    int deleteIfUnused(@Param("contentHash") String contentHash);
+
+    @Query(value = "SELECT content_hash FROM tm_document_contents WHERE ref_count = 0", nativeQuery = true)
+    List<String> findUnusedHashes();
+}
@@ -0,0 +1,30 @@
+package com.skala.decase.domain.document.repository;
+
+import com.skala.decase.domain.document.domain.DocumentIdSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DocumentIdSequenceRepository extends JpaRepository<DocumentIdSequence, String> {
+
+    /**
+     * 접두사의 행이 없으면 만듭니다. 여러 서버가 동시에 만들어도 하나만 남습니다.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO tm_document_id_sequences (prefix, next_value) VALUES (:prefix, :nextValue)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("prefix") String prefix, @Param("nextValue") long nextValue);
+
+    /**
+     * 다음 번호를 읽고 행을 잠급니다. 트랜잭션이 끝날 때까지 다른 서버는 같은 접두사의 블록을 가져가지 못합니다.
+     */
+    @Query(value = "SELECT next_value FROM tm_document_id_sequences WHERE prefix = :prefix FOR UPDATE",
+            nativeQuery = true)
+    long lockNextValue(@Param("prefix") String prefix);
+
+    @Modifying
+    @Query(value = "UPDATE tm_document_id_sequences SET next_value = :nextValue WHERE prefix = :prefix",
+            nativeQuery = true)
+    int updateNextValue(@Param("prefix") String prefix, @Param("nextValue") long nextValue);
+}
@@ -9,8 +9,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface DocumentRepository extends JpaRepository<Document, String> {
-    @Query("SELECT d.docId FROM Document d WHERE d.docId LIKE CONCAT(:prefix, '-%') ORDER BY d.docId DESC LIMIT 1")
-    Optional<String> findLatestDocIdByPrefix(@Param("prefix") String prefix);
+    /**
+     * 접두사 문서 ID 번호 중 가장 큰 값. 문서 ID 시퀀스를 처음 만들 때만 씁니다.
+     */
+    @Query(value = "SELECT MAX(CAST(SUBSTRING(doc_id, CHAR_LENGTH(:prefix) + 2) AS UNSIGNED)) " +
+            "FROM tm_documents WHERE doc_id LIKE CONCAT(:prefix, '-%')", nativeQuery = true)
+    Optional<Long> findMaxDocNumberByPrefix(@Param("prefix") String prefix);
 
     @Query("SELECT d FROM Document d WHERE d.docId =:docId ")
     Optional<Document> findByDocId(@Param("docId") String docId);
@@ -0,0 +1,245 @@
+package com.skala.decase.domain.document.service;
+
+import com.skala.decase.domain.document.event.DocumentContentReleasedEvent;
+import com.skala.decase.domain.document.exception.DocumentException;
+import com.skala.decase.domain.document.repository.DocumentContentRepository;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 업로드 파일을 내용의 SHA-256 으로 저장합니다.
+ * <p>
+ * 파일은 {path}/{해시 앞 2자}/{다음 2자}/{해시} 에 하나만 두고 같은 내용의 문서가 함께 씁니다.
+ * 참조 수는 tm_document_contents 에 두며, 참조 수를 바꾸는 쿼리가 행 잠금을 잡으므로 저장과 삭제가 겹치지 않습니다.
+ * 파일은 참조가 0 이 된 트랜잭션이 커밋된 뒤, 또는 파일을 옮긴 저장 트랜잭션이 롤백된 뒤 별도 트랜잭션에서 지웁니다.
+ */
+@Slf4j
+@Service
+public class DocumentContentStore {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String TEMP_DIRECTORY = "tmp";
+
+    private final DocumentContentRepository documentContentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate purgeTransaction;
+    private final Path contentPath;
+
+    public DocumentContentStore(DocumentContentRepository documentContentRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${file.upload.content-path:./storage/contents}") String contentPath) {
+        this.documentContentRepository = documentContentRepository;
+        this.eventPublisher = eventPublisher;
+        this.purgeTransaction = new TransactionTemplate(transactionManager);
+        this.purgeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.contentPath = Paths.get(contentPath);
+    }
+
+    /**
+     * 저장된 파일 내용
+     *
+     * @param hash SHA-256 (16진수)
+     */
+    public record StoredContent(String hash, Path path, long size) {
+    }
+
+    /**
+     * 임시 파일로 받아 해시를 계산한 업로드. 저장하거나 {@link #discard} 해야 합니다.
+     */
+    public record StagedContent(Path temp, String hash, long size) {
+    }
+
+    /**
+     * 파일을 임시 파일로 받으면서 해시를 계산합니다. DB 를 쓰지 않으므로 트랜잭션 밖에서 여러 파일을 동시에 받을 수 있습니다.
+     */
+    public StagedContent stage(MultipartFile file) {
+        Path temp = null;
+        try {
+            Path tempDirectory = contentPath.resolve(TEMP_DIRECTORY);
+            Files.createDirectories(tempDirectory);
+            temp = Files.createTempFile(tempDirectory, "upload-", ".part");
+
+            MessageDigest digest = newDigest();
+            long size;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                size = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return new StagedContent(temp, HexFormat.of().formatHex(digest.digest()), size);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new DocumentException("파일을 저장할 수 없습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 받아 둔 파일을 같은 내용이 없을 때만 저장 위치로 옮기고 참조 수를 하나 늘립니다.
+     * 호출한 트랜잭션이 롤백되면 참조 수는 돌아가고, 이 호출이 옮긴 파일은 참조가 없으면 롤백 뒤에 지웁니다.
+     */
+    @Transactional
+    public StoredContent commit(StagedContent staged) {
+        Path target = resolve(staged.hash());
+        // 참조를 먼저 잡아야 다른 트랜잭션이 이 내용의 파일을 지우는 중이 아님이 보장됩니다.
+        documentContentRepository.acquire(staged.hash(), target.toString(), staged.size());
+        boolean moved = false;
+        try {
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(staged.temp(), target, StandardCopyOption.ATOMIC_MOVE);
+                    moved = true;
+                } catch (FileAlreadyExistsException e) {
+                    // 같은 내용을 먼저 옮긴 트랜잭션이 있음
+                }
+            }
+        } catch (IOException e) {
+            throw new DocumentException("파일을 저장할 수 없습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+        if (moved && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        purgeRolledBack(staged, target);
+                    }
+                }
+            });
+        }
+        return new StoredContent(staged.hash(), target, staged.size());
+    }
+
+    /**
+     * 파일 하나를 받아 저장합니다.
+     */
+    @Transactional
+    public StoredContent store(MultipartFile file) {
+        StagedContent staged = stage(file);
+        try {
+            return commit(staged);
+        } finally {
+            discard(staged);
+        }
+    }
+
+    /**
+     * 저장하지 않았거나 같은 내용이 이미 있어 옮기지 않은 임시 파일을 지웁니다.
+     */
+    public void discard(StagedContent staged) {
+        deleteQuietly(staged.temp());
+    }
+
+    /**
+     * 내용의 참조를 하나 줄입니다. 참조가 0 이 되면 커밋 뒤에 파일을 지웁니다.
+     * 내용 해시가 없는 이전 문서는 파일을 따로 가지므로 아무것도 하지 않습니다.
+     */
+    @Transactional
+    public void release(String contentHash) {
+        if (contentHash == null) {
+            return;
+        }
+        documentContentRepository.release(contentHash);
+        eventPublisher.publishEvent(new DocumentContentReleasedEvent(contentHash));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onContentReleased(DocumentContentReleasedEvent event) {
+        purge(event.contentHash());
+    }
+
+    /**
+     * 이전 실행에서 남은 임시 파일과 참조가 없는 내용 정리
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void cleanUp() {
+        Path tempDirectory = contentPath.resolve(TEMP_DIRECTORY);
+        if (Files.isDirectory(tempDirectory)) {
+            try (Stream<Path> files = Files.list(tempDirectory)) {
+                files.forEach(DocumentContentStore::deleteQuietly);
+            } catch (IOException e) {
+                log.warn("문서 임시 디렉토리 정리 실패: {}", tempDirectory, e);
+            }
+        }
+        documentContentRepository.findUnusedHashes().forEach(this::purge);
+    }
+
+    /**
+     * 참조가 없으면 행과 파일을 지웁니다. 파일은 행 잠금을 잡은 채 지우므로, 같은 내용을 저장하는 트랜잭션은
+     * 이 트랜잭션이 끝난 뒤 파일이 없음을 보고 다시 씁니다.
+     */
+    private void purge(String contentHash) {
+        purgeTransaction.executeWithoutResult(status -> {
+            if (documentContentRepository.deleteIfUnused(contentHash) == 1) {
+                deleteQuietly(resolve(contentHash));
+                log.debug("참조가 없는 문서 내용 삭제: {}", contentHash);
+            }
+        });
+    }
+
+    /**
+     * 롤백된 저장이 옮긴 파일을 지웁니다. 참조를 잡았다 놓아 행 잠금을 얻은 뒤 참조가 없을 때만 지우므로,
+     * 그 사이 같은 내용을 저장한 트랜잭션이 있으면 파일을 남깁니다.
+     */
+    private void purgeRolledBack(StagedContent staged, Path target) {
+        try {
+            purgeTransaction.executeWithoutResult(status -> {
+                documentContentRepository.acquire(staged.hash(), target.toString(), staged.size());
+                documentContentRepository.release(staged.hash());
+                if (documentContentRepository.deleteIfUnused(staged.hash()) == 1) {
+                    deleteQuietly(target);
+                    log.debug("롤백된 업로드의 문서 내용 삭제: {}", staged.hash());
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("롤백된 업로드의 문서 내용 정리 실패: {}", staged.hash(), e);
+        }
+    }
+
+    private Path resolve(String hash) {
+        return contentPath.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " 를 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("파일 삭제 실패: {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.skala.decase.domain.document.service;
+
+import com.skala.decase.domain.document.exception.DocumentException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.DisconnectedClientHelper;
+
+/**
+ * 문서 파일 전송
+ * <p>
+ * Range(단일/다중)와 ETag, Last-Modified 조건부 요청을 처리합니다.
+ * <p>
+ * 복사 없는 전송은 Tomcat sendfile 을 쓸 수 있을 때만 됩니다. 컨테이너가 요청에 sendfile 지원 속성을 붙이면
+ * (NIO/NIO2 커넥터, useSendfile 사용, 응답을 감싸는 압축 필터 없음) 단일 구간은 응답이 끝난 뒤 Tomcat 이 파일에서 소켓으로 바로 보냅니다.
+ * 그 밖의 경우와 다중 구간은 {@link FileChannel#transferTo} 로 보내지만 대상이 서블릿 출력 스트림이라
+ * JDK 가 버퍼로 복사하므로 복사 없는 전송이 아닙니다.
+ */
+@Slf4j
+@Component
+public class DocumentFileSender {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * 파일의 [start, end] 구간
+     */
+    private record Region(long start, long end) {
+
+        long length() {
+            return end - start + 1;
+        }
+
+        String contentRange(long size) {
+            return "bytes " + start + "-" + end + "/" + size;
+        }
+    }
+
+    /**
+     * 파일을 응답으로 보냅니다.
+     *
+     * @param contentHash 내용 해시. 있으면 ETag 로 쓰고, 없으면 크기와 수정 시각으로 만듭니다.
+     * @param fileName    Content-Disposition 과 Content-Type 에 쓸 원래 파일명
+     * @param inline      true 면 브라우저에서 바로 열고 false 면 내려받습니다.
+     */
+    public void send(Path file, String contentHash, String fileName, boolean inline,
+                     HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!Files.isReadable(file)) {
+            throw new DocumentException("파일이 존재하지 않습니다.", HttpStatus.NOT_FOUND);
+        }
+        long size = Files.size(file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        String etag = "\"" + (contentHash != null
+                ? contentHash
+                : Long.toHexString(size) + "-" + Long.toHexString(lastModified)) + "\"";
+
+        // If-Match, If-Unmodified-Since 는 412, If-None-Match, If-Modified-Since 는 304 로 끝납니다.
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        String contentType = determineContentType(fileName);
+        String encodedFilename = URLEncoder.encode(fileName, StandardCharsets.UTF_8).replaceAll("\\+", "%20");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                (inline ? "inline" : "attachment") + "; filename*=UTF-8''" + encodedFilename);
+
+        List<Region> regions = requestedRegions(request, etag, lastModified, size);
+        if (regions == null) {
+            response.setContentType(contentType);
+            sendRegion(file, new Region(0, size - 1), size, request, response);
+        } else if (regions.isEmpty()) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+        } else if (regions.size() == 1) {
+            Region region = regions.get(0);
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setContentType(contentType);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, region.contentRange(size));
+            sendRegion(file, region, size, request, response);
+        } else {
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            sendRegions(file, regions, size, contentType, request, response);
+        }
+    }
+
+    /**
+     * 요청한 구간. Range 가 없거나 적용하지 않으면 null, 만족하는 구간이 없으면 빈 목록입니다.
+     */
+    private List<Region> requestedRegions(HttpServletRequest request, String etag, long lastModified, long size) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || !isIfRangeSatisfied(request, etag, lastModified)) {
+            return null;
+        }
+
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            // 형식이 잘못된 Range 는 무시하고 전체를 보냅니다.
+            return null;
+        }
+        if (ranges.isEmpty()) {
+            return null;
+        }
+
+        List<Region> regions = new ArrayList<>();
+        long total = 0;
+        for (HttpRange range : ranges) {
+            // 파일 밖의 구간은 건너뜁니다. HttpRange 는 시작 위치가 파일 크기를 넘어도 예외를 던지지 않습니다.
+            long start;
+            long end;
+            try {
+                start = range.getRangeStart(size);
+                end = range.getRangeEnd(size);
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            if (start >= size || start > end) {
+                continue;
+            }
+            Region region = new Region(start, end);
+            regions.add(region);
+            total += region.length();
+        }
+        // 겹치는 구간으로 파일보다 많이 보내게 하는 요청은 전체 전송으로 바꿉니다.
+        if (regions.size() > 1 && total > size) {
+            return null;
+        }
+        return regions;
+    }
+
+    /**
+     * If-Range 가 없거나 현재 파일과 일치하는지. ETag 는 강한 비교만 합니다.
+     */
+    private boolean isIfRangeSatisfied(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private void sendRegion(Path file, Region region, long size, HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        long length = size == 0 ? 0 : region.length();
+        response.setContentLengthLong(length);
+        if (isHead(request) || length == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, region.start());
+            request.setAttribute(SENDFILE_END, region.end() + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            transfer(channel, region, out);
+        } catch (IOException e) {
+            logAborted(file, e);
+        }
+    }
+
+    /**
+     * 다중 구간을 multipart/byteranges 로 보냅니다.
+     */
+    private void sendRegions(Path file, List<Region> regions, long size, String contentType,
+                             HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        List<byte[]> partHeaders = new ArrayList<>();
+        byte[] closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+
+        long length = closing.length;
+        for (Region region : regions) {
+            byte[] partHeader = ("\r\n--" + boundary + "\r\n"
+                    + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                    + HttpHeaders.CONTENT_RANGE + ": " + region.contentRange(size) + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(partHeader);
+            length += partHeader.length + region.length();
+        }
+
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(length);
+        if (isHead(request)) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            OutputStream stream = response.getOutputStream();
+            WritableByteChannel out = Channels.newChannel(stream);
+            for (int i = 0; i < regions.size(); i++) {
+                stream.write(partHeaders.get(i));
+                transfer(channel, regions.get(i), out);
+            }
+            stream.write(closing);
+        } catch (IOException e) {
+            logAborted(file, e);
+        }
+    }
+
+    private static void transfer(FileChannel channel, Region region, WritableByteChannel out) throws IOException {
+        long position = region.start();
+        long remaining = region.length();
+        while (remaining > 0) {
+            long transferred = channel.transferTo(position, remaining, out);
+            if (transferred <= 0) {
+                throw new IOException("파일 전송이 진행되지 않습니다.");
+            }
+            position += transferred;
+            remaining -= transferred;
+        }
+    }
+
+    private static boolean isHead(HttpServletRequest request) {
+        return "HEAD".equals(request.getMethod());
+    }
+
+    /**
+     * 응답이 시작된 뒤의 전송 오류는 기록만 합니다. 탐색할 때마다 클라이언트가 이전 요청을 끊으므로 연결 끊김은 debug,
+     * 파일 읽기 실패 같은 나머지 오류는 warn 으로 남깁니다.
+     */
+    private static void logAborted(Path file, IOException e) {
+        if (DisconnectedClientHelper.isClientDisconnectedException(e)) {
+            log.debug("파일 전송 중단: {} - {}", file, e.getMessage());
+        } else {
+            log.warn("파일 전송 실패: {}", file, e);
+        }
+    }
+
+    static String determineContentType(String filename) {
+        if (filename == null) {
+            return "application/octet-stream";
+        }
+
+        String extension = filename.toLowerCase();
+
+        if (extension.endsWith(".pdf")) {
+            return "application/pdf";
+        } else if (extension.endsWith(".doc")) {
+            return "application/msword";
+        } else if (extension.endsWith(".docx")) {
+            return "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+        } else if (extension.endsWith(".xls")) {
+            return "application/vnd.ms-excel";
+        } else if (extension.endsWith(".xlsx")) {
+            return "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+        } else if (extension.endsWith(".csv")) {
+            return "text/csv; charset=UTF-8";
+        } else if (extension.endsWith(".json")) {
+            return "application/json; charset=UTF-8";
+        } else if (extension.endsWith(".wav")) {
+            return "audio/wav";
+        } else if (extension.endsWith(".mp3")) {
+            return "audio/mpeg";
+        } else {
+            return "application/octet-stream";
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.skala.decase.domain.document.service;
+
+import com.skala.decase.domain.document.repository.DocumentIdSequenceRepository;
+import com.skala.decase.domain.document.repository.DocumentRepository;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 접두사별 문서 ID 번호 발급 (hi/lo)
+ * <p>
+ * tm_document_id_sequences 에서 {@value #BLOCK_SIZE} 개 번호 블록을 잠금으로 받아 메모리에 두고 블록의 원자적 카운터로 나눠줍니다.
+ * 블록을 다 쓸 때만 DB 에 접근하며, 서버가 재시작하면 쓰지 않은 번호는 건너뜁니다.
+ */
+@Slf4j
+@Service
+public class DocumentIdAllocator {
+
+    static final int BLOCK_SIZE = 20;
+
+    private final DocumentIdSequenceRepository documentIdSequenceRepository;
+    private final DocumentRepository documentRepository;
+    private final TransactionTemplate blockTransaction;
+
+    private final Map<String, AtomicReference<Block>> blocks = new ConcurrentHashMap<>();
+
+    public DocumentIdAllocator(DocumentIdSequenceRepository documentIdSequenceRepository,
+                               DocumentRepository documentRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.documentIdSequenceRepository = documentIdSequenceRepository;
+        this.documentRepository = documentRepository;
+        // 블록 잠금은 업로드 트랜잭션과 무관하게 바로 풀어야 합니다.
+        this.blockTransaction = new TransactionTemplate(transactionManager);
+        this.blockTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * prefix 의 다음 번호
+     */
+    public long next(String prefix) {
+        AtomicReference<Block> current = blocks.computeIfAbsent(prefix, key -> new AtomicReference<>(Block.EMPTY));
+        while (true) {
+            Block block = current.get();
+            long value = block.next.getAndIncrement();
+            if (value < block.end) {
+                return value;
+            }
+            synchronized (current) {
+                // 기다리는 동안 다른 스레드가 새 블록으로 바꿨으면 그 블록에서 다시 시도합니다.
+                if (current.get() == block) {
+                    long start = allocateBlock(prefix);
+                    current.set(new Block(start, start + BLOCK_SIZE));
+                }
+            }
+        }
+    }
+
+    private long allocateBlock(String prefix) {
+        Long start = blockTransaction.execute(status -> {
+            if (!documentIdSequenceRepository.existsById(prefix)) {
+                // 기존 문서 ID 다음 번호부터 시작
+                documentIdSequenceRepository.insertIfAbsent(prefix,
+                        documentRepository.findMaxDocNumberByPrefix(prefix).orElse(0L) + 1);
+            }
+            long nextValue = documentIdSequenceRepository.lockNextValue(prefix);
+            documentIdSequenceRepository.updateNextValue(prefix, nextValue + BLOCK_SIZE);
+            return nextValue;
+        });
+        log.debug("문서 ID 블록 할당 - 접두사: {}, 시작 번호: {}", prefix, start);
+        return start;
+    }
+
+    /**
+     * 받아 둔 번호 블록 [next, end). 블록마다 카운터를 따로 두고 다 쓰면 새 블록으로 통째로 바꾸므로,
+     * 이전 블록을 읽은 스레드가 받은 번호는 end 를 넘어 버려질 뿐 새 블록의 번호와 겹치지 않습니다.
+     */
+    private static final class Block {
+        private static final Block EMPTY = new Block(0, 0);
+
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
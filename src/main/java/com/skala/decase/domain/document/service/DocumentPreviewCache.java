@@ -0,0 +1,287 @@
+package com.skala.decase.domain.document.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skala.decase.domain.document.controller.dto.DocumentPreviewDto;
+import com.skala.decase.domain.document.domain.Document;
+import com.skala.decase.domain.document.event.DocumentDeletedEvent;
+import com.skala.decase.domain.document.exception.DocumentException;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 문서 미리보기 렌더링 결과 디스크 캐시
+ * <p>
+ * 문서 파일은 바뀌지 않으므로 docx HTML, 시트 데이터를 {docId}-{내용 키}.v{버전}.json 로 한 번만 만들어 둡니다.
+ * 내용 키는 내용 해시이며 해시가 없는 이전 문서는 파일 크기와 수정 시각을 씁니다.
+ * 같은 문서를 동시에 처음 열면 한 요청만 렌더링하고 나머지는 그 결과를 기다립니다.
+ * <p>
+ * 디렉토리 크기는 file.upload.preview-max-size 로 제한하며, 넘으면 오래 읽지 않은 캐시부터 지웁니다.
+ * 시작할 때 이전 렌더링 버전의 캐시와 쓰다 만 임시 파일을 지우고, 삭제된 문서의 캐시는 삭제가 커밋된 뒤 지웁니다.
+ */
+@Slf4j
+@Component
+public class DocumentPreviewCache {
+
+    // 렌더링 결과 형식이 바뀌면 올려서 이전 캐시를 쓰지 않게 합니다.
+    private static final int RENDER_VERSION = 1;
+    private static final String CACHE_SUFFIX = ".v" + RENDER_VERSION + ".json";
+    // 제한을 넘으면 이 비율까지 줄여 쓸 때마다 정리하지 않게 합니다.
+    private static final double TRIM_RATIO = 0.9;
+
+    private final ObjectMapper objectMapper;
+    private final Path previewPath;
+    private final long maxBytes;
+
+    private final Map<String, CompletableFuture<RenderedPreview>> rendering = new ConcurrentHashMap<>();
+    // 캐시 파일 크기 합. 정리할 때 다시 계산하고 그 사이에는 쓰고 지운 만큼 맞춥니다.
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    public DocumentPreviewCache(ObjectMapper objectMapper,
+                                @Value("${file.upload.preview-path:./storage/previews}") String previewPath,
+                                @Value("${file.upload.preview-max-size:1GB}") DataSize maxSize) {
+        this.objectMapper = objectMapper;
+        this.previewPath = Paths.get(previewPath);
+        this.maxBytes = maxSize.toBytes();
+    }
+
+    /**
+     * 렌더링한 미리보기 본문. 문서 설명처럼 바뀔 수 있는 값은 담지 않습니다.
+     */
+    public record RenderedPreview(String htmlContent, List<DocumentPreviewDto.SheetData> sheets) {
+    }
+
+    @FunctionalInterface
+    public interface Renderer {
+        RenderedPreview render() throws IOException;
+    }
+
+    /**
+     * 캐시된 미리보기를 읽고, 없으면 렌더링해서 저장합니다.
+     */
+    public RenderedPreview get(Document doc, Path file, Renderer renderer) throws IOException {
+        Path cached = previewPath.resolve(cacheFileName(doc, file));
+        RenderedPreview preview = read(cached);
+        if (preview != null) {
+            return preview;
+        }
+
+        String key = cached.getFileName().toString();
+        CompletableFuture<RenderedPreview> mine = new CompletableFuture<>();
+        CompletableFuture<RenderedPreview> running = rendering.putIfAbsent(key, mine);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            // 기다리는 동안 다른 요청이 만들어 두었을 수 있습니다.
+            preview = read(cached);
+            if (preview == null) {
+                preview = renderer.render();
+                write(cached, preview);
+            }
+            mine.complete(preview);
+            return preview;
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            rendering.remove(key, mine);
+        }
+    }
+
+    /**
+     * 삭제된 문서의 미리보기를 지웁니다. 삭제가 롤백되면 문서가 남으므로 커밋된 뒤에만 지웁니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDocumentDeleted(DocumentDeletedEvent event) {
+        evict(event.docId());
+    }
+
+    void evict(String docId) {
+        if (!Files.isDirectory(previewPath)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(previewPath, docId + "-*.json")) {
+            for (Path file : files) {
+                try {
+                    long size = Files.size(file);
+                    if (Files.deleteIfExists(file)) {
+                        totalBytes.addAndGet(-size);
+                    }
+                } catch (NoSuchFileException e) {
+                    // 정리 중에 이미 지워짐
+                }
+            }
+        } catch (IOException e) {
+            log.warn("문서 미리보기 캐시 삭제 실패: {}", docId, e);
+        }
+    }
+
+    /**
+     * 이전 렌더링 버전의 캐시와 이전 실행에서 남은 임시 파일을 지우고 크기 제한을 맞춥니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void cleanUp() {
+        if (!Files.isDirectory(previewPath)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(previewPath)) {
+            for (Path file : files) {
+                if (!file.getFileName().toString().endsWith(CACHE_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("문서 미리보기 캐시 정리 실패: {}", previewPath, e);
+        }
+        trim();
+    }
+
+    /**
+     * 캐시 크기 합을 다시 계산하고, 제한을 넘으면 수정 시각이 오래된 캐시부터 지웁니다.
+     * 읽을 때 수정 시각을 갱신하므로 오래 읽지 않은 캐시부터 지워집니다.
+     */
+    synchronized void trim() {
+        List<CachedFile> cachedFiles = new ArrayList<>();
+        long total = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(previewPath, "*" + CACHE_SUFFIX)) {
+            for (Path file : files) {
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    cachedFiles.add(new CachedFile(file, attributes.size(), attributes.lastModifiedTime().toMillis()));
+                    total += attributes.size();
+                } catch (NoSuchFileException e) {
+                    // 목록을 읽는 도중 지워짐
+                }
+            }
+        } catch (NoSuchFileException e) {
+            // 디렉토리가 아직 없음
+        } catch (IOException e) {
+            log.warn("문서 미리보기 캐시 크기 확인 실패: {}", previewPath, e);
+            return;
+        }
+
+        if (total > maxBytes) {
+            long target = (long) (maxBytes * TRIM_RATIO);
+            cachedFiles.sort(Comparator.comparingLong(CachedFile::lastModified));
+            int removed = 0;
+            for (CachedFile cachedFile : cachedFiles) {
+                if (total <= target) {
+                    break;
+                }
+                try {
+                    if (Files.deleteIfExists(cachedFile.path())) {
+                        total -= cachedFile.size();
+                        removed++;
+                    }
+                } catch (IOException e) {
+                    log.warn("문서 미리보기 캐시 삭제 실패: {}", cachedFile.path(), e);
+                }
+            }
+            log.debug("문서 미리보기 캐시 정리 - 삭제: {}건, 남은 크기: {}", removed, total);
+        }
+        totalBytes.set(total);
+    }
+
+    private record CachedFile(Path path, long size, long lastModified) {
+    }
+
+    private String cacheFileName(Document doc, Path file) throws IOException {
+        String contentKey = doc.getContentHash() != null
+                ? doc.getContentHash()
+                : Long.toHexString(Files.size(file)) + "-" + Long.toHexString(Files.getLastModifiedTime(file).toMillis());
+        return doc.getDocId() + "-" + contentKey + CACHE_SUFFIX;
+    }
+
+    private RenderedPreview read(Path cached) {
+        if (!Files.exists(cached)) {
+            return null;
+        }
+        try {
+            RenderedPreview preview = objectMapper.readValue(cached.toFile(), RenderedPreview.class);
+            touch(cached);
+            return preview;
+        } catch (IOException e) {
+            // 읽을 수 없는 캐시는 지우고 다시 렌더링합니다.
+            log.warn("문서 미리보기 캐시를 읽을 수 없습니다: {}", cached, e);
+            try {
+                Files.deleteIfExists(cached);
+            } catch (IOException ignored) {
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 옮겨서 읽는 쪽이 쓰다 만 파일을 보지 않게 합니다. 저장에 실패해도 미리보기는 돌려줍니다.
+     */
+    private void write(Path cached, RenderedPreview preview) {
+        Path temp = null;
+        try {
+            Files.createDirectories(previewPath);
+            temp = Files.createTempFile(previewPath, "preview-", ".part");
+            objectMapper.writeValue(temp.toFile(), preview);
+            Files.move(temp, cached, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            if (totalBytes.addAndGet(Files.size(cached)) > maxBytes) {
+                trim();
+            }
+        } catch (IOException e) {
+            log.warn("문서 미리보기 캐시 저장 실패: {}", cached, e);
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    /**
+     * 크기 제한을 맞출 때 최근에 읽은 캐시가 남도록 수정 시각을 갱신합니다.
+     */
+    private static void touch(Path cached) {
+        try {
+            Files.setLastModifiedTime(cached, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // 정리 순서에만 영향이 있음
+        }
+    }
+
+    private static RenderedPreview await(CompletableFuture<RenderedPreview> running) throws IOException {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new DocumentException("미리보기를 만들 수 없습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -4,9 +4,11 @@ import com.skala.decase.domain.document.controller.dto.DocumentPreviewDto;
 import com.skala.decase.domain.document.domain.Document;
 import com.skala.decase.domain.document.exception.DocumentException;
 import com.skala.decase.domain.document.repository.DocumentRepository;
+import com.skala.decase.domain.document.service.DocumentPreviewCache.RenderedPreview;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.FileInputStream;
 import java.io.IOException;
-import java.net.MalformedURLException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -26,10 +28,9 @@ import org.apache.poi.xwpf.usermodel.XWPFParagraph;
 import org.apache.poi.xwpf.usermodel.XWPFTable;
 import org.apache.poi.xwpf.usermodel.XWPFTableCell;
 import org.apache.poi.xwpf.usermodel.XWPFTableRow;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -38,24 +39,20 @@ import org.springframework.transaction.annotation.Transactional;
 public class DocumentPreviewService {
 
     private final DocumentRepository documentRepository;
+    private final DocumentFileSender documentFileSender;
+    private final DocumentPreviewCache documentPreviewCache;
 
     /**
-     * 파일 프리뷰 전송
+     * 파일 프리뷰 전송. 큰 파일을 보내는 동안 DB 연결을 잡지 않도록 트랜잭션 밖에서 보냅니다.
      */
-    public Resource previewDocument(String docId) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void previewDocument(String docId, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
         Document doc = documentRepository.findById(docId)
                 .orElseThrow(() -> new DocumentException("문서를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
 
-        Path filePath = Paths.get(doc.getPath());
-        if (!Files.exists(filePath)) {
-            throw new DocumentException("파일이 존재하지 않습니다.", HttpStatus.NOT_FOUND);
-        }
-
-        try {
-            return new UrlResource(filePath.toUri());
-        } catch (MalformedURLException e) {
-            throw new DocumentException("파일 경로가 잘못되었습니다: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
-        }
+        documentFileSender.send(Paths.get(doc.getPath()), doc.getContentHash(), doc.getName(), true,
+                request, response);
     }
 
     public DocumentPreviewDto getDocumentPreview(String docId) {
@@ -86,16 +83,18 @@ public class DocumentPreviewService {
                             .build();
 
                 case "docx":
-                    String htmlContent = convertDocxToHtml(filePath);
+                    RenderedPreview html = documentPreviewCache.get(doc, filePath,
+                            () -> new RenderedPreview(convertDocxToHtml(filePath), null));
                     return builder
-                            .htmlContent(htmlContent)
+                            .htmlContent(html.htmlContent())
                             .build();
                 case "csv":
                 case "xlsx":
                 case "xls":
-                    List<DocumentPreviewDto.SheetData> sheets = convertExcelToData(filePath, fileExtension);
+                    RenderedPreview sheets = documentPreviewCache.get(doc, filePath,
+                            () -> new RenderedPreview(null, convertExcelToData(filePath, fileExtension)));
                     return builder
-                            .sheets(sheets)
+                            .sheets(sheets.sheets())
                             .build();
 
                 default:
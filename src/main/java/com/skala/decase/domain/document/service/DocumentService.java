@@ -3,38 +3,35 @@ package com.skala.decase.domain.document.service;
 import com.skala.decase.domain.document.controller.dto.DocumentDetailResponse;
 import com.skala.decase.domain.document.controller.dto.DocumentResponse;
 import com.skala.decase.domain.document.domain.Document;
+import com.skala.decase.domain.document.event.DocumentDeletedEvent;
 import com.skala.decase.domain.document.exception.DocumentException;
 import com.skala.decase.domain.document.mapper.DocumentMapper;
 import com.skala.decase.domain.document.repository.DocumentRepository;
+import com.skala.decase.domain.document.service.DocumentContentStore.StoredContent;
 import com.skala.decase.domain.member.domain.Member;
-import com.skala.decase.domain.member.exception.MemberException;
-import com.skala.decase.domain.member.repository.MemberRepository;
 import com.skala.decase.domain.project.domain.Project;
 import com.skala.decase.domain.project.exception.ProjectException;
 import com.skala.decase.domain.project.repository.ProjectRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
-import org.springframework.http.HttpHeaders;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -45,12 +42,12 @@ public class DocumentService {
 
     private final DocumentRepository documentRepository;
     private final ProjectRepository projectRepository;
-    private final MemberRepository memberRepository;
     private final DocumentMapper documentMapper;
+    private final DocumentContentStore documentContentStore;
+    private final DocumentIdAllocator documentIdAllocator;
+    private final DocumentFileSender documentFileSender;
+    private final ApplicationEventPublisher eventPublisher;
 
-    // 로컬 파일 업로드 경로
-    @Value("${file.upload.upload-path}")
-    private String BASE_UPLOAD_PATH;
     @Value("${file.upload.asis-path}")
     private String BASE_ASIS_PATH;
 
@@ -76,33 +73,15 @@ public class DocumentService {
     }
 
     /**
-     * 파일 저장 로직
+     * 파일 저장 로직. 파일은 내용 저장소에 두며 같은 내용의 업로드는 파일 하나를 함께 씁니다.
      *
      * @param file
      * @return
      */
     @Transactional
-    public Document uploadDocument(String uploadPath, MultipartFile file, int docTypeIdx, Project project,
+    public Document uploadDocument(MultipartFile file, int docTypeIdx, Project project,
                                    Member member, boolean isMemberUpload) {
         String fileName = StringUtils.cleanPath(file.getOriginalFilename());
-        Path path = Paths.get(uploadPath);
-
-        // 디렉토리 없으면 생성
-        if (!Files.exists(path)) {
-            try {
-                Files.createDirectories(path);
-            } catch (IOException e) {
-                throw new DocumentException("파일 uploadPath를 만들 수 없습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
-            }
-        }
-
-        // 파일 저장
-        Path filePath = path.resolve(fileName + "_" + System.currentTimeMillis());
-        try {
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-        } catch (IOException e) {
-            throw new DocumentException("파일을 저장할 수 없습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
-        }
 
         // docTypeIdx에 해당하는 prefix 확인
         String prefix = TYPE_PREFIX_MAP.get(docTypeIdx);
@@ -111,72 +90,38 @@ public class DocumentService {
                     HttpStatus.BAD_REQUEST);
         }
 
+        // 파일 저장
+        StoredContent content = documentContentStore.store(file);
+
         // Document 엔티티 생성
         Document doc = new Document(
                 generateDocId(prefix),
                 fileName,
-                filePath.toString(),
+                content.path().toString(),
                 isMemberUpload,
                 project,
                 member
         );
+        doc.setContentHash(content.hash());
 
         return documentRepository.save(doc);
     }
 
-
-    // Doc ID 찾기
-    public String generateDocId(String typePrefix) {
-        Optional<String> latestIdOpt = documentRepository.findLatestDocIdByPrefix(typePrefix);
-        int nextNumber = 1;
-
-        if (latestIdOpt.isPresent()) {
-            String latestId = latestIdOpt.get();  // e.g. "RFP-000123"
-            String[] parts = latestId.split("-");
-            try {
-                nextNumber = Integer.parseInt(parts[1]) + 1;
-            } catch (NumberFormatException e) {
-                throw new IllegalStateException("Invalid docId format: " + latestId);
-            }
-        }
-
-        return String.format("%s-%06d", typePrefix, nextNumber);
-    }
-
-    // 사용자 업로드
+    /**
+     * 문서 삭제. 다른 문서가 같은 내용을 쓰지 않으면 커밋 뒤 파일도 지웁니다.
+     */
     @Transactional
-    public List<DocumentResponse> uploadDocuments(Long projectId, Long memberId, List<MultipartFile> files,
-                                                  List<Integer> types) {
-        if (files.size() != types.size()) {
-            throw new DocumentException("파일 수와 타입 수가 일치하지 않습니다.", HttpStatus.BAD_REQUEST);
-        }
-
-        List<DocumentResponse> responses = new ArrayList<>();
-
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new DocumentException("유효하지 않은 프로젝트 ID: " + projectId, HttpStatus.NOT_FOUND));
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new MemberException("유효하지 않은 사용자 ID: " + memberId, HttpStatus.NOT_FOUND));
-
-        for (int i = 0; i < files.size(); i++) {
-            MultipartFile file = files.get(i);
-            int iType = types.get(i);
-
-            if (iType < 1 || iType > 8) {
-                throw new DocumentException("유효하지 않은 문서 타입: " + iType, HttpStatus.BAD_REQUEST);
-            }
-
-            // 파일 저장
-            Document doc = uploadDocument(BASE_UPLOAD_PATH, file, iType, project, member, true);
-
-            responses.add(documentMapper.toResponse(doc));
-        }
+    public void deleteDocument(Document document) {
+        documentRepository.delete(document);
+        documentContentStore.release(document.getContentHash());
+        // 미리보기 캐시는 커밋 뒤에 지웁니다.
+        eventPublisher.publishEvent(new DocumentDeletedEvent(document.getDocId()));
+    }
 
-        // 프로젝트 리비전 증가
-        project.setRevisionCount(project.getRevisionCount() + 1);
-        projectRepository.save(project);
 
-        return responses;
+    // Doc ID 발급
+    public String generateDocId(String typePrefix) {
+        return String.format("%s-%06d", typePrefix, documentIdAllocator.next(typePrefix));
     }
 
     /**
@@ -184,14 +129,54 @@ public class DocumentService {
      **/
     @Transactional
     public Document uploadRFP(Project project, Member member, MultipartFile RFPfile) {
-        return uploadDocument(BASE_UPLOAD_PATH, RFPfile, 1, project, member, true);
+        return uploadDocument(RFPfile, 1, project, member, true);
     }
 
     /**
      * AS-IS 단건 파일 업로드 -> 최초 요구사항 정의서 생성시 사용
+     * <p>
+     * AS-IS 보고서는 HTML 보기 파일과 함께 asis-path 에 두어야 하므로 내용 저장소를 쓰지 않고
+     * asis-path 에 "파일명_시각" 으로 저장합니다. 트랜잭션이 롤백되면 저장한 파일을 지웁니다.
      **/
+    @Transactional
     public Document uploadASIS(Project project, Member member, MultipartFile ASISfile) {
-        return uploadDocument(BASE_ASIS_PATH, ASISfile, 8, project, member, false);
+        String fileName = StringUtils.cleanPath(ASISfile.getOriginalFilename());
+        Path filePath = Paths.get(BASE_ASIS_PATH).resolve(fileName + "_" + System.currentTimeMillis());
+        try {
+            Files.createDirectories(filePath.getParent());
+            Files.copy(ASISfile.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new DocumentException("파일을 저장할 수 없습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+        deleteOnRollback(filePath);
+
+        Document doc = new Document(
+                generateDocId(TYPE_PREFIX_MAP.get(8)),
+                fileName,
+                filePath.toString(),
+                false,
+                project,
+                member
+        );
+        return documentRepository.save(doc);
+    }
+
+    private static void deleteOnRollback(Path file) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    try {
+                        Files.deleteIfExists(file);
+                    } catch (IOException e) {
+                        log.warn("롤백된 AS-IS 파일 삭제 실패: {}", file, e);
+                    }
+                }
+            }
+        });
     }
 
     // 사용자 업로드 파일 삭제
@@ -203,62 +188,15 @@ public class DocumentService {
     /**
      * 사용자 업로드 파일 다운로드
      */
-    public ResponseEntity<Resource> downloadDocument(String docId) throws IOException {
+    public void downloadDocument(String docId, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
         Document doc = documentRepository.findById(docId)
                 .orElseThrow(() -> new DocumentException("문서를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
 
-        Path path = Paths.get(doc.getPath());
-
-        if (!Files.exists(path)) {
-            throw new DocumentException("파일이 존재하지 않습니다.", HttpStatus.NOT_FOUND);
-        }
-
-        Resource resource = new UrlResource(path.toUri());
-        if (!resource.exists() || !resource.isReadable()) {
-            throw new DocumentException("파일을 읽을 수 없습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
-        }
-
-        // 파일명 인코딩 (한글 파일명 지원)
-        String encodedFilename = URLEncoder.encode(doc.getName(), StandardCharsets.UTF_8)
-                .replaceAll("\\+", "%20");
-
-        String contentType = determineContentType(doc.getName());
-
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename*=UTF-8''" + encodedFilename)
-                .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(resource.contentLength()))
-                .body(resource);
-    }
-
-    private String determineContentType(String filename) {
-        if (filename == null) {
-            return "application/octet-stream";
-        }
-
-        String extension = filename.toLowerCase();
-
-        if (extension.endsWith(".pdf")) {
-            return "application/pdf";
-        } else if (extension.endsWith(".doc")) {
-            return "application/msword";
-        } else if (extension.endsWith(".docx")) {
-            return "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
-        } else if (extension.endsWith(".xls")) {
-            return "application/vnd.ms-excel";
-        } else if (extension.endsWith(".xlsx")) {
-            return "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
-        } else if (extension.endsWith(".csv")) {
-            return "text/csv; charset=UTF-8";
-        } else if (extension.endsWith(".json")) {
-            return "application/json; charset=UTF-8";
-        } else {
-            return "application/octet-stream";
-        }
+        documentFileSender.send(Paths.get(doc.getPath()), doc.getContentHash(), doc.getName(), false,
+                request, response);
     }
 
-    // 파일 상세 정보 조회
     public ResponseEntity<DocumentDetailResponse> getDocumentDetails(String docId) {
         Document doc = documentRepository.findById(docId)
                 .orElseThrow(() -> new DocumentException("문서를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
@@ -0,0 +1,183 @@
+package com.skala.decase.domain.document.service;
+
+import static com.skala.decase.domain.document.service.DocumentService.TYPE_PREFIX_MAP;
+
+import com.skala.decase.domain.document.controller.dto.DocumentUploadResponse;
+import com.skala.decase.domain.document.domain.Document;
+import com.skala.decase.domain.document.exception.DocumentException;
+import com.skala.decase.domain.document.service.DocumentContentStore.StagedContent;
+import com.skala.decase.domain.document.service.DocumentContentStore.StoredContent;
+import com.skala.decase.domain.member.domain.Member;
+import com.skala.decase.domain.member.exception.MemberException;
+import com.skala.decase.domain.member.repository.MemberRepository;
+import com.skala.decase.domain.project.domain.Project;
+import com.skala.decase.domain.project.repository.ProjectRepository;
+import com.skala.decase.global.exception.CustomException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 사용자 여러 파일 업로드
+ * <p>
+ * 파일은 트랜잭션 밖에서 I/O 스레드 풀로 동시에 받고, 받은 파일의 Document 행은 한 트랜잭션에서 JDBC 배치로 넣습니다.
+ * 프로젝트 리비전은 한 번만 올리며, 받지 못한 파일은 건너뛰고 파일별 결과에 사유를 남깁니다.
+ */
+@Slf4j
+@Service
+public class DocumentUploadService {
+
+    private static final int INSERT_BATCH_SIZE = 50;
+
+    private final DocumentService documentService;
+    private final DocumentContentStore documentContentStore;
+    private final ProjectRepository projectRepository;
+    private final MemberRepository memberRepository;
+    private final EntityManager entityManager;
+    private final Executor documentIoExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    public DocumentUploadService(DocumentService documentService,
+                                 DocumentContentStore documentContentStore,
+                                 ProjectRepository projectRepository,
+                                 MemberRepository memberRepository,
+                                 EntityManager entityManager,
+                                 @Qualifier("documentIoExecutor") Executor documentIoExecutor,
+                                 PlatformTransactionManager transactionManager) {
+        this.documentService = documentService;
+        this.documentContentStore = documentContentStore;
+        this.projectRepository = projectRepository;
+        this.memberRepository = memberRepository;
+        this.entityManager = entityManager;
+        this.documentIoExecutor = documentIoExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 업로드 파일 하나의 진행 상태
+     */
+    private static final class Upload {
+        private final MultipartFile file;
+        private final String fileName;
+        private final String prefix;
+        private StagedContent staged;
+        private Document document;
+        private String error;
+
+        private Upload(MultipartFile file, int type) {
+            this.file = file;
+            this.fileName = StringUtils.cleanPath(file.getOriginalFilename());
+            this.prefix = TYPE_PREFIX_MAP.get(type);
+            if (prefix == null) {
+                this.error = "유효하지 않은 문서 타입: " + type;
+            }
+        }
+    }
+
+    public List<DocumentUploadResponse> uploadDocuments(Long projectId, Long memberId, List<MultipartFile> files,
+                                                        List<Integer> types) {
+        if (files.size() != types.size()) {
+            throw new DocumentException("파일 수와 타입 수가 일치하지 않습니다.", HttpStatus.BAD_REQUEST);
+        }
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new DocumentException("유효하지 않은 프로젝트 ID: " + projectId, HttpStatus.NOT_FOUND));
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new MemberException("유효하지 않은 사용자 ID: " + memberId, HttpStatus.NOT_FOUND));
+
+        List<Upload> uploads = new ArrayList<>();
+        for (int i = 0; i < files.size(); i++) {
+            uploads.add(new Upload(files.get(i), types.get(i)));
+        }
+
+        try {
+            stageAll(uploads);
+            List<Upload> staged = uploads.stream().filter(upload -> upload.staged != null).toList();
+            if (!staged.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> persist(project, member, staged));
+            }
+        } finally {
+            // 저장소로 옮기지 않은 임시 파일 정리
+            uploads.stream()
+                    .filter(upload -> upload.staged != null)
+                    .forEach(upload -> documentContentStore.discard(upload.staged));
+        }
+
+        return uploads.stream().map(this::toResponse).toList();
+    }
+
+    /**
+     * 파일을 I/O 스레드 풀에서 동시에 임시 파일로 받습니다. 실패한 파일은 사유를 남기고 건너뜁니다.
+     */
+    private void stageAll(List<Upload> uploads) {
+        List<CompletableFuture<Void>> futures = uploads.stream()
+                .filter(upload -> upload.error == null)
+                .map(upload -> CompletableFuture
+                        .runAsync(() -> upload.staged = documentContentStore.stage(upload.file), documentIoExecutor)
+                        .exceptionally(e -> {
+                            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                            upload.error = cause instanceof CustomException ? cause.getMessage() : "파일을 저장할 수 없습니다.";
+                            log.warn("업로드 파일 저장 실패: {}", upload.fileName, cause);
+                            return null;
+                        }))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    /**
+     * 받은 파일을 저장소로 옮기고 Document 행을 배치로 넣은 뒤 프로젝트 리비전을 한 번 올립니다.
+     */
+    private void persist(Project project, Member member, List<Upload> staged) {
+        // 저장소 참조 수는 네이티브 쿼리로 바꾸며 실행할 때마다 flush 되므로 Document 를 넣기 전에 모두 끝냅니다.
+        List<StoredContent> contents = staged.stream()
+                .map(upload -> documentContentStore.commit(upload.staged))
+                .toList();
+
+        // 문서 ID 는 미리 정하므로 merge 대신 persist 로 넣어야 행마다 SELECT 가 나가지 않습니다.
+        entityManager.unwrap(Session.class).setJdbcBatchSize(INSERT_BATCH_SIZE);
+        for (int i = 0; i < staged.size(); i++) {
+            Upload upload = staged.get(i);
+            Document doc = new Document(
+                    documentService.generateDocId(upload.prefix),
+                    upload.fileName,
+                    contents.get(i).path().toString(),
+                    true,
+                    project,
+                    member
+            );
+            doc.setContentHash(contents.get(i).hash());
+            entityManager.persist(doc);
+            upload.document = doc;
+        }
+        entityManager.flush();
+
+        // 프로젝트 리비전 증가. 동시에 올리는 다른 요청과 겹치지 않도록 행 잠금을 잡고 다시 읽습니다.
+        // 요청 동안 열린 영속성 컨텍스트에 이미 있으면 find 는 캐시된 값을 주므로 refresh 로 읽어야 합니다.
+        Project current = entityManager.find(Project.class, project.getProjectId());
+        entityManager.refresh(current, LockModeType.PESSIMISTIC_WRITE);
+        current.setRevisionCount(current.getRevisionCount() + 1);
+        projectRepository.save(current);
+    }
+
+    private DocumentUploadResponse toResponse(Upload upload) {
+        if (upload.document == null) {
+            return new DocumentUploadResponse(null, upload.fileName, "", false,
+                    upload.error != null ? upload.error : "파일을 저장할 수 없습니다.");
+        }
+        Document doc = upload.document;
+        return new DocumentUploadResponse(doc.getDocId(), doc.getName(),
+                doc.getDocDescription() != null ? doc.getDocDescription() : "", true, null);
+    }
+}
@@ -5,21 +5,21 @@ import com.skala.decase.domain.project.controller.dto.request.RequirementDescrip
 import com.skala.decase.domain.project.controller.dto.response.*;
 import com.skala.decase.domain.project.domain.ProjectApiDocument;
 import com.skala.decase.domain.project.service.ProjectService;
-import com.skala.decase.domain.requirement.service.ExelExportService;
+import com.skala.decase.domain.requirement.controller.ExportDownloads;
+import com.skala.decase.domain.requirement.domain.ExportType;
+import com.skala.decase.domain.requirement.service.ExportJobService;
 import com.skala.decase.global.model.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
-import java.io.IOException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Tag(name = "Project API", description = "프로젝트 관리를 위한 api 입니다.")
@@ -29,7 +29,8 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
-    private final ExelExportService exelExportService;
+    private final ExportJobService exportJobService;
+    private final ExportDownloads exportDownloads;
 
     /**
      * 프로젝트 생성
@@ -73,27 +74,26 @@ public class ProjectController {
                 .body(ApiResponse.success(responseDto));
     }
 
+    @GetMapping("/{projectId}/mapping-table")
+    @Operation(summary = "조견표 조회", description = "현재 요구사항별 출처 문서, 페이지, 관련 문장을 요구사항 ID 순으로 조회합니다.")
+    public ResponseEntity<ApiResponse<List<MappingTableResponseDto>>> getMappingTable(
+            @PathVariable Long projectId) {
+        List<MappingTableResponseDto> responses = projectService.createMappingTable(projectId);
+        return ResponseEntity.ok()
+                .body(ApiResponse.success(responses));
+    }
+
     // 조견표 다운로드 임시 api
     @GetMapping("/{projectId}/mapping-table/downloads")
     @Operation(summary = "(임시) 조견표 다운로드", description = "조견표 다운로드를 위한 임시 API입니다.")
-    public ResponseEntity<ByteArrayResource> downloadMappingTable(
-            @PathVariable Long projectId) throws IOException {
-
-        List<MappingTableResponseDto> responses = projectService.createMappingTable(projectId);
-        byte[] excelFile = exelExportService.createMappingTableToExcel(responses);
+    public DeferredResult<ResponseEntity<Resource>> downloadMappingTable(
+            @PathVariable Long projectId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
         String fileName = String.format("%s.xlsx", "DECASE-Mapping-Table");
-        ByteArrayResource resource = new ByteArrayResource(excelFile);
 
-        String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8)
-                .replaceAll("\\+", "%20");
-
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename*=UTF-8''" + encodedFileName)
-                .header(HttpHeaders.CONTENT_TYPE,
-                        "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
-                .body(resource);
+        return exportDownloads.respond(exportJobService.exportLatest(ExportType.MAPPING_TABLE, projectId),
+                fileName, ifNoneMatch);
     }
 
     @GetMapping("/{projectId}/authority/{memberId}")
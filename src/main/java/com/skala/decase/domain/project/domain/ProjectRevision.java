@@ -0,0 +1,54 @@
+package com.skala.decase.domain.project.domain;
+
+import com.skala.decase.domain.member.domain.Member;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 리비전 이력
+ * <p>
+ * 요구사항 리비전(요구사항 정의서 생성, 업데이트, 엑셀 가져오기)을 누가, 어떤 문서로 만들었는지 기록합니다.
+ */
+@Entity
+@Table(name = "TD_PROJECT_REVISIONS",
+        uniqueConstraints = @UniqueConstraint(name = "uk_project_revision", columnNames = {"project_id", "revision"}))
+@Getter
+@NoArgsConstructor
+public class ProjectRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "project_revision_id")
+    private Long projectRevisionId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @Column(nullable = false)
+    private int revision;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    private Member createdBy;
+
+    @Column(name = "doc_id")
+    private String docId;   // 리비전을 만든 문서
+
+    @Column(nullable = false)
+    private LocalDateTime createdDate;
+
+    public ProjectRevision(Project project, int revision) {
+        this.project = project;
+        this.revision = revision;
+    }
+
+    public void record(Member createdBy, String docId, LocalDateTime createdDate) {
+        this.createdBy = createdBy;
+        this.docId = docId;
+        this.createdDate = createdDate;
+    }
+}
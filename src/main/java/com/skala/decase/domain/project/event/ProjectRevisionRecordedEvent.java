@@ -0,0 +1,10 @@
+package com.skala.decase.domain.project.event;
+
+/**
+ * 프로젝트 리비전 증가 이벤트
+ */
+public record ProjectRevisionRecordedEvent(
+        Long projectId,
+        int revision
+) {
+}
@@ -4,14 +4,11 @@ import com.skala.decase.domain.member.domain.Member;
 import com.skala.decase.domain.project.controller.dto.request.CreateProjectRequest;
 import com.skala.decase.domain.project.controller.dto.response.*;
 import com.skala.decase.domain.project.domain.Project;
-import com.skala.decase.domain.requirement.domain.Requirement;
-import com.skala.decase.domain.source.domain.Source;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 
 @Component
 @AllArgsConstructor
@@ -64,23 +61,6 @@ public class ProjectMapper {
         );
     }
 
-    public DocumentResponse toMappingDocs(Source source) {
-        return new DocumentResponse(
-                source.getDocument().getName(),
-                source.getPageNum(),
-                source.getRelSentence()
-        );
-    }
-
-    public MappingTableResponseDto toMappingTable(Requirement requirement, List<DocumentResponse> documentResponse) {
-        return new MappingTableResponseDto(
-                requirement.getReqIdCode(),
-                requirement.getName(),
-                requirement.getDescription(),
-                documentResponse
-        );
-    }
-
     public EditProjectResponseDto toEditResponse(Project project) {
         return new EditProjectResponseDto(
                 project.getProjectId(),
@@ -0,0 +1,77 @@
+package com.skala.decase.domain.project.repository;
+
+import com.skala.decase.domain.project.controller.dto.response.DocumentResponse;
+import com.skala.decase.domain.project.controller.dto.response.MappingTableResponseDto;
+import com.skala.decase.global.jdbc.StreamingJdbcTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 조견표 조회
+ * <p>
+ * 삭제되지 않은 현재 요구사항과 출처, 출처 문서 이름을 한 번의 쿼리로 읽습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MappingTableRepository {
+
+    private final StreamingJdbcTemplate streamingJdbcTemplate;
+
+    /**
+     * 요구사항 ID 순으로 읽으며 요구사항마다 consumer 를 호출합니다. 출처가 없는 요구사항은 빈 문서 목록을 가집니다.
+     */
+    public void streamMappingTable(long projectId, Consumer<MappingTableResponseDto> consumer) {
+        String sql =
+                "SELECT r.req_pk, r.req_id_code, r.name, r.description, " +
+                        "  s.source_id, s.page_num, s.rel_sentence, d.name AS doc_name " +
+                        "FROM td_requirements r " +
+                        "LEFT JOIN td_source s ON s.req_pk = r.req_pk " +
+                        "LEFT JOIN tm_documents d ON d.doc_id = s.doc_id " +
+                        "WHERE r.project_id = :projectId " +
+                        "AND r.is_deleted = false " +
+                        "ORDER BY r.req_id_code, r.req_pk, s.source_id";
+
+        MappingTableResponseDto[] current = new MappingTableResponseDto[1];
+        long[] currentReqPk = {-1L};
+        streamingJdbcTemplate.query(sql, new MapSqlParameterSource("projectId", projectId),
+                rs -> {
+                    long reqPk = rs.getLong("req_pk");
+                    if (reqPk != currentReqPk[0]) {
+                        if (current[0] != null) {
+                            consumer.accept(current[0]);
+                        }
+                        currentReqPk[0] = reqPk;
+                        current[0] = new MappingTableResponseDto(
+                                rs.getString("req_id_code"),
+                                rs.getString("name"),
+                                rs.getString("description"),
+                                new ArrayList<>()
+                        );
+                    }
+                    rs.getLong("source_id");
+                    if (!rs.wasNull()) {
+                        current[0].document().add(new DocumentResponse(
+                                rs.getString("doc_name"),
+                                rs.getInt("page_num"),
+                                rs.getString("rel_sentence")
+                        ));
+                    }
+                });
+        if (current[0] != null) {
+            consumer.accept(current[0]);
+        }
+    }
+
+    /**
+     * 요구사항 ID 순 조견표 전체
+     */
+    public List<MappingTableResponseDto> findMappingTable(long projectId) {
+        List<MappingTableResponseDto> result = new ArrayList<>();
+        streamMappingTable(projectId, result::add);
+        return result;
+    }
+}
@@ -0,0 +1,18 @@
+package com.skala.decase.domain.project.repository;
+
+import com.skala.decase.domain.project.domain.Project;
+import com.skala.decase.domain.project.domain.ProjectRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProjectRevisionRepository extends JpaRepository<ProjectRevision, Long> {
+
+    Optional<ProjectRevision> findByProjectAndRevision(Project project, int revision);
+
+    @Query("SELECT pr FROM ProjectRevision pr LEFT JOIN FETCH pr.createdBy WHERE pr.project = :project")
+    List<ProjectRevision> findAllWithMemberByProject(@Param("project") Project project);
+}
@@ -0,0 +1,123 @@
+package com.skala.decase.domain.project.service;
+
+import com.skala.decase.domain.member.domain.Member;
+import com.skala.decase.domain.project.domain.Project;
+import com.skala.decase.domain.project.domain.ProjectRevision;
+import com.skala.decase.domain.project.event.ProjectRevisionRecordedEvent;
+import com.skala.decase.domain.project.repository.ProjectRevisionRepository;
+import com.skala.decase.domain.requirement.controller.dto.request.RequirementRevisionDto;
+import com.skala.decase.domain.requirement.event.RequirementChangedEvent;
+import com.skala.decase.domain.requirement.repository.RequirementRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 프로젝트 리비전 목록(버전 선택 드롭다운) 관리
+ * <p>
+ * 요구사항 리비전별 요약은 GROUP BY 한 번으로 구하고, 리비전을 만든 사용자/문서 정보는 TD_PROJECT_REVISIONS 에서 붙입니다.
+ * 목록이 요구사항의 revision_count 로 묶이므로 기록도 요구사항을 쓴 곳에서 그 리비전 번호로 남깁니다.
+ * Project.revisionCount 는 문서 업로드 등으로 요구사항 없이도 올라가므로 기록 번호로 쓰지 않습니다.
+ * 조회 결과는 프로젝트별로 보관하며 리비전 증가나 요구사항 변경이 커밋되면 버립니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectRevisionService {
+
+    private static final String SPEC_LABEL = "요구사항 정의서";
+
+    private final ProjectRevisionRepository projectRevisionRepository;
+    private final RequirementRepository requirementRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, List<RequirementRevisionDto>> catalogs = new ConcurrentHashMap<>();
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+
+    /**
+     * 요구사항 리비전을 누가, 어떤 문서로 만들었는지 기록합니다. 호출한 쪽 트랜잭션에서 실행됩니다.
+     *
+     * 문서 없이 쓴 기록(엑셀 가져오기)은 같은 리비전에 이미 있는 기록을 덮어쓰지 않습니다.
+     *
+     * @param revision 요구사항을 쓴 리비전 번호 (요구사항 revision_count)
+     */
+    public void recordRevision(Project project, int revision, Member member, String docId) {
+        Optional<ProjectRevision> recorded = projectRevisionRepository.findByProjectAndRevision(project, revision);
+        if (recorded.isPresent() && docId == null) {
+            return;
+        }
+        ProjectRevision projectRevision = recorded.orElseGet(() -> new ProjectRevision(project, revision));
+        projectRevision.record(member, docId, LocalDateTime.now());
+        projectRevisionRepository.save(projectRevision);
+
+        eventPublisher.publishEvent(new ProjectRevisionRecordedEvent(project.getProjectId(), revision));
+    }
+
+    /**
+     * 리비전 목록 (리비전 내림차순). 요구사항이 있는 리비전만 포함합니다.
+     * <p>
+     * 읽는 도중 변경이 커밋되면 결과를 보관하지 않도록, 읽기 시점이 고정된 트랜잭션 밖에서 호출해야 합니다.
+     */
+    public List<RequirementRevisionDto> getCatalog(Project project) {
+        Long projectId = project.getProjectId();
+        List<RequirementRevisionDto> cached = catalogs.get(projectId);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = generations.getOrDefault(projectId, 0L);
+
+        Map<Integer, ProjectRevision> recorded = projectRevisionRepository.findAllWithMemberByProject(project).stream()
+                .collect(Collectors.toMap(ProjectRevision::getRevision, Function.identity()));
+
+        List<RequirementRevisionDto> catalog = new ArrayList<>();
+        for (Object[] row : requirementRepository.findRevisionSummaries(project)) {
+            int revision = ((Number) row[0]).intValue();
+            LocalDateTime createdDate = (LocalDateTime) row[1];
+            int requirementCount = ((Number) row[2]).intValue();
+
+            ProjectRevision projectRevision = recorded.get(revision);
+            String author = projectRevision == null || projectRevision.getCreatedBy() == null
+                    ? null : projectRevision.getCreatedBy().getName();
+            String docId = projectRevision == null ? null : projectRevision.getDocId();
+
+            catalog.add(new RequirementRevisionDto(SPEC_LABEL, revision, createdDate.toLocalDate().toString(),
+                    requirementCount, author, docId));
+        }
+
+        List<RequirementRevisionDto> result = List.copyOf(catalog);
+        synchronized (this) {
+            if (generation == generations.getOrDefault(projectId, 0L)) {
+                catalogs.put(projectId, result);
+            }
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProjectRevisionRecorded(ProjectRevisionRecordedEvent event) {
+        evict(event.projectId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRequirementChanged(RequirementChangedEvent event) {
+        evict(event.projectId());
+    }
+
+    private synchronized void evict(Long projectId) {
+        generations.merge(projectId, 1L, Long::sum);
+        catalogs.remove(projectId);
+        log.debug("프로젝트 리비전 목록 무효화 - 프로젝트: {}", projectId);
+    }
+}
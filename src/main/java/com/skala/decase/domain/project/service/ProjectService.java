@@ -14,16 +14,13 @@ import com.skala.decase.domain.project.exception.ProjectException;
 import com.skala.decase.domain.project.mapper.MemberProjectMapper;
 import com.skala.decase.domain.project.mapper.ProjectMapper;
 import com.skala.decase.domain.project.mapper.SuccessMapper;
+import com.skala.decase.domain.project.repository.MappingTableRepository;
 import com.skala.decase.domain.project.repository.ProjectInvitationRepository;
 import com.skala.decase.domain.project.repository.ProjectRepository;
-import com.skala.decase.domain.requirement.domain.Requirement;
 import com.skala.decase.domain.requirement.repository.RequirementRepository;
-import com.skala.decase.domain.source.domain.Source;
-import com.skala.decase.domain.source.service.SourceRepository;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
@@ -39,7 +36,7 @@ public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final MemberProjectRepository memberProjectRepository;
-    private final SourceRepository sourceRepository;
+    private final MappingTableRepository mappingTableRepository;
     private final MemberProjectRepository memberProjectInvitationRepository;
 
     private final MemberService memberService;
@@ -138,27 +135,16 @@ public class ProjectService {
 
     // 조견표 리스트 생성
     public List<MappingTableResponseDto> createMappingTable(Long projectId) {
-        Project project = findByProjectId(projectId);
-        List<Requirement> requirements = project.getRequirements();
-
-        List<MappingTableResponseDto> result = new ArrayList<>();
-
-        for (Requirement requirement : requirements) {
-            List<Source> sources = sourceRepository.findAllByRequirement(requirement);
-
-            List<DocumentResponse> responseDtos = new ArrayList<>();
-
-            if (sources.isEmpty()) {
-                responseDtos.add(projectMapper.toMappingDocs(null));
-                continue;
-            }
-            for (Source source : sources) {
-                responseDtos.add(projectMapper.toMappingDocs(source));
-            }
+        findByProjectId(projectId);
+        return mappingTableRepository.findMappingTable(projectId);
+    }
 
-            result.add(projectMapper.toMappingTable(requirement, responseDtos));
-        }
-        return result.stream().sorted(Comparator.comparing(MappingTableResponseDto::req_code)).toList();
+    /**
+     * 조견표를 요구사항 ID 순으로 한 건씩 consumer 에 넘깁니다. 목록을 만들지 않으므로 엑셀 스트리밍에 씁니다.
+     */
+    public void streamMappingTable(Long projectId, Consumer<MappingTableResponseDto> consumer) {
+        findByProjectId(projectId);
+        mappingTableRepository.streamMappingTable(projectId, consumer);
     }
 
     public PermissionResponse getAuthority(Long projectId, Long memberId) {
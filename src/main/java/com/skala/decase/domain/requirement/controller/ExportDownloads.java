@@ -0,0 +1,84 @@
+package com.skala.decase.domain.requirement.controller;
+
+import com.skala.decase.domain.requirement.service.ExportFile;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+/**
+ * 엑셀/텍스트 내보내기 다운로드 응답을 만듭니다.
+ * <p>
+ * 내보내기 대기와 스트리밍은 오래 걸릴 수 있어 이 응답들에만 requirement.export.request-timeout 을 적용합니다.
+ */
+@Component
+public class ExportDownloads {
+
+    private static final String XLSX_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    private final long requestTimeoutMillis;
+
+    public ExportDownloads(@Value("${requirement.export.request-timeout:10m}") Duration requestTimeout) {
+        this.requestTimeoutMillis = requestTimeout.toMillis();
+    }
+
+    /**
+     * 내보내기 작업이 끝나면 파일 응답을 씁니다. 그 전에 시간이 초과되면 503 으로 응답하고 작업 결과 파일은 닫습니다.
+     */
+    public DeferredResult<ResponseEntity<Resource>> respond(CompletableFuture<ExportFile> export, String fileName,
+                                                           String ifNoneMatch) {
+        DeferredResult<ResponseEntity<Resource>> result = new DeferredResult<>(requestTimeoutMillis);
+        export.whenComplete((file, error) -> {
+            if (error != null) {
+                result.setErrorResult(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            } else if (!result.setResult(toResponse(file, fileName, ifNoneMatch))) {
+                // 이미 시간이 초과되었거나 연결이 끊김
+                file.close();
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 응답 스트림에 직접 쓰는 다운로드 작업
+     */
+    public <T> WebAsyncTask<T> stream(Callable<T> writer) {
+        return new WebAsyncTask<>(requestTimeoutMillis, writer);
+    }
+
+    /**
+     * If-None-Match 가 일치하면 304, 아니면 ETag 와 Content-Length 를 붙인 파일 응답
+     */
+    private ResponseEntity<Resource> toResponse(ExportFile file, String fileName, String ifNoneMatch) {
+        if (file.matches(ifNoneMatch)) {
+            file.close();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(file.etag())
+                    .build();
+        }
+
+        String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8)
+                .replaceAll("\\+", "%20");
+
+        // 응답을 다 쓰면 스트림과 함께 파일이 닫힘
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename*=UTF-8''" + encodedFileName)
+                .header(HttpHeaders.CONTENT_TYPE, XLSX_CONTENT_TYPE)
+                .eTag(file.etag())
+                .contentLength(file.length())
+                .body(new InputStreamResource(file.inputStream()));
+    }
+}
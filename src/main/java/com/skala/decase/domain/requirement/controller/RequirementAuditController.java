@@ -2,23 +2,27 @@ package com.skala.decase.domain.requirement.controller;
 
 import com.skala.decase.domain.requirement.controller.dto.response.MatrixResponse;
 import com.skala.decase.domain.requirement.controller.dto.response.RequirementAuditResponse;
-import com.skala.decase.domain.requirement.service.ExelExportService;
+import com.skala.decase.domain.requirement.controller.dto.response.RequirementFieldTimelineResponse;
+import com.skala.decase.domain.requirement.controller.dto.response.RequirementHistoryPageResponse;
+import com.skala.decase.domain.requirement.domain.ExportType;
+import com.skala.decase.domain.requirement.service.ExportJobService;
 import com.skala.decase.domain.requirement.service.RequirementAuditService;
+import com.skala.decase.domain.requirement.service.RequirementMatrixService;
 import com.skala.decase.global.model.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Slf4j
@@ -28,8 +32,10 @@ import java.util.List;
 @RequestMapping("/api/v1/matrix/")
 public class RequirementAuditController {
 
-    private final ExelExportService exelExportService;
+    private final ExportJobService exportJobService;
+    private final ExportDownloads exportDownloads;
     private final RequirementAuditService requirementAuditService;
+    private final RequirementMatrixService requirementMatrixService;
 
     @GetMapping("/projects/{projectId}")
     public ResponseEntity<ApiResponse<List<RequirementAuditResponse>>> findAllByProjectId(@PathVariable("projectId") long projectId) {
@@ -39,6 +45,17 @@ public class RequirementAuditController {
                 .body(ApiResponse.success(responses));
     }
 
+    @GetMapping("/projects/{projectId}/history")
+    public ResponseEntity<ApiResponse<RequirementHistoryPageResponse>> findHistoryPage(
+            @PathVariable("projectId") long projectId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "100") int size) {
+        RequirementHistoryPageResponse response = requirementAuditService.findHistoryPage(projectId, cursor, size);
+
+        return ResponseEntity.ok()
+                .body(ApiResponse.success(response));
+    }
+
     @GetMapping("/projects/{projectId}/srs/{reqIdCode}")
     public ResponseEntity<ApiResponse<List<RequirementAuditResponse>>> findOneByProjectIdAndReqIdCode(@PathVariable("projectId") long projectId, @PathVariable("reqIdCode") String reqIdCode) {
         List<RequirementAuditResponse> responses = requirementAuditService.findByProjectIdAndReqIdCode(projectId, reqIdCode);
@@ -47,34 +64,29 @@ public class RequirementAuditController {
                 .body(ApiResponse.success(responses));
     }
 
+    @GetMapping("/projects/{projectId}/srs/{reqIdCode}/timeline")
+    public ResponseEntity<ApiResponse<RequirementFieldTimelineResponse>> findFieldTimeline(@PathVariable("projectId") long projectId, @PathVariable("reqIdCode") String reqIdCode) {
+        RequirementFieldTimelineResponse response = requirementAuditService.findFieldTimeline(projectId, reqIdCode);
+
+        return ResponseEntity.ok()
+                .body(ApiResponse.success(response));
+    }
+
     @GetMapping("/projects/{projectId}/all")
     public ResponseEntity<ApiResponse<List<MatrixResponse>>> findMatrix(@PathVariable("projectId") long projectId) {
-        List<MatrixResponse> response = requirementAuditService.createMatrix(projectId);
+        List<MatrixResponse> response = requirementMatrixService.getMatrix(projectId);
 
         return ResponseEntity.ok()
                 .body(ApiResponse.success(response));
     }
 
     @GetMapping("/projects/{projectId}/downloads")
-    public ResponseEntity<ByteArrayResource> downloadMatrix(@PathVariable("projectId") long projectId) {
-        try {
-            List<MatrixResponse> matrixList = requirementAuditService.createMatrix(projectId);
-            byte[] excelBytes = exelExportService.generateMatrixExcelFile(matrixList); // 메서드 직접 구현
-
-            String fileName = String.format("%s.xlsx", "Requirement-Matrix");
-            ByteArrayResource resource = new ByteArrayResource(excelBytes);
-
-            String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8)
-                    .replaceAll("\\+", "%20");
-
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFileName)
-                    .header(HttpHeaders.CONTENT_TYPE, "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
-                    .body(resource);
-
-        } catch (Exception e) {
-            log.error("Matrix Excel 다운로드 실패", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public DeferredResult<ResponseEntity<Resource>> downloadMatrix(
+            @PathVariable("projectId") long projectId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String fileName = String.format("%s.xlsx", "Requirement-Matrix");
+
+        return exportDownloads.respond(exportJobService.exportLatest(ExportType.MATRIX, projectId),
+                fileName, ifNoneMatch);
     }
 }
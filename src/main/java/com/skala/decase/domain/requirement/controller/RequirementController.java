@@ -5,13 +5,26 @@ import com.skala.decase.domain.project.service.ProjectService;
 import com.skala.decase.domain.requirement.controller.dto.request.DeleteRequestDto;
 import com.skala.decase.domain.requirement.controller.dto.request.RequirementRevisionDto;
 import com.skala.decase.domain.requirement.controller.dto.request.UpdateRequirementDto;
+import com.skala.decase.domain.requirement.controller.dto.response.ModReasonEntry;
+import com.skala.decase.domain.requirement.controller.dto.response.RequirementDiffResponse;
+import com.skala.decase.domain.requirement.controller.dto.response.RequirementFacetResponse;
+import com.skala.decase.domain.requirement.controller.dto.response.RequirementImportResponse;
+import com.skala.decase.domain.requirement.controller.dto.response.RequirementPageResponse;
 import com.skala.decase.domain.requirement.controller.dto.response.RequirementResponse;
 import com.skala.decase.domain.requirement.controller.dto.response.RequirementWithSourceResponse;
-import com.skala.decase.domain.requirement.service.ExelExportService;
+import com.skala.decase.domain.requirement.domain.ExportType;
+import com.skala.decase.domain.requirement.domain.TextExportFormat;
+import com.skala.decase.domain.requirement.exception.RequirementException;
+import com.skala.decase.domain.requirement.service.ExportJobService;
+import com.skala.decase.domain.requirement.service.RequirementDiffService;
+import com.skala.decase.domain.requirement.service.RequirementImportService;
 import com.skala.decase.domain.requirement.service.RequirementService;
+import com.skala.decase.domain.requirement.service.RequirementTextExportService;
 import com.skala.decase.global.model.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -20,18 +33,24 @@ import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
 @Tag(name = "Requirement API", description = "요구사항 관리를 위한 api 입니다.")
@@ -41,7 +60,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class RequirementController {
 
     private final RequirementService requirementService;
-    private final ExelExportService exelExportService;
+    private final RequirementDiffService requirementDiffService;
+    private final ExportJobService exportJobService;
+    private final ExportDownloads exportDownloads;
+    private final RequirementTextExportService requirementTextExportService;
+    private final RequirementImportService requirementImportService;
     private final ProjectService projectService;
 
     @Operation(summary = "요구사항 정의서 버전별 미리보기", description = "특정 리비전의 요구사항 정의서 미리보기를 지원합니다.")
@@ -59,39 +82,81 @@ public class RequirementController {
 
     @Operation(summary = "요구사항 정의서 버전별 다운로드", description = "특정 리비전의 요구사항 정의서를 엑셀로 다운로드합니다.")
     @GetMapping("/{projectId}/requirements/downloads")
-    public ResponseEntity<ByteArrayResource> downloadGeneratedRequirements(
+    public DeferredResult<ResponseEntity<Resource>> downloadGeneratedRequirements(
             @PathVariable Long projectId,
-            @RequestParam(required = false) Integer revisionCount) {
+            @RequestParam(required = false) Integer revisionCount,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
-        try {
-            Project project = projectService.findByProjectId(projectId);
-            int maxRevision = requirementService.getMaxRevision(project);
-            int revision = (revisionCount == null) ? maxRevision : revisionCount;
+        int revision = resolveDownloadRevision(projectId, revisionCount);
 
-            List<RequirementResponse> responses = requirementService.getGeneratedRequirements(projectId,
-                    revision);
+        //파일 이름
+        String fileName = String.format("%s-v%d.xlsx", "DECASE-Requirements-Specification", revision);
 
-            // Excel 파일 생성
-            byte[] excelBytes = exelExportService.generateExcelFile(responses);
-            //파일 이름
-            String fileName = String.format("%s-v%d.xlsx", "DECASE-Requirements-Specification", revision);
+        // 지난 리비전은 저장된 파일을 그대로, 없으면 내보내기 작업이 끝난 뒤 응답
+        return exportDownloads.respond(exportJobService.export(ExportType.REQUIREMENTS, projectId, revision),
+                fileName, ifNoneMatch);
+    }
 
-            ByteArrayResource resource = new ByteArrayResource(excelBytes);
+    @Operation(summary = "프로젝트 통합 문서 다운로드", description = "최신 리비전의 요구사항 정의서와 추적 매트릭스, 조견표를 시트 세 개인 엑셀 파일 하나로 다운로드합니다. 매트릭스와 조견표는 현재 값만 있으므로 지난 리비전은 요청할 수 없습니다.")
+    @GetMapping("/{projectId}/requirements/workbook/downloads")
+    public DeferredResult<ResponseEntity<Resource>> downloadProjectWorkbook(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) Integer revisionCount,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
-            String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8)
-                    .replaceAll("\\+", "%20");
+        int revision = resolveDownloadRevision(projectId, null);
+        if (revisionCount != null && revisionCount != revision) {
+            throw new RequirementException("통합 문서는 최신 리비전만 다운로드할 수 있습니다.", HttpStatus.BAD_REQUEST);
+        }
+        String fileName = String.format("%s-v%d.xlsx", "DECASE-Project-Workbook", revision);
 
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION,
-                            "attachment; filename*=UTF-8''" + encodedFileName)
-                    .header(HttpHeaders.CONTENT_TYPE,
-                            "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
-                    .body(resource);
+        return exportDownloads.respond(exportJobService.export(ExportType.WORKBOOK, projectId, revision),
+                fileName, ifNoneMatch);
+    }
 
-        } catch (Exception e) {
-            log.error("Excel 다운로드 중 오류 발생: projectId={}, revision={}", projectId, revisionCount, e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    @Operation(summary = "요구사항 정의서 텍스트 다운로드", description = "특정 리비전의 요구사항 정의서를 CSV(RFC 4180) 또는 NDJSON 으로 다운로드합니다.")
+    @GetMapping("/{projectId}/requirements/downloads/{format}")
+    public WebAsyncTask<Void> downloadRequirementsAsText(
+            @PathVariable Long projectId,
+            @PathVariable String format,
+            @RequestParam(required = false) Integer revisionCount,
+            HttpServletResponse response) {
+
+        TextExportFormat exportFormat = TextExportFormat.fromExtension(format);
+        int revision = resolveDownloadRevision(projectId, revisionCount);
+        requirementTextExportService.prepare(projectId, revision);
+
+        String fileName = String.format("%s-v%d.%s", "DECASE-Requirements-Specification", revision,
+                exportFormat.getExtension());
+        String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8)
+                .replaceAll("\\+", "%20");
+
+        // 쿼리 커서에서 읽은 요구사항을 바로 응답에 씀
+        return exportDownloads.stream(() -> {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFileName);
+            response.setContentType(exportFormat.getContentType());
+            try {
+                requirementTextExportService.write(projectId, revision, exportFormat, response.getOutputStream());
+                response.flushBuffer();
+            } catch (IOException | RuntimeException e) {
+                log.error("요구사항 정의서 {} 스트리밍 실패: projectId={}, revision={}", exportFormat, projectId, revision, e);
+                throw e;
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 다운로드할 리비전. 지정하지 않으면 최신 리비전입니다.
+     */
+    private int resolveDownloadRevision(Long projectId, Integer revisionCount) {
+        Project project = projectService.findByProjectId(projectId);
+        int maxRevision = requirementService.getMaxRevision(project);
+        int revision = (revisionCount == null) ? maxRevision : revisionCount;
+        if (revision < 0 || revision > maxRevision) {
+            throw new RequirementException("존재하지 않는 리비전입니다.", HttpStatus.NOT_FOUND);
         }
+        return revision;
     }
 
     // 프로젝트의 요구사항 분류(대/중/소) 불러오기
@@ -101,9 +166,16 @@ public class RequirementController {
         return ResponseEntity.ok(requirementService.getRequirementCategory(projectId, revisionCount));
     }
 
-    @Operation(summary = "요구사항 정의서 버전 별 검색", description = "요구사항 정의서 버전 별 검색")
+    @Operation(summary = "요구사항 분류/속성별 집계", description = "특정 리비전의 분류 트리와 유형, 중요도, 난이도, 수용 여부, 출처 문서 유형별 요구사항 수를 조회합니다.")
+    @GetMapping("/{projectId}/documents/{revisionCount}/facets")
+    public ResponseEntity<ApiResponse<RequirementFacetResponse>> getRequirementFacets(
+            @PathVariable Long projectId, @PathVariable int revisionCount) {
+        return ResponseEntity.ok().body(ApiResponse.success(requirementService.getRequirementFacets(projectId, revisionCount)));
+    }
+
+    @Operation(summary = "요구사항 정의서 버전 별 검색", description = "요구사항 정의서 버전 별 검색. 응답의 nextCursor 를 cursor 로 전달하면 다음 페이지를 조회합니다.")
     @GetMapping("/{projectId}/documents/{revisionCount}/search")
-    public ResponseEntity<ApiResponse<List<RequirementResponse>>> getGeneratedRequirements(
+    public ResponseEntity<ApiResponse<RequirementPageResponse>> getGeneratedRequirements(
             @PathVariable Long projectId,
             @PathVariable int revisionCount,
             @RequestParam(required = false) String query,
@@ -113,12 +185,32 @@ public class RequirementController {
             @RequestParam(required = false) Integer type,
             @RequestParam(required = false) Integer difficulty,
             @RequestParam(required = false) Integer priority,
-            @RequestParam(required = false) List<String> docType) {
-        List<RequirementResponse> result = requirementService.getFilteredRequirements(
-                projectId, revisionCount, query, level1, level2, level3, type, difficulty, priority, docType);
+            @RequestParam(required = false) List<String> docType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        RequirementPageResponse result = requirementService.searchRequirements(
+                projectId, revisionCount, query, level1, level2, level3, type, difficulty, priority, docType,
+                cursor, size);
         return ResponseEntity.ok().body(ApiResponse.success(result));
     }
 
+    @Operation(summary = "요구사항 변경 이유 이력 조회", description = "특정 리비전까지의 요구사항별 변경 이유를 기록 시각(epoch millis)과 함께 조회합니다.")
+    @GetMapping("/{projectId}/requirements/mod-reasons")
+    public ResponseEntity<ApiResponse<Map<String, List<ModReasonEntry>>>> getModReasonHistory(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) Integer revisionCount) {
+        return ResponseEntity.ok().body(ApiResponse.success(requirementService.getModReasonHistory(projectId, revisionCount)));
+    }
+
+    @Operation(summary = "요구사항 정의서 리비전 비교", description = "from 리비전에서 to 리비전까지 추가/수정/삭제된 요구사항과 항목별 변경 내용을 조회합니다. from 은 to 이하, to 는 최신 리비전 이하여야 합니다.")
+    @GetMapping("/{projectId}/requirements/diff")
+    public ResponseEntity<ApiResponse<RequirementDiffResponse>> diffRequirements(
+            @PathVariable Long projectId,
+            @RequestParam int from,
+            @RequestParam int to) {
+        return ResponseEntity.ok().body(ApiResponse.success(requirementDiffService.diff(projectId, from, to)));
+    }
+
     @GetMapping("/{projectId}/revision")
     public ResponseEntity<List<RequirementRevisionDto>> getRequirementVersion(
             @PathVariable Long projectId) {
@@ -135,6 +227,17 @@ public class RequirementController {
         return ResponseEntity.ok().body(ApiResponse.success("변경 내역이 저장되었습니다."));
     }
 
+    @Operation(summary = "요구사항 정의서 엑셀 가져오기", description = "내보내기와 같은 양식의 xlsx 를 읽어 요구사항을 추가, 수정하고 새 리비전으로 기록합니다. 엑셀에 없는 요구사항은 삭제하지 않습니다.")
+    @PostMapping(path = "/{projectId}/requirements/imports",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<RequirementImportResponse>> importRequirements(
+            @PathVariable Long projectId,
+            @RequestParam("memberId") Long memberId,
+            @RequestPart("file") MultipartFile file) {
+        return ResponseEntity.ok().body(ApiResponse.success(
+                requirementImportService.importRequirements(projectId, memberId, file)));
+    }
+
     @PatchMapping("{projectId}/requirements/{reqPk}/delete")
     public ResponseEntity<ApiResponse<String>> deleteRequirement(
             @PathVariable Long projectId,
@@ -9,4 +9,7 @@ public class RequirementRevisionDto {
 	private String label;
 	private int revision;
 	private String date;
-}
\ No newline at end of file
+	private int requirementCount;  // 해당 리비전에서 생성/수정된 요구사항 수
+	private String author;         // 리비전을 만든 사용자
+	private String docId;          // 리비전을 만든 문서
+}
@@ -0,0 +1,24 @@
+package com.skala.decase.domain.requirement.controller.dto.request;
+
+import java.util.List;
+
+/**
+ * 요구사항 정의서 검색 조건. null 인 항목은 조건에서 제외합니다.
+ *
+ * @param query      검색어. 공백으로 나눈 단어, "따옴표" 문구, 초성(예: ㄹㄱㅇ)을 지원합니다.
+ * @param type       RequirementType 이름 (FR, NFR)
+ * @param difficulty Difficulty 이름
+ * @param priority   Priority 이름
+ * @param docTypes   출처 문서 ID 접두어 (RFP, MOMV 등)
+ */
+public record RequirementSearchCondition(
+        String query,
+        String level1,
+        String level2,
+        String level3,
+        String type,
+        String difficulty,
+        String priority,
+        List<String> docTypes
+) {
+}
@@ -0,0 +1,13 @@
+package com.skala.decase.domain.requirement.controller.dto.response;
+
+/**
+ * 요구사항 항목 단위 변경 내용
+ *
+ * @param field 항목 이름 (type, reception, level1, level2, level3, name, description, priority, difficulty, sources)
+ */
+public record FieldChange(
+        String field,
+        String before,
+        String after
+) {
+}
@@ -0,0 +1,15 @@
+package com.skala.decase.domain.requirement.controller.dto.response;
+
+import java.util.List;
+
+/**
+ * 분류 트리의 노드 (대분류 -> 중분류 -> 소분류)
+ *
+ * @param count 이 분류에 속한 요구사항 수
+ */
+public record LevelFacet(
+        String name,
+        int count,
+        List<LevelFacet> children
+) {
+}
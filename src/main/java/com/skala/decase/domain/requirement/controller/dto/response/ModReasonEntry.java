@@ -0,0 +1,12 @@
+package com.skala.decase.domain.requirement.controller.dto.response;
+
+/**
+ * 변경 이유 이력 한 건
+ *
+ * @param revTimestamp 변경이 기록된 시각 (epoch millis). 표시 형식은 클라이언트에서 결정합니다.
+ */
+public record ModReasonEntry(
+        String modReason,
+        long revTimestamp
+) {
+}
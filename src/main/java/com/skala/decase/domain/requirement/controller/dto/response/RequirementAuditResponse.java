@@ -10,6 +10,7 @@ import java.time.LocalDateTime;
 
 public record RequirementAuditResponse(
         long revisionNumber,
+        long reqPk,
         long version,
         String reqIdCode,
         RequirementType type,
@@ -0,0 +1,14 @@
+package com.skala.decase.domain.requirement.controller.dto.response;
+
+import java.util.List;
+
+/**
+ * 리비전 비교 결과의 요구사항 한 건. 추가/삭제된 요구사항은 changes 가 비어 있습니다.
+ */
+public record RequirementDiffItem(
+        String reqIdCode,
+        String type,
+        String name,
+        List<FieldChange> changes
+) {
+}
@@ -0,0 +1,12 @@
+package com.skala.decase.domain.requirement.controller.dto.response;
+
+import java.util.List;
+
+public record RequirementDiffResponse(
+        int from,
+        int to,
+        List<RequirementDiffItem> added,
+        List<RequirementDiffItem> modified,
+        List<RequirementDiffItem> deleted
+) {
+}
@@ -0,0 +1,21 @@
+package com.skala.decase.domain.requirement.controller.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리비전별 요구사항 분류 트리와 속성별 요구사항 수
+ *
+ * @param docType 출처 문서 유형(문서 ID 접두어)별 요구사항 수
+ */
+public record RequirementFacetResponse(
+        int revision,
+        int total,
+        List<LevelFacet> levels,
+        Map<String, Integer> type,
+        Map<String, Integer> priority,
+        Map<String, Integer> difficulty,
+        Map<String, Integer> reception,
+        Map<String, Integer> docType
+) {
+}
@@ -0,0 +1,22 @@
+package com.skala.decase.domain.requirement.controller.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 요구사항 감사 이력 한 건에서 직전 이력 대비 바뀐 필드만 담은 항목
+ *
+ * @param changes 바뀐 필드 이름 -> 새 값. 첫 이력은 값이 있는 모든 필드를 담습니다.
+ */
+public record RequirementFieldDelta(
+        long revisionNumber,
+        long version,
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime revisionDate,
+        String modifiedById,
+        String modifiedByName,
+        String changeType,
+        Map<String, String> changes
+) {
+}
@@ -0,0 +1,12 @@
+package com.skala.decase.domain.requirement.controller.dto.response;
+
+import java.util.List;
+
+/**
+ * 요구사항 하나의 필드 단위 변경 이력 (오래된 순)
+ */
+public record RequirementFieldTimelineResponse(
+        String reqIdCode,
+        List<RequirementFieldDelta> deltas
+) {
+}
@@ -0,0 +1,25 @@
+package com.skala.decase.domain.requirement.controller.dto.response;
+
+import java.util.List;
+
+/**
+ * 요구사항 정의서 엑셀 가져오기 결과
+ *
+ * @param revisionCount 가져온 내용이 반영된 리비전. 바뀐 요구사항이 없으면 null
+ * @param failed        검증에 실패해 건너뛴 행 수. errors 에는 앞쪽 일부만 담습니다.
+ */
+public record RequirementImportResponse(
+        Integer revisionCount,
+        int added,
+        int updated,
+        int unchanged,
+        int failed,
+        List<RowError> errors
+) {
+
+    /**
+     * @param row 엑셀 행 번호 (1부터)
+     */
+    public record RowError(int row, String reqIdCode, String message) {
+    }
+}
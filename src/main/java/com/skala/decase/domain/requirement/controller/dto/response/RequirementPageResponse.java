@@ -0,0 +1,15 @@
+package com.skala.decase.domain.requirement.controller.dto.response;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답
+ *
+ * @param nextCursor 다음 페이지 요청 시 전달할 커서. 마지막 페이지면 null
+ */
+public record RequirementPageResponse(
+        List<RequirementResponse> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
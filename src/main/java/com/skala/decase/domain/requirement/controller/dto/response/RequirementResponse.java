@@ -3,11 +3,13 @@ package com.skala.decase.domain.requirement.controller.dto.response;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.skala.decase.domain.requirement.domain.Reception;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
+@NoArgsConstructor
 public class RequirementResponse {
 
     private long reqPk;
@@ -0,0 +1,25 @@
+package com.skala.decase.domain.requirement.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 엑셀 내보내기 종류
+ * <p>
+ * formatVersion 은 파일 구성이 바뀔 때 올려서 디스크에 남은 이전 형식의 결과를 쓰지 않게 합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportType {
+    REQUIREMENTS("requirements", 1, true),     // 요구사항 정의서
+    MATRIX("matrix", 1, false),                // 요구사항 추적 매트릭스
+    MAPPING_TABLE("mapping-table", 1, false),  // 조견표
+    WORKBOOK("workbook", 1, false);            // 최신 리비전 정의서 + 매트릭스 + 조견표
+
+    private final String fileName;
+    private final int formatVersion;
+    /**
+     * true 면 해당 리비전 시점 내용만, false 면 현재 요구사항 값도 담아 어떤 변경이든 다시 만들어야 합니다.
+     */
+    private final boolean revisionScoped;
+}
@@ -0,0 +1,130 @@
+package com.skala.decase.domain.requirement.domain;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * 형태소 분석 없이 한국어를 색인하기 위한 문자 n-gram 유틸리티
+ * <p>
+ * 문자/숫자가 아닌 문자는 공백으로 바꾸고, 공백으로 나눈 단어마다 글자(unigram)와 인접한 두 글자(bigram)를 만듭니다.
+ */
+public final class KoreanNgram {
+
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private KoreanNgram() {
+    }
+
+    /**
+     * 소문자로 바꾸고 문자/숫자 외의 문자를 공백 하나로 줄입니다. 줄바꿈은 필드 경계로 보존합니다.
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String nfc = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(nfc.length());
+        char pending = 0;
+        for (int i = 0; i < nfc.length(); i++) {
+            char c = nfc.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pending != 0 && !sb.isEmpty()) {
+                    sb.append(pending);
+                }
+                pending = 0;
+                sb.append(c);
+            } else if (c == '\n') {
+                pending = '\n';
+            } else if (pending == 0) {
+                pending = ' ';
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 색인용 n-gram. 단어마다 모든 글자와 인접한 두 글자를 넘깁니다.
+     */
+    public static void forEachGram(String normalized, Consumer<String> consumer) {
+        for (String word : words(normalized)) {
+            for (int i = 0; i < word.length(); i++) {
+                consumer.accept(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    consumer.accept(word.substring(i, i + 2));
+                }
+            }
+        }
+    }
+
+    /**
+     * 검색어용 n-gram. 두 글자 이상인 단어는 bigram 만, 한 글자 단어는 그 글자를 씁니다.
+     */
+    public static List<String> queryGrams(String normalized) {
+        List<String> grams = new ArrayList<>();
+        for (String word : words(normalized)) {
+            if (word.length() == 1) {
+                grams.add(word);
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                grams.add(word.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꿉니다. 한글이 아닌 문자는 그대로 둡니다.
+     */
+    public static String choseong(String normalized) {
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+                sb.append(CHOSEONG[(c - HANGUL_BEGIN) / SYLLABLES_PER_CHOSEONG]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 'ㄹㄱㅇ' 처럼 초성(자음)만으로 이루어진 검색어인지 여부
+     */
+    public static boolean isChoseongQuery(String normalized) {
+        if (normalized.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c != ' ' && (c < 'ㄱ' || c > 'ㅎ')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> words(String normalized) {
+        List<String> words = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= normalized.length(); i++) {
+            if (i == normalized.length() || normalized.charAt(i) == ' ' || normalized.charAt(i) == '\n') {
+                if (i > start) {
+                    words.add(normalized.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,501 @@
+package com.skala.decase.domain.requirement.domain;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 한 리비전의 요구사항 이름/설명/출처 문장에 대한 n-gram 역색인
+ * <p>
+ * 요구사항마다 슬롯 번호를 하나 부여하고, n-gram 별로 슬롯 순 포스팅 목록을 둡니다.
+ * 검색은 검색어 n-gram 중 포스팅이 가장 짧은 것부터 교집합을 구하므로 프로젝트 전체를 훑지 않습니다.
+ * <ul>
+ *     <li>일반 검색어: 공백으로 나눈 단어가 모두 포함된 요구사항</li>
+ *     <li>"따옴표" 검색어: 따옴표 안의 문구가 그대로 포함된 요구사항</li>
+ *     <li>초성 검색어(예: ㄹㄱㅇ): 요구사항 이름의 초성에 포함된 요구사항</li>
+ * </ul>
+ * 결과는 BM25 점수 순이며, 이름에 나온 n-gram 은 가중치를 더 받습니다.
+ * 생성 후에는 변경되지 않으며, 다음 리비전의 색인은 {@link #toUpdater()} 로 바뀐 요구사항만 반영해 만듭니다.
+ */
+public final class RequirementSearchIndex {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int NAME_WEIGHT = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final int revision;
+    private final String[] reqIdCodes;    // 슬롯 -> 요구사항 ID
+    private final long[] signatures;      // 색인한 감사 행 서명, 0 이면 빈 슬롯
+    private final String[] texts;         // 정규화한 이름\n설명\n출처 문장..., 빈 슬롯은 null
+    private final String[] choseongNames;
+    private final int[] lengths;          // 가중치를 반영한 n-gram 수
+    private final Map<String, int[]> postings;          // n-gram -> [슬롯, 빈도, 슬롯, 빈도, ...]
+    private final Map<String, int[]> choseongPostings;  // 초성 n-gram -> [슬롯, ...]
+    private final int liveCount;
+    private final long totalLength;
+
+    private RequirementSearchIndex(int revision, String[] reqIdCodes, long[] signatures, String[] texts,
+                                   String[] choseongNames, int[] lengths,
+                                   Map<String, int[]> postings, Map<String, int[]> choseongPostings) {
+        this.revision = revision;
+        this.reqIdCodes = reqIdCodes;
+        this.signatures = signatures;
+        this.texts = texts;
+        this.choseongNames = choseongNames;
+        this.lengths = lengths;
+        this.postings = postings;
+        this.choseongPostings = choseongPostings;
+
+        int live = 0;
+        long total = 0;
+        for (int slot = 0; slot < texts.length; slot++) {
+            if (texts[slot] != null) {
+                live++;
+                total += lengths[slot];
+            }
+        }
+        this.liveCount = live;
+        this.totalLength = total;
+    }
+
+    public record Hit(String reqIdCode, double score) {
+    }
+
+    public static RequirementSearchIndex empty() {
+        return new RequirementSearchIndex(0, new String[0], new long[0], new String[0], new String[0], new int[0],
+                Map.of(), Map.of());
+    }
+
+    public int revision() {
+        return revision;
+    }
+
+    public int size() {
+        return liveCount;
+    }
+
+    /**
+     * 검색어에 맞는 요구사항 (점수 내림차순, 같으면 요구사항 ID 순)
+     */
+    public List<Hit> search(String query) {
+        List<Clause> clauses = parse(query);
+        if (clauses.isEmpty()) {
+            return List.of();
+        }
+
+        int[] candidates = null;
+        Set<String> textGrams = new LinkedHashSet<>();
+        Set<String> choseongGrams = new LinkedHashSet<>();
+        for (Clause clause : clauses) {
+            List<String> grams = KoreanNgram.queryGrams(clause.text());
+            int[] matched = clause.choseong()
+                    ? match(grams, choseongPostings, 1, clause.text(), choseongNames)
+                    : match(grams, postings, 2, clause.text(), texts);
+            candidates = (candidates == null) ? matched : intersect(candidates, matched);
+            if (candidates.length == 0) {
+                return List.of();
+            }
+            (clause.choseong() ? choseongGrams : textGrams).addAll(grams);
+        }
+
+        double averageLength = liveCount == 0 ? 1 : Math.max(1.0, (double) totalLength / liveCount);
+        List<Hit> hits = new ArrayList<>(candidates.length);
+        for (int slot : candidates) {
+            double score = 0;
+            for (String gram : textGrams) {
+                int[] posting = postings.get(gram);
+                int tf = frequency(posting, slot);
+                double norm = K1 * (1 - B + B * lengths[slot] / averageLength);
+                score += idf(posting.length / 2) * tf * (K1 + 1) / (tf + norm);
+            }
+            for (String gram : choseongGrams) {
+                score += idf(choseongPostings.get(gram).length);
+            }
+            hits.add(new Hit(reqIdCodes[slot], score));
+        }
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparing(Hit::reqIdCode));
+        return hits;
+    }
+
+    private double idf(int documentFrequency) {
+        return Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    /**
+     * n-gram 포스팅의 교집합을 짧은 것부터 구한 뒤 원문에 문구가 실제로 있는지 확인합니다.
+     */
+    private int[] match(List<String> grams, Map<String, int[]> index, int stride, String phrase, String[] haystack) {
+        List<int[]> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            int[] posting = index.get(gram);
+            if (posting == null) {
+                return new int[0];
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(posting -> posting.length));
+
+        int[] shortest = lists.get(0);
+        int[] result = new int[shortest.length / stride];
+        int size = 0;
+        for (int i = 0; i < shortest.length; i += stride) {
+            int slot = shortest[i];
+            boolean all = true;
+            for (int k = 1; k < lists.size() && all; k++) {
+                all = indexOf(lists.get(k), stride, slot) >= 0;
+            }
+            if (all && haystack[slot].contains(phrase)) {
+                result[size++] = slot;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static int frequency(int[] posting, int slot) {
+        int idx = indexOf(posting, 2, slot);
+        return idx < 0 ? 0 : posting[idx + 1];
+    }
+
+    /**
+     * 슬롯 순으로 정렬된 포스팅에서 슬롯 위치를 이진 탐색합니다.
+     */
+    private static int indexOf(int[] posting, int stride, int slot) {
+        int low = 0;
+        int high = posting.length / stride - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int value = posting[mid * stride];
+            if (value < slot) {
+                low = mid + 1;
+            } else if (value > slot) {
+                high = mid - 1;
+            } else {
+                return mid * stride;
+            }
+        }
+        return -1;
+    }
+
+    private record Clause(String text, boolean choseong) {
+    }
+
+    /**
+     * 따옴표 안은 문구 하나로, 밖은 공백으로 나눈 단어마다 조건 하나로 봅니다. 닫히지 않은 따옴표는 끝까지 문구입니다.
+     */
+    private static List<Clause> parse(String query) {
+        List<Clause> clauses = new ArrayList<>();
+        if (query == null) {
+            return clauses;
+        }
+        String[] parts = query.split("\"", -1);
+        for (int k = 0; k < parts.length; k++) {
+            String normalized = KoreanNgram.normalize(parts[k]).replace('\n', ' ');
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            if (k % 2 == 1) {
+                clauses.add(new Clause(normalized, KoreanNgram.isChoseongQuery(normalized)));
+            } else {
+                for (String word : normalized.split(" ")) {
+                    clauses.add(new Clause(word, KoreanNgram.isChoseongQuery(word)));
+                }
+            }
+        }
+        return clauses;
+    }
+
+    public Updater toUpdater() {
+        return new Updater(this);
+    }
+
+    /**
+     * 기존 색인에서 바뀐 요구사항만 빼고 다시 넣어 새 색인을 만듭니다. 한 번만 사용할 수 있습니다.
+     * 바뀌지 않은 n-gram 의 포스팅 배열은 기존 색인과 공유합니다.
+     */
+    public static final class Updater {
+
+        private final Map<String, Integer> slots = new HashMap<>();
+        private final List<String> reqIdCodes;
+        private final List<Long> signatures;
+        private final List<String> texts;
+        private final List<String> choseongNames;
+        private final List<Integer> lengths;
+        private final Map<String, int[]> postings;
+        private final Map<String, int[]> choseongPostings;
+
+        // n-gram -> 슬롯 -> 새 빈도 (0 이면 제거)
+        private final Map<String, Map<Integer, Integer>> changes = new HashMap<>();
+        private final Map<String, Map<Integer, Boolean>> choseongChanges = new HashMap<>();
+
+        private Updater(RequirementSearchIndex base) {
+            this.reqIdCodes = new ArrayList<>(Arrays.asList(base.reqIdCodes));
+            this.signatures = new ArrayList<>(base.signatures.length);
+            this.texts = new ArrayList<>(Arrays.asList(base.texts));
+            this.choseongNames = new ArrayList<>(Arrays.asList(base.choseongNames));
+            this.lengths = new ArrayList<>(base.lengths.length);
+            for (int slot = 0; slot < base.reqIdCodes.length; slot++) {
+                slots.put(base.reqIdCodes[slot], slot);
+                signatures.add(base.signatures[slot]);
+                lengths.add(base.lengths[slot]);
+            }
+            this.postings = new HashMap<>(base.postings);
+            this.choseongPostings = new HashMap<>(base.choseongPostings);
+        }
+
+        /**
+         * 같은 서명으로 이미 색인된 요구사항인지 여부
+         */
+        public boolean contains(String reqIdCode, long signature) {
+            Integer slot = slots.get(reqIdCode);
+            return slot != null && texts.get(slot) != null && signatures.get(slot) == signature;
+        }
+
+        public void put(String reqIdCode, long signature, String name, String description, List<String> relSentences) {
+            Integer slot = slots.get(reqIdCode);
+            if (slot == null) {
+                slot = reqIdCodes.size();
+                slots.put(reqIdCode, slot);
+                reqIdCodes.add(reqIdCode);
+                signatures.add(0L);
+                texts.add(null);
+                choseongNames.add(null);
+                lengths.add(0);
+            } else if (texts.get(slot) != null) {
+                clear(slot);
+            }
+
+            String normalizedName = KoreanNgram.normalize(name);
+            StringBuilder rest = new StringBuilder(KoreanNgram.normalize(description));
+            for (String sentence : relSentences) {
+                String normalized = KoreanNgram.normalize(sentence);
+                if (!normalized.isEmpty()) {
+                    rest.append('\n').append(normalized);
+                }
+            }
+
+            Map<String, Integer> frequencies = new HashMap<>();
+            KoreanNgram.forEachGram(normalizedName, gram -> frequencies.merge(gram, NAME_WEIGHT, Integer::sum));
+            KoreanNgram.forEachGram(rest.toString(), gram -> frequencies.merge(gram, 1, Integer::sum));
+            int length = 0;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                changes.computeIfAbsent(entry.getKey(), k -> new HashMap<>()).put(slot, entry.getValue());
+                length += entry.getValue();
+            }
+
+            String choseongName = KoreanNgram.choseong(normalizedName);
+            int choseongSlot = slot;
+            KoreanNgram.forEachGram(choseongName, gram ->
+                    choseongChanges.computeIfAbsent(gram, k -> new HashMap<>()).put(choseongSlot, true));
+
+            signatures.set(slot, signature);
+            texts.set(slot, normalizedName + '\n' + rest);
+            choseongNames.set(slot, choseongName);
+            lengths.set(slot, length);
+        }
+
+        /**
+         * 주어진 요구사항 외에는 모두 색인에서 빼고, 뺀 요구사항 수를 반환합니다.
+         */
+        public int retainAll(Set<String> reqIdCodesToKeep) {
+            int removed = 0;
+            for (int slot = 0; slot < reqIdCodes.size(); slot++) {
+                if (texts.get(slot) != null && !reqIdCodesToKeep.contains(reqIdCodes.get(slot))) {
+                    clear(slot);
+                    removed++;
+                }
+            }
+            return removed;
+        }
+
+        private void clear(int slot) {
+            KoreanNgram.forEachGram(texts.get(slot), gram ->
+                    changes.computeIfAbsent(gram, k -> new HashMap<>()).put(slot, 0));
+            KoreanNgram.forEachGram(choseongNames.get(slot), gram ->
+                    choseongChanges.computeIfAbsent(gram, k -> new HashMap<>()).put(slot, false));
+            signatures.set(slot, 0L);
+            texts.set(slot, null);
+            choseongNames.set(slot, null);
+            lengths.set(slot, 0);
+        }
+
+        public RequirementSearchIndex build(int revision) {
+            changes.forEach((gram, bySlot) -> {
+                TreeMap<Integer, Integer> merged = new TreeMap<>();
+                int[] old = postings.get(gram);
+                if (old != null) {
+                    for (int i = 0; i < old.length; i += 2) {
+                        merged.put(old[i], old[i + 1]);
+                    }
+                }
+                bySlot.forEach((slot, frequency) -> {
+                    if (frequency > 0) {
+                        merged.put(slot, frequency);
+                    } else {
+                        merged.remove(slot);
+                    }
+                });
+                if (merged.isEmpty()) {
+                    postings.remove(gram);
+                    return;
+                }
+                int[] posting = new int[merged.size() * 2];
+                int i = 0;
+                for (Map.Entry<Integer, Integer> entry : merged.entrySet()) {
+                    posting[i++] = entry.getKey();
+                    posting[i++] = entry.getValue();
+                }
+                postings.put(gram, posting);
+            });
+
+            choseongChanges.forEach((gram, bySlot) -> {
+                TreeMap<Integer, Boolean> merged = new TreeMap<>();
+                int[] old = choseongPostings.get(gram);
+                if (old != null) {
+                    for (int slot : old) {
+                        merged.put(slot, true);
+                    }
+                }
+                bySlot.forEach((slot, present) -> {
+                    if (present) {
+                        merged.put(slot, true);
+                    } else {
+                        merged.remove(slot);
+                    }
+                });
+                if (merged.isEmpty()) {
+                    choseongPostings.remove(gram);
+                    return;
+                }
+                choseongPostings.put(gram, merged.keySet().stream().mapToInt(Integer::intValue).toArray());
+            });
+
+            return new RequirementSearchIndex(
+                    revision,
+                    reqIdCodes.toArray(String[]::new),
+                    signatures.stream().mapToLong(Long::longValue).toArray(),
+                    texts.toArray(String[]::new),
+                    choseongNames.toArray(String[]::new),
+                    lengths.stream().mapToInt(Integer::intValue).toArray(),
+                    postings,
+                    choseongPostings
+            );
+        }
+    }
+
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(revision);
+        out.writeInt(reqIdCodes.length);
+        for (int slot = 0; slot < reqIdCodes.length; slot++) {
+            writeString(out, reqIdCodes[slot]);
+            out.writeLong(signatures[slot]);
+            writeString(out, texts[slot]);
+            writeString(out, choseongNames[slot]);
+            out.writeInt(lengths[slot]);
+        }
+        writePostings(out, postings);
+        writePostings(out, choseongPostings);
+    }
+
+    public static RequirementSearchIndex readFrom(DataInputStream in) throws IOException {
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("지원하지 않는 검색 색인 형식입니다: " + version);
+        }
+        int revision = in.readInt();
+        int slots = in.readInt();
+        String[] reqIdCodes = new String[slots];
+        long[] signatures = new long[slots];
+        String[] texts = new String[slots];
+        String[] choseongNames = new String[slots];
+        int[] lengths = new int[slots];
+        for (int slot = 0; slot < slots; slot++) {
+            reqIdCodes[slot] = readString(in);
+            signatures[slot] = in.readLong();
+            texts[slot] = readString(in);
+            choseongNames[slot] = readString(in);
+            lengths[slot] = in.readInt();
+        }
+        Map<String, int[]> postings = readPostings(in);
+        Map<String, int[]> choseongPostings = readPostings(in);
+        return new RequirementSearchIndex(revision, reqIdCodes, signatures, texts, choseongNames, lengths,
+                postings, choseongPostings);
+    }
+
+    private static void writePostings(DataOutputStream out, Map<String, int[]> postings) throws IOException {
+        out.writeInt(postings.size());
+        for (Map.Entry<String, int[]> entry : postings.entrySet()) {
+            writeString(out, entry.getKey());
+            int[] posting = entry.getValue();
+            out.writeInt(posting.length);
+            for (int value : posting) {
+                out.writeInt(value);
+            }
+        }
+    }
+
+    private static Map<String, int[]> readPostings(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        Map<String, int[]> postings = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            String gram = readString(in);
+            int[] posting = new int[in.readInt()];
+            for (int j = 0; j < posting.length; j++) {
+                posting[j] = in.readInt();
+            }
+            postings.put(gram, posting);
+        }
+        return postings;
+    }
+
+    // writeUTF 는 64KB 제한이 있어 길이를 직접 기록
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,83 @@
+package com.skala.decase.domain.requirement.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리비전별 요구사항 정의서 스냅샷
+ * <p>
+ * td_requirements_aud 에서 req_id_code 별 최신 행을 고른 결과를 (project_id, revision_count, req_id_code) 단위로 저장합니다.
+ * 조회 시 윈도우 함수 대신 유니크 인덱스 범위 스캔만 수행합니다.
+ */
+@Entity
+@Table(name = "TD_REQUIREMENT_SNAPSHOTS",
+        uniqueConstraints = @UniqueConstraint(name = "uk_requirement_snapshot",
+                columnNames = {"project_id", "revision_count", "req_id_code"}),
+        indexes = @Index(name = "idx_requirement_snapshot_type",
+                columnList = "project_id, revision_count, type, req_id_code"))
+@Getter
+@NoArgsConstructor
+public class RequirementSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "snapshot_id", nullable = false)
+    private Long snapshotId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "revision_count", nullable = false)
+    private int revisionCount;
+
+    @Column(name = "req_pk", nullable = false)
+    private Long reqPk;
+
+    @Column(name = "req_id_code", length = 100, nullable = false)
+    private String reqIdCode;
+
+    @Column(name = "type", length = 20)
+    private String type;
+
+    @Column(name = "level_1", length = 100)
+    private String level1;
+
+    @Column(name = "level_2", length = 100)
+    private String level2;
+
+    @Column(name = "level_3", length = 100)
+    private String level3;
+
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "description", length = 5000)
+    private String description;
+
+    @Column(name = "priority", length = 20)
+    private String priority;
+
+    @Column(name = "difficulty", length = 20)
+    private String difficulty;
+
+    @Column(name = "reception", length = 20)
+    private String reception;
+
+    @Column(name = "revtype")
+    private Integer revtype;  // 0: 추가, 1: 수정
+
+    @Column(name = "created_date")
+    private LocalDateTime createdDate;
+
+    @Column(name = "modified_date")
+    private LocalDateTime modifiedDate;
+}
@@ -0,0 +1,44 @@
+package com.skala.decase.domain.requirement.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스냅샷을 생성한 리비전 표시
+ * <p>
+ * 요구사항이 없는 리비전도 생성 여부를 알 수 있도록 스냅샷 행과 별도로 둡니다.
+ * (project_id, revision_count) 유니크 키가 같은 리비전의 동시 생성을 한 트랜잭션으로 제한합니다.
+ */
+@Entity
+@Table(name = "TD_REQUIREMENT_SNAPSHOT_REVISIONS",
+        uniqueConstraints = @UniqueConstraint(name = "uk_requirement_snapshot_revision",
+                columnNames = {"project_id", "revision_count"}))
+@Getter
+@NoArgsConstructor
+public class RequirementSnapshotRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "snapshot_revision_id", nullable = false)
+    private Long snapshotRevisionId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "revision_count", nullable = false)
+    private int revisionCount;
+
+    @Column(name = "row_count", nullable = false)
+    private int rowCount;
+
+    @Column(name = "created_date", nullable = false)
+    private LocalDateTime createdDate;
+}
@@ -0,0 +1,296 @@
+package com.skala.decase.domain.requirement.domain;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 프로젝트의 요구사항/출처 감사 이력을 요구사항별 유효 리비전 구간으로 색인한 메모리 구조
+ * <p>
+ * 임의 리비전의 상태를 요구사항마다 이진 탐색 한 번으로 구합니다. 결과는 스냅샷 생성 쿼리와 같습니다.
+ * <ul>
+ *     <li>요구사항: revision_count &lt;= R 이고 삭제(revtype 2)가 아닌 행 중 modified_date 가 가장 늦은 행</li>
+ *     <li>출처: 해당 req_pk 의 (req_id_code, doc_id) 별 revision_count &lt;= R 인 가장 최근 행</li>
+ *     <li>변경 이유: revision_count &lt;= R 인 모든 행 (기록 시각 순)</li>
+ * </ul>
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 공유할 수 있습니다.
+ */
+public final class RequirementTimeline {
+
+    private static final Comparator<LocalDateTime> MODIFIED_DATE_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private final Map<String, Track> tracks;                   // req_id_code 순
+    private final Map<Long, Map<String, SourceTrack>> sources;  // req_pk -> doc_id
+    private final Map<String, List<ModReason>> modReasons;     // req_id_code -> 기록 시각 순
+    private final Map<String, String> docNames;
+
+    private RequirementTimeline(Map<String, Track> tracks, Map<Long, Map<String, SourceTrack>> sources,
+                                Map<String, List<ModReason>> modReasons, Map<String, String> docNames) {
+        this.tracks = tracks;
+        this.sources = sources;
+        this.modReasons = modReasons;
+        this.docNames = docNames;
+    }
+
+    /**
+     * 요구사항 감사 행
+     */
+    public record Version(
+            long reqPk,
+            String reqIdCode,
+            int revisionCount,
+            String type,
+            String reception,
+            String level1,
+            String level2,
+            String level3,
+            String name,
+            String description,
+            String priority,
+            String difficulty,
+            int revtype,
+            boolean deleted,
+            LocalDateTime createdDate,
+            LocalDateTime modifiedDate,
+            long rev
+    ) {
+    }
+
+    /**
+     * 출처 감사 행
+     */
+    public record SourceVersion(
+            long sourceId,
+            long reqPk,
+            String docId,
+            int pageNum,
+            String relSentence,
+            int revisionCount,
+            long rev
+    ) {
+    }
+
+    public record ModReason(
+            int revisionCount,
+            long revTimestamp,
+            String reason
+    ) {
+    }
+
+    /**
+     * 리비전 시점에 유효한 요구사항 목록 (req_id_code 순)
+     */
+    public List<Version> stateAt(int revision) {
+        List<Version> state = new ArrayList<>(tracks.size());
+        for (Track track : tracks.values()) {
+            Version version = track.at(revision);
+            if (version != null) {
+                state.add(version);
+            }
+        }
+        return state;
+    }
+
+    public Version versionAt(String reqIdCode, int revision) {
+        Track track = tracks.get(reqIdCode);
+        return track == null ? null : track.at(revision);
+    }
+
+    /**
+     * 리비전 시점의 요구사항 출처 (doc_id 순)
+     */
+    public List<SourceVersion> sourcesAt(long reqPk, int revision) {
+        Map<String, SourceTrack> byDoc = sources.get(reqPk);
+        if (byDoc == null) {
+            return List.of();
+        }
+        List<SourceVersion> result = new ArrayList<>(byDoc.size());
+        for (SourceTrack track : byDoc.values()) {
+            SourceVersion source = track.at(revision);
+            if (source != null) {
+                result.add(source);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 리비전 시점까지 기록된 변경 이유 (기록 시각 순)
+     */
+    public List<ModReason> modReasonsAt(String reqIdCode, int revision) {
+        List<ModReason> all = modReasons.getOrDefault(reqIdCode, List.of());
+        List<ModReason> result = new ArrayList<>(all.size());
+        for (ModReason reason : all) {
+            if (reason.revisionCount() <= revision) {
+                result.add(reason);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 문서 이름. RFP 문서는 'RFP', 모르는 문서는 빈 문자열
+     */
+    public String docName(String docId) {
+        if (docId.contains("RFP")) {
+            return "RFP";
+        }
+        return docNames.getOrDefault(docId, "");
+    }
+
+    public int requirementCount() {
+        return tracks.size();
+    }
+
+    /**
+     * 감사 이력에 나타난 가장 큰 revision_count (이력이 없으면 0)
+     */
+    public int latestRevision() {
+        int latest = 0;
+        for (Track track : tracks.values()) {
+            latest = Math.max(latest, track.starts()[track.starts().length - 1]);
+        }
+        return latest;
+    }
+
+    /**
+     * 값 배열이 start[i] 리비전부터 다음 구간 시작 전까지 유효한 구간 색인
+     */
+    private static int floorIndex(int[] starts, int revision) {
+        int idx = Arrays.binarySearch(starts, revision);
+        if (idx >= 0) {
+            return idx;
+        }
+        return -idx - 2;  // revision 보다 작은 마지막 구간 (없으면 -1)
+    }
+
+    private record Track(int[] starts, Version[] versions) {
+        Version at(int revision) {
+            int idx = floorIndex(starts, revision);
+            return idx < 0 ? null : versions[idx];
+        }
+    }
+
+    private record SourceTrack(int[] starts, SourceVersion[] versions) {
+        SourceVersion at(int revision) {
+            int idx = floorIndex(starts, revision);
+            return idx < 0 ? null : versions[idx];
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private final Map<String, List<Version>> versions = new HashMap<>();
+        private final Map<Long, Map<String, List<SourceVersion>>> sources = new HashMap<>();
+        private final Map<String, List<ModReason>> modReasons = new HashMap<>();
+        private final Map<String, String> docNames = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * 요구사항 감사 행. 삭제 행은 변경 이유에만 반영됩니다.
+         */
+        public Builder version(Version version, long revTimestamp, String modReason) {
+            if (version.revtype() != 2) {
+                versions.computeIfAbsent(version.reqIdCode(), k -> new ArrayList<>()).add(version);
+            }
+            modReasons.computeIfAbsent(version.reqIdCode(), k -> new ArrayList<>())
+                    .add(new ModReason(version.revisionCount(), revTimestamp, modReason));
+            return this;
+        }
+
+        public Builder source(SourceVersion source) {
+            sources.computeIfAbsent(source.reqPk(), k -> new HashMap<>())
+                    .computeIfAbsent(source.docId(), k -> new ArrayList<>())
+                    .add(source);
+            return this;
+        }
+
+        /**
+         * 문서 이름. 같은 문서가 여러 번 주어지면 마지막 값을 사용합니다.
+         */
+        public Builder docName(String docId, String name) {
+            docNames.put(docId, name);
+            return this;
+        }
+
+        public RequirementTimeline build() {
+            Map<String, Track> tracks = new TreeMap<>();
+            versions.forEach((reqIdCode, list) -> tracks.put(reqIdCode, buildTrack(list)));
+
+            Map<Long, Map<String, SourceTrack>> sourceTracks = new HashMap<>();
+            sources.forEach((reqPk, byDoc) -> {
+                Map<String, SourceTrack> docTracks = new TreeMap<>();
+                byDoc.forEach((docId, list) -> docTracks.put(docId, buildSourceTrack(list)));
+                sourceTracks.put(reqPk, docTracks);
+            });
+
+            Map<String, List<ModReason>> reasons = new HashMap<>();
+            modReasons.forEach((reqIdCode, list) -> {
+                list.sort(Comparator.comparingLong(ModReason::revTimestamp));
+                reasons.put(reqIdCode, List.copyOf(list));
+            });
+
+            return new RequirementTimeline(tracks, sourceTracks, reasons, Map.copyOf(docNames));
+        }
+
+        /**
+         * revision_count 순으로 훑으며 "지금까지 modified_date 가 가장 늦은 행"이 바뀌는 지점만 구간으로 남깁니다.
+         */
+        private static Track buildTrack(List<Version> list) {
+            list.sort(Comparator.comparingInt(Version::revisionCount).thenComparingLong(Version::rev));
+
+            int[] starts = new int[list.size()];
+            Version[] values = new Version[list.size()];
+            int size = 0;
+            Version best = null;
+
+            for (Version version : list) {
+                if (best != null && MODIFIED_DATE_ORDER.compare(version.modifiedDate(), best.modifiedDate()) < 0) {
+                    continue;
+                }
+                best = version;
+                if (size > 0 && starts[size - 1] == version.revisionCount()) {
+                    values[size - 1] = version;
+                } else {
+                    starts[size] = version.revisionCount();
+                    values[size] = version;
+                    size++;
+                }
+            }
+            return new Track(Arrays.copyOf(starts, size), Arrays.copyOf(values, size));
+        }
+
+        /**
+         * 같은 revision_count 에서는 나중 rev 가 유효합니다.
+         */
+        private static SourceTrack buildSourceTrack(List<SourceVersion> list) {
+            list.sort(Comparator.comparingInt(SourceVersion::revisionCount).thenComparingLong(SourceVersion::rev));
+
+            int[] starts = new int[list.size()];
+            SourceVersion[] values = new SourceVersion[list.size()];
+            int size = 0;
+
+            for (SourceVersion source : list) {
+                if (size > 0 && starts[size - 1] == source.revisionCount()) {
+                    values[size - 1] = source;
+                } else {
+                    starts[size] = source.revisionCount();
+                    values[size] = source;
+                    size++;
+                }
+            }
+            return new SourceTrack(Arrays.copyOf(starts, size), Arrays.copyOf(values, size));
+        }
+    }
+}
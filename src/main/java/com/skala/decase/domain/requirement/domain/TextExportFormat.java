@@ -0,0 +1,28 @@
+package com.skala.decase.domain.requirement.domain;
+
+import com.skala.decase.domain.requirement.exception.RequirementException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 요구사항 정의서 텍스트 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TextExportFormat {
+    CSV("csv", "text/csv; charset=UTF-8; header=present"),  // RFC 4180
+    NDJSON("ndjson", "application/x-ndjson; charset=UTF-8");  // 한 줄에 요구사항 하나
+
+    private final String extension;
+    private final String contentType;
+
+    public static TextExportFormat fromExtension(String value) {
+        for (TextExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new RequirementException("지원하지 않는 내보내기 형식입니다: " + value, HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,13 @@
+package com.skala.decase.domain.requirement.event;
+
+/**
+ * 요구사항 정의서 변경 이벤트
+ *
+ * @param projectId    변경된 프로젝트
+ * @param fromRevision 변경 내용이 반영되는 가장 낮은 리비전. 이 리비전 이상의 조회 결과가 달라집니다.
+ */
+public record RequirementChangedEvent(
+        Long projectId,
+        int fromRevision
+) {
+}
@@ -6,7 +6,10 @@ import com.skala.decase.domain.member.domain.Member;
 import com.skala.decase.domain.requirement.controller.dto.response.*;
 import com.skala.decase.domain.requirement.domain.Difficulty;
 import com.skala.decase.domain.requirement.domain.Priority;
+import com.skala.decase.domain.requirement.domain.Reception;
 import com.skala.decase.domain.requirement.domain.Requirement;
+import com.skala.decase.domain.requirement.domain.RequirementSnapshot;
+import com.skala.decase.domain.requirement.domain.RequirementTimeline;
 import com.skala.decase.domain.requirement.domain.RequirementType;
 import com.skala.decase.domain.source.domain.Source;
 import lombok.AllArgsConstructor;
@@ -15,10 +18,13 @@ import org.hibernate.envers.RevisionType;
 import org.springframework.stereotype.Component;
 
 import java.security.Timestamp;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -65,6 +71,60 @@ public class RequirementAuditMapper {
         );
     }
 
+    public RequirementResponse toDtoResponse(RequirementSnapshot snapshot, int revisionCount) {
+        return new RequirementResponse(
+                snapshot.getReqPk(),
+                snapshot.getReqIdCode(),
+                revisionCount,
+                snapshot.getType(),
+                snapshot.getReception(),
+                snapshot.getLevel1(),
+                snapshot.getLevel2(),
+                snapshot.getLevel3(),
+                snapshot.getPriority(),
+                snapshot.getDifficulty(),
+                snapshot.getName(),
+                snapshot.getDescription(),
+                mapRevtypeToString(snapshot.getRevtype()),
+                snapshot.getCreatedDate(),
+                snapshot.getModifiedDate(),
+                null,
+                null
+        );
+    }
+
+    public RequirementResponse toDtoResponse(RequirementTimeline.Version version, int revisionCount) {
+        return new RequirementResponse(
+                version.reqPk(),
+                version.reqIdCode(),
+                revisionCount,
+                version.type(),
+                version.reception(),
+                version.level1(),
+                version.level2(),
+                version.level3(),
+                version.priority(),
+                version.difficulty(),
+                version.name(),
+                version.description(),
+                mapRevtypeToString(version.revtype()),
+                version.createdDate(),
+                version.modifiedDate(),
+                null,
+                null
+        );
+    }
+
+    public SourceResponse toSourceResponse(RequirementTimeline.SourceVersion source, String docName) {
+        return new SourceResponse(
+                source.sourceId(),
+                source.docId(),
+                docName,
+                source.pageNum(),
+                source.relSentence()
+        );
+    }
+
     private String mapRevtypeToString(Object revType) {
         if (revType == null) return null;
 
@@ -147,6 +207,25 @@ public class RequirementAuditMapper {
         throw new IllegalArgumentException("Unsupported type for date conversion: " + value.getClass());
     }
 
+    private static final DateTimeFormatter MOD_REASON_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /**
+     * 변경 이유 이력 한 줄 ("yyyy-MM-dd HH:mm:ss : 사유")
+     */
+    public String toModReasonLine(String modReason, long revTimestamp) {
+        LocalDateTime revisionDate = Instant.ofEpochMilli(revTimestamp).atZone(ZoneId.systemDefault()).toLocalDateTime();
+        return revisionDate.format(MOD_REASON_DATE_FORMAT) + " : " + Optional.ofNullable(modReason).orElse("-");
+    }
+
+    public String toModReasonLine(Object modReason, Object revTimestamp) {
+        if (revTimestamp instanceof Number number) {
+            return toModReasonLine((String) modReason, number.longValue());
+        }
+        RequirementModReasonResponse response = toModReasonResponse(new Object[]{null, modReason, revTimestamp});
+        String reason = Optional.ofNullable(response.ModReason()).orElse("-");
+        return response.revisionDate().format(MOD_REASON_DATE_FORMAT) + " : " + reason;
+    }
+
     public RequirementModReasonResponse toModReasonResponse(Object[] result) {
         String reqIdCode = (String) result[0];
         String modReason = (String) result[1];
@@ -170,6 +249,7 @@ public class RequirementAuditMapper {
     public RequirementAuditResponse toResponse(RequirementAuditDTO requirementAuditDTO) {
         return new RequirementAuditResponse(
                 requirementAuditDTO.getRevisionNumber(),
+                requirementAuditDTO.getRequirement().getReqPk(),
                 requirementAuditDTO.getRequirement().getRevisionCount(),
                 requirementAuditDTO.getRequirement().getReqIdCode(),
                 requirementAuditDTO.getRequirement().getType(),
@@ -188,4 +268,34 @@ public class RequirementAuditMapper {
                 requirementAuditDTO.getRevisionType().toString()
         );
     }
+
+    /**
+     * 감사 이력 네이티브 조회 결과 한 행을 응답으로 변환합니다. 엔티티를 만들지 않습니다.
+     */
+    public RequirementAuditResponse toResponse(ResultSet rs) throws SQLException {
+        return new RequirementAuditResponse(
+                rs.getLong("rev"),
+                rs.getLong("req_pk"),
+                rs.getInt("revision_count"),
+                rs.getString("req_id_code"),
+                toEnum(RequirementType.class, rs.getString("type")),
+                rs.getString("name"),
+                rs.getString("description"),
+                rs.getString("level_1"),
+                rs.getString("level_2"),
+                rs.getString("level_3"),
+                toEnum(Priority.class, rs.getString("priority")),
+                toEnum(Difficulty.class, rs.getString("difficulty")),
+                toEnum(Reception.class, rs.getString("reception")),
+                rs.getString("mod_reason"),
+                Instant.ofEpochMilli(rs.getLong("revtstmp")).atZone(ZoneId.systemDefault()).toLocalDateTime(),
+                rs.getString("member_login_id"),
+                rs.getString("member_name"),
+                RevisionType.fromRepresentation((byte) rs.getInt("revtype")).toString()
+        );
+    }
+
+    private <E extends Enum<E>> E toEnum(Class<E> type, String name) {
+        return name == null ? null : Enum.valueOf(type, name);
+    }
 }
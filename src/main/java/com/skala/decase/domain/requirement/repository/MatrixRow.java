@@ -0,0 +1,26 @@
+package com.skala.decase.domain.requirement.repository;
+
+/**
+ * 추적 매트릭스 생성용 감사 행 (ADD/DEL) 과 같은 요구사항 ID 의 현재 요구사항 값
+ *
+ * @param revtype          0 = ADD, 2 = DEL (삭제 처리된 수정 행 포함)
+ * @param current          현재 요구사항 테이블에 같은 요구사항 ID 의 삭제되지 않은 요구사항이 있는지 여부
+ * @param currentReception 현재 요구사항의 수용 여부 (Reception 이름)
+ */
+public record MatrixRow(
+        String reqIdCode,
+        int revtype,
+        String level1,
+        String level2,
+        String level3,
+        String name,
+        String description,
+        boolean current,
+        String currentLevel1,
+        String currentLevel2,
+        String currentLevel3,
+        String currentName,
+        String currentDescription,
+        String currentReception
+) {
+}
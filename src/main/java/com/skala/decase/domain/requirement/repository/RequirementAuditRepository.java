@@ -1,21 +1,28 @@
 package com.skala.decase.domain.requirement.repository;
 
+import com.skala.decase.domain.requirement.controller.dto.request.RequirementSearchCondition;
 import com.skala.decase.domain.requirement.controller.dto.response.RequirementAuditDTO;
-import com.skala.decase.domain.requirement.controller.dto.response.RequirementModReasonResponse;
+import com.skala.decase.domain.requirement.controller.dto.response.RequirementAuditResponse;
 import com.skala.decase.domain.requirement.controller.dto.response.RequirementResponse;
 import com.skala.decase.domain.requirement.controller.dto.response.SourceResponse;
 import com.skala.decase.domain.requirement.domain.Requirement;
+import com.skala.decase.domain.requirement.domain.RequirementSnapshot;
 import com.skala.decase.domain.requirement.exception.HistoryException;
 import com.skala.decase.domain.requirement.mapper.RequirementAuditMapper;
+import com.skala.decase.global.jdbc.StreamingJdbcTemplate;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.envers.AuditReader;
 import org.hibernate.envers.AuditReaderFactory;
 import org.hibernate.envers.query.AuditEntity;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -25,24 +32,93 @@ public class RequirementAuditRepository {
 
     private final EntityManager entityManager;
     private final RequirementAuditMapper requirementAuditMapper;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final StreamingJdbcTemplate streamingJdbcTemplate;
+
+    // 감사 이력 한 행: 요구사항 감사 행 + 기록 시각 + 작성자
+    private static final String HISTORY_SELECT =
+            "SELECT a.rev, a.revtype, a.req_pk, a.req_id_code, a.revision_count, a.type, a.name, a.description, " +
+                    "  a.level_1, a.level_2, a.level_3, a.priority, a.difficulty, a.reception, a.mod_reason, " +
+                    "  rev.revtstmp, m.id AS member_login_id, m.name AS member_name " +
+                    "FROM td_requirements_aud a " +
+                    "JOIN revinfo rev ON a.rev = rev.rev " +
+                    "LEFT JOIN tn_members m ON a.member_id = m.member_id ";
+
+    /**
+     * 프로젝트의 요구사항 감사 이력을 (rev, req_pk) 내림차순으로 limit 건 조회합니다.
+     * 엔티티 대신 감사 행과 작성자 이름만 읽으며, 커서가 주어지면 해당 행 다음부터 조회합니다.
+     *
+     * @param limit null 이면 전체
+     */
+    public List<RequirementAuditResponse> findHistory(long projectId, Long cursorRev, Long cursorReqPk, Integer limit) {
+        String sql = HISTORY_SELECT +
+                "WHERE a.project_id_aud = :projectId " +
+                (cursorRev != null
+                        ? "AND (a.rev < :cursorRev OR (a.rev = :cursorRev AND a.req_pk < :cursorReqPk)) "
+                        : "") +
+                "ORDER BY a.rev DESC, a.req_pk DESC" +
+                (limit != null ? " LIMIT :limit" : "");
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("cursorRev", cursorRev)
+                .addValue("cursorReqPk", cursorReqPk)
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> requirementAuditMapper.toResponse(rs));
+    }
 
-    public List<RequirementAuditDTO> getRequirementHistoryByProjectId(long projectId) {
-        AuditReader auditReader = AuditReaderFactory.get(entityManager);
+    /**
+     * 요구사항 하나의 감사 이력을 오래된 순(rev, req_pk)으로 읽으며 행마다 consumer 를 호출합니다.
+     */
+    public void streamRequirementHistory(long projectId, String reqIdCode, Consumer<RequirementAuditResponse> consumer) {
+        String sql = HISTORY_SELECT +
+                "WHERE a.project_id_aud = :projectId " +
+                "AND a.req_id_code = :reqIdCode " +
+                "ORDER BY a.rev, a.req_pk";
 
-        @SuppressWarnings("unchecked")
-        List<Object[]> results = auditReader.createQuery()
-                .forRevisionsOfEntity(Requirement.class, false, true) // entity, revisionEntity, revisionType
-                .add(AuditEntity.property("projectIdAud").eq(projectId))
-                .getResultList();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("reqIdCode", reqIdCode);
 
-        if (results.isEmpty()) {
-            throw new HistoryException("해당 프로젝트에 대한 히스토리가 존재하지 않습니다.", HttpStatus.BAD_REQUEST);
-        }
+        jdbcTemplate.query(sql, params, (RowCallbackHandler) rs -> consumer.accept(requirementAuditMapper.toResponse(rs)));
+    }
 
-        return results.stream()
-                .map(requirementAuditMapper::toEntity)
-                .sorted(Comparator.comparing(RequirementAuditDTO::getRevisionDate).reversed())
-                .toList();
+    /**
+     * 프로젝트의 ADD/DEL 감사 행을 현재 요구사항 값과 함께 rev 순으로 읽으며 행마다 consumer 를 호출합니다.
+     */
+    public void streamMatrixRows(long projectId, Consumer<MatrixRow> consumer) {
+        String sql =
+                "SELECT a.req_id_code, CASE WHEN a.revtype = 1 THEN 2 ELSE a.revtype END AS revtype, " +
+                        "  a.level_1, a.level_2, a.level_3, a.name, a.description, " +
+                        "  c.req_pk IS NOT NULL AS current_exists, " +
+                        "  c.level_1 AS current_level_1, c.level_2 AS current_level_2, c.level_3 AS current_level_3, " +
+                        "  c.name AS current_name, c.description AS current_description, c.reception AS current_reception " +
+                        "FROM td_requirements_aud a " +
+                        "LEFT JOIN td_requirements c ON c.project_id = a.project_id_aud AND c.req_id_code = a.req_id_code " +
+                        "  AND c.is_deleted = false " +
+                        "WHERE a.project_id_aud = :projectId " +
+                        // 삭제 처리(is_deleted)된 수정 행도 삭제 행으로 읽음
+                        "AND (a.revtype IN (0, 2) OR (a.revtype = 1 AND a.is_deleted = true)) " +
+                        "ORDER BY a.rev";
+
+        streamingJdbcTemplate.query(sql, new MapSqlParameterSource("projectId", projectId), rs ->
+                consumer.accept(new MatrixRow(
+                        rs.getString("req_id_code"),
+                        rs.getInt("revtype"),
+                        rs.getString("level_1"),
+                        rs.getString("level_2"),
+                        rs.getString("level_3"),
+                        rs.getString("name"),
+                        rs.getString("description"),
+                        rs.getBoolean("current_exists"),
+                        rs.getString("current_level_1"),
+                        rs.getString("current_level_2"),
+                        rs.getString("current_level_3"),
+                        rs.getString("current_name"),
+                        rs.getString("current_description"),
+                        rs.getString("current_reception")
+                )));
     }
 
     public List<RequirementAuditDTO> getRequirementHistoryByProjectIdAndReqIdCode(long projectId, String reqIdCode) {
@@ -65,197 +141,216 @@ public class RequirementAuditRepository {
                 .toList();
     }
 
-    public List<RequirementModReasonResponse> findModReasonByProjectIdAndReqIdCodesNative(Long projectId, List<String> reqIdCodes, Integer revision) {
+    /**
+     * 변경 이유 이력 한 행을 처리하는 콜백
+     */
+    @FunctionalInterface
+    public interface ModReasonRowHandler {
+        void handle(String reqIdCode, String modReason, long revTimestamp);
+    }
+
+    /**
+     * 프로젝트의 특정 리비전까지의 변경 이유 이력을 한 번의 쿼리로 읽으며 행마다 handler 를 호출합니다.
+     * 행은 요구사항 ID, 기록 시각 순으로 전달됩니다.
+     *
+     * @param reqIdCodes 조회할 요구사항 ID. null 이면 프로젝트 전체
+     */
+    public void streamModReasons(Long projectId, int revision, Collection<String> reqIdCodes, ModReasonRowHandler handler) {
+        if (reqIdCodes != null && reqIdCodes.isEmpty()) {
+            return;
+        }
         String sql =
                 "SELECT r.req_id_code, r.mod_reason, rev.revtstmp " +
                         "FROM td_requirements_aud r " +
                         "JOIN revinfo rev ON r.rev = rev.rev " +
                         "WHERE r.project_id_aud = :projectId " +
-                        "AND r.req_id_code IN (:reqIdCodes) " +
                         "AND r.revision_count <= :targetRevision " +
-                        "ORDER BY r.req_id_code";
+                        (reqIdCodes != null ? "AND r.req_id_code IN (:reqIdCodes) " : "") +
+                        "ORDER BY r.req_id_code, rev.revtstmp";
 
-        @SuppressWarnings("unchecked")
-        List<Object[]> results = entityManager.createNativeQuery(sql)
-                .setParameter("projectId", projectId)
-                .setParameter("reqIdCodes", reqIdCodes)
-                .setParameter("targetRevision", revision)
-                .getResultList();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("targetRevision", revision)
+                .addValue("reqIdCodes", reqIdCodes);
 
-        return results.stream()
-                .map(requirementAuditMapper::toModReasonResponse)
-                .toList();
+        jdbcTemplate.query(sql, params, (RowCallbackHandler) rs ->
+                handler.handle(rs.getString(1), rs.getString(2), rs.getLong(3)));
     }
 
-    public List<RequirementResponse> findByProjectIdAndRevisionCount(long projectId, int revisionCount) {
-        String requirementsQuery =
-                "SELECT " +
-                        "  r.req_pk, r.req_id_code, " +
-                        "  r.type, r.level_1, r.level_2, r.level_3, " +
-                        "  r.name, r.description, r.priority, r.difficulty, " +
-                        "  r.modified_date AS modified_date, " +
-                        "  r.created_date AS created_date, " +
-                        "  r.revtype, r.reception " +
-                        "FROM ( " +
-                        "  SELECT *, ROW_NUMBER() OVER (PARTITION BY req_id_code ORDER BY modified_date DESC) AS rn " +
-                        "  FROM td_requirements_aud " +
-                        "  WHERE revision_count <= :targetRevision " +
-                        "    AND project_id_aud = :projectId " +
-                        "    AND revtype <> 2 " +
-                        ") r " +
-                        "WHERE r.rn = 1 " +
-                        "ORDER BY r.req_id_code";
-
-        @SuppressWarnings("unchecked")
-        List<Object[]> results = entityManager.createNativeQuery(requirementsQuery)
+    // 문서 감사 테이블에는 문서마다 여러 행이 있으므로 문서별 최신 행의 이름만 사용.
+    // 출처에 나온 문서만 감사 테이블 기본 키 (doc_id, rev) 로 찾아 테이블 전체를 읽지 않습니다.
+    private static final String LATEST_DOCUMENT_JOIN =
+            "LEFT JOIN tm_documents_aud d ON d.doc_id = s.doc_id " +
+                    "  AND d.rev = (SELECT MAX(d2.rev) FROM tm_documents_aud d2 WHERE d2.doc_id = s.doc_id) ";
+
+    private static final String DOC_NAME_COLUMN =
+            "  CASE " +
+                    "    WHEN s.doc_id LIKE '%RFP%' THEN 'RFP' " +
+                    "    ELSE IFNULL(d.name, '') " +
+                    "  END AS doc_name ";
+
+    private static final int ROW_REQUIREMENT = 0;
+    private static final int ROW_SOURCE = 1;
+    private static final int ROW_MOD_REASON = 2;
+
+    /**
+     * 리비전 스냅샷을 projection 에 따라 요구사항, 출처, 변경 이유까지 한 번의 쿼리로 조회합니다.
+     * <p>
+     * 행 종류(row_kind)를 구분하는 UNION ALL 로 세 결과를 묶고, 출처는 (req_id_code, doc_id) 별 최신 한 건으로 SQL 에서 중복 제거합니다.
+     * 결과는 유형, 요구사항 ID 순으로 정렬됩니다.
+     */
+    public List<RequirementResponse> findRevision(Long projectId, int revisionCount, RevisionProjection projection) {
+        String sql = revisionQuery(projection) + "ORDER BY row_kind, type, req_id_code, doc_id, rev_timestamp";
+
+        jakarta.persistence.Query query = entityManager.createNativeQuery(sql)
                 .setParameter("projectId", projectId)
-                .setParameter("targetRevision", revisionCount)
-                .getResultList();
-
-        // 첫 번째 쿼리 결과에서 req_pk 리스트 추출
-        List<Long> reqPkList = results.stream()
-                .map(result -> ((Number) result[0]).longValue())
-                .collect(Collectors.toList());
-
-        // req_pk 리스트가 비어있으면 빈 결과 반환
-        if (reqPkList.isEmpty()) {
-            return Collections.emptyList();
+                .setParameter("revisionCount", revisionCount);
+        if (projection.type() != null) {
+            query.setParameter("type", projection.type());
         }
 
-        String sourcesQuery =
-                "SELECT " +
-                        "  s.req_id_code, " +
-                        "  s.source_id, " +
-                        "  s.page_num, " +
-                        "  s.rel_sentence, " +
-                        "  s.doc_id, " +
-                        "  CASE " +
-                        "    WHEN s.doc_id LIKE '%RFP%' THEN 'RFP' " +
-                        "    ELSE IFNULL(d.name, '') " +
-                        "  END AS doc_name " +
-                        "FROM ( " +
-                        "  SELECT *, ROW_NUMBER() OVER (PARTITION BY req_id_code, doc_id ORDER BY revision_count DESC) AS rn " +
-                        "  FROM td_source_aud " +
-                        "  WHERE revision_count <= :targetRevision " +
-                        "    AND req_pk IN (:reqPkList) " +
-                        ") s " +
-                        "LEFT JOIN tm_documents_aud d ON s.doc_id = d.doc_id " +
-                        "WHERE s.rn = 1 " +
-                        "ORDER BY s.req_id_code, s.doc_id";
-
         @SuppressWarnings("unchecked")
-        List<Object[]> docs = entityManager.createNativeQuery(sourcesQuery)
-                .setParameter("targetRevision", revisionCount)
-                .setParameter("reqPkList", reqPkList)
-                .getResultList();
-
-        // docs를 Map<req_id_code, List<SourceResponse>>로 변환하면서 중복 문서 제거
-        Map<String, List<SourceResponse>> sourcesMap = new HashMap<>();
-
-        for (Object[] doc : docs) {
-            String reqIdCode = (String) doc[0];
-            String docId = (String) doc[4];
-
-            SourceResponse source = new SourceResponse(
-                    ((Number) doc[1]).longValue(), // source_id
-                    docId,                         // doc_id
-                    (String) doc[5],               // doc_name
-                    ((Number) doc[2]).intValue(),  // page_num
-                    (String) doc[3]                // rel_sentence
-            );
-
-            sourcesMap.computeIfAbsent(reqIdCode, k -> new ArrayList<>());
-
-            // 같은 요구사항에서 동일한 doc_id가 이미 있는지 확인
-            boolean docExists = sourcesMap.get(reqIdCode).stream()
-                    .anyMatch(existingSource -> docId.equals(existingSource.docId()));
-
-            if (!docExists) {
-                sourcesMap.get(reqIdCode).add(source);
+        List<Object[]> rows = query.getResultList();
+
+        Map<String, RequirementResponse> requirements = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            String reqIdCode = (String) row[1];
+            if (((Number) row[21]).intValue() == ROW_REQUIREMENT) {
+                requirements.put(reqIdCode, toRevisionResponse(row, revisionCount, projection));
+            } else {
+                appendRevisionRow(requirements.get(reqIdCode), row);
             }
         }
-
-        return results.stream()
-                .map(result -> {
-                    RequirementResponse response = requirementAuditMapper.toDtoResponse(result, revisionCount);
-                    // 해당 요구사항의 소스 목록을 추가
-                    String reqIdCode = (String) result[1]; // req_id_code
-                    List<SourceResponse> sources = sourcesMap.getOrDefault(reqIdCode, Collections.emptyList());
-                    response.setSources(sources);
-                    return response;
-                })
-                .toList();
+        return new ArrayList<>(requirements.values());
     }
 
-    public List<RequirementResponse> findByProjectIdAndRevisionCountToMockup(long projectId, int revisionCount) {
-        System.out.println("=== 디버깅 시작 ===");
-        System.out.println("projectId: " + projectId + ", revisionCount: " + revisionCount);
-
-        String requirementsQuery =
-                "SELECT " +
-                        "  r.req_pk, r.req_id_code, " +
-                        "  r.type, r.level_1, r.level_2, r.level_3, " +
-                        "  r.name, r.description, r.priority, r.difficulty, " +
-                        "  r.modified_date AS modified_date, " +
-                        "  r.created_date AS created_date, " +
-                        "  r.revtype, r.reception " +
-                        "FROM ( " +
-                        "  SELECT *, ROW_NUMBER() OVER (PARTITION BY req_id_code ORDER BY modified_date DESC) AS rn " +
-                        "  FROM td_requirements_aud " +
-                        "  WHERE revision_count <= :targetRevision " +
-                        "    AND project_id_aud = :projectId " +
-                        "    AND revtype <> 2 " +
-                        ") r " +
-                        "WHERE r.rn = 1 " +
-                        "ORDER BY r.req_id_code";
+    /**
+     * findRevision 과 같은 결과를 목록으로 모으지 않고 커서로 읽으며 요구사항마다 consumer 를 호출합니다.
+     * <p>
+     * (유형, 요구사항 ID, 행 종류) 순으로 정렬해 요구사항 하나의 행들이 연속으로 오므로 메모리에는 요구사항 한 건만 둡니다.
+     * 스냅샷은 미리 생성되어 있어야 합니다.
+     */
+    public void streamRevision(Long projectId, int revisionCount, RevisionProjection projection,
+                               Consumer<RequirementResponse> consumer) {
+        String sql = revisionQuery(projection) + "ORDER BY sort_type, req_id_code, row_kind, doc_id, rev_timestamp";
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("revisionCount", revisionCount)
+                .addValue("type", projection.type());
+
+        RequirementResponse[] current = new RequirementResponse[1];
+        streamingJdbcTemplate.query(sql, params, rs -> {
+            int columns = rs.getMetaData().getColumnCount();
+            Object[] row = new Object[columns];
+            for (int i = 0; i < columns; i++) {
+                row[i] = rs.getObject(i + 1);
+            }
+            if (((Number) row[21]).intValue() == ROW_REQUIREMENT) {
+                if (current[0] != null) {
+                    consumer.accept(current[0]);
+                }
+                current[0] = toRevisionResponse(row, revisionCount, projection);
+            } else {
+                appendRevisionRow(current[0], row);
+            }
+        });
+        if (current[0] != null) {
+            consumer.accept(current[0]);
+        }
+    }
 
-        @SuppressWarnings("unchecked")
-        List<Object[]> results = entityManager.createNativeQuery(requirementsQuery)
-                .setParameter("projectId", projectId)
-                .setParameter("targetRevision", revisionCount)
-                .getResultList();
+    /**
+     * 리비전 조회 UNION ALL 쿼리 (ORDER BY 제외)
+     * <p>
+     * 컬럼 0~13 은 RequirementAuditMapper.toDtoResponse(Object[], int) 순서와 동일하며,
+     * sort_type 은 출처/변경 이유 행에도 요구사항의 유형을 담아 요구사항 단위 정렬에 씁니다.
+     */
+    private String revisionQuery(RevisionProjection projection) {
+        String snapshotFilter =
+                "s.project_id = :projectId AND s.revision_count = :revisionCount " +
+                        (projection.type() != null ? "AND s.type = :type " : "");
+
+        StringBuilder sql = new StringBuilder(
+                "SELECT s.req_pk, s.req_id_code, s.type, s.level_1, s.level_2, s.level_3, " +
+                        "  s.name, s.description, s.priority, s.difficulty, s.modified_date, s.created_date, " +
+                        "  s.revtype, s.reception, " +
+                        "  NULL AS source_id, NULL AS doc_id, NULL AS doc_name, NULL AS page_num, NULL AS rel_sentence, " +
+                        "  NULL AS mod_reason, NULL AS rev_timestamp, " + ROW_REQUIREMENT + " AS row_kind, " +
+                        "  s.type AS sort_type " +
+                        "FROM td_requirement_snapshots s " +
+                        "WHERE " + snapshotFilter);
+
+        if (projection.withSources()) {
+            sql.append(
+                    "UNION ALL " +
+                            "SELECT NULL, s.snapshot_code, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, " +
+                            "  s.source_id, s.doc_id, " + DOC_NAME_COLUMN + ", s.page_num, s.rel_sentence, " +
+                            "  NULL, NULL, " + ROW_SOURCE + ", s.snapshot_type " +
+                            "FROM ( " +
+                            "  SELECT sa.*, s.req_id_code AS snapshot_code, s.type AS snapshot_type, " +
+                            "    ROW_NUMBER() OVER (PARTITION BY sa.req_id_code, sa.doc_id ORDER BY sa.revision_count DESC, sa.rev DESC) AS rn " +
+                            "  FROM td_source_aud sa " +
+                            "  JOIN td_requirement_snapshots s ON s.req_pk = sa.req_pk " +
+                            "  WHERE " + snapshotFilter +
+                            "    AND sa.revision_count <= :revisionCount " +
+                            ") s " +
+                            LATEST_DOCUMENT_JOIN +
+                            "WHERE s.rn = 1 ");
+        }
 
-        System.out.println("전체 쿼리 결과 수: " + results.size());
+        if (projection.withModReasons()) {
+            sql.append(
+                    "UNION ALL " +
+                            "SELECT NULL, a.req_id_code, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, " +
+                            "  NULL, NULL, NULL, NULL, NULL, " +
+                            "  a.mod_reason, rev.revtstmp, " + ROW_MOD_REASON + ", s.type " +
+                            "FROM td_requirements_aud a " +
+                            "JOIN revinfo rev ON a.rev = rev.rev " +
+                            "JOIN td_requirement_snapshots s ON s.req_id_code = a.req_id_code " +
+                            "WHERE " + snapshotFilter +
+                            "  AND a.project_id_aud = :projectId " +
+                            "  AND a.revision_count <= :revisionCount ");
+        }
 
-        // 타입별 분포 확인
-        Map<String, Long> typeCount = results.stream()
-                .collect(Collectors.groupingBy(
-                        result -> (String) result[2], // type 컬럼
-                        Collectors.counting()
-                ));
+        return sql.toString();
+    }
 
-        System.out.println("타입별 분포: " + typeCount);
+    private RequirementResponse toRevisionResponse(Object[] row, int revisionCount, RevisionProjection projection) {
+        RequirementResponse response = requirementAuditMapper.toDtoResponse(row, revisionCount);
+        response.setSources(projection.withSources() ? new ArrayList<>() : null);
+        response.setModReason(projection.withModReasons() ? new ArrayList<>() : null);
+        return response;
+    }
 
-        // 처음 몇 개 결과 출력
-        for (int i = 0; i < Math.min(5, results.size()); i++) {
-            Object[] result = results.get(i);
-            System.out.println("결과 " + i + ": req_pk=" + result[0] +
-                    ", req_id_code=" + result[1] +
-                    ", type=" + result[2] +
-                    ", name=" + result[6]);
+    /**
+     * 출처/변경 이유 행을 요구사항에 붙입니다.
+     */
+    private void appendRevisionRow(RequirementResponse requirement, Object[] row) {
+        switch (((Number) row[21]).intValue()) {
+            case ROW_SOURCE -> requirement.getSources().add(new SourceResponse(
+                    ((Number) row[14]).longValue(), // source_id
+                    (String) row[15],               // doc_id
+                    (String) row[16],               // doc_name
+                    ((Number) row[17]).intValue(),  // page_num
+                    (String) row[18]                // rel_sentence
+            ));
+            case ROW_MOD_REASON -> requirement.getModReason()
+                    .add(requirementAuditMapper.toModReasonLine(row[19], row[20]));
+            default -> throw new IllegalStateException("Unknown row kind: " + row[21]);
         }
+    }
 
-        // Java에서 FR 타입만 필터링
-        List<Object[]> frResults = results.stream()
-                .filter(result -> {
-                    String type = (String) result[2];
-                    System.out.println("타입 체크: " + type + " -> " + "FR".equals(type));
-                    return "FR".equals(type);
-                })
-                .collect(Collectors.toList());
-
-        System.out.println("FR 타입 필터링 후 결과 수: " + frResults.size());
-
-        // FR 타입 결과에서 req_pk 리스트 추출
-        List<Long> reqPkList = frResults.stream()
-                .map(result -> ((Number) result[0]).longValue())
+    /**
+     * 리비전 스냅샷에 해당 리비전의 출처를 붙여 반환합니다.
+     */
+    public List<RequirementResponse> findByRevisionSnapshots(List<RequirementSnapshot> snapshots, int revisionCount) {
+        List<Long> reqPkList = snapshots.stream()
+                .map(RequirementSnapshot::getReqPk)
                 .collect(Collectors.toList());
 
-        System.out.println("reqPkList: " + reqPkList);
-
         // req_pk 리스트가 비어있으면 빈 결과 반환
         if (reqPkList.isEmpty()) {
-            System.out.println("reqPkList가 비어있음 - 빈 결과 반환");
             return Collections.emptyList();
         }
 
@@ -266,17 +361,14 @@ public class RequirementAuditRepository {
                         "  s.page_num, " +
                         "  s.rel_sentence, " +
                         "  s.doc_id, " +
-                        "  CASE " +
-                        "    WHEN s.doc_id LIKE '%RFP%' THEN 'RFP' " +
-                        "    ELSE IFNULL(d.name, '') " +
-                        "  END AS doc_name " +
+                        DOC_NAME_COLUMN +
                         "FROM ( " +
-                        "  SELECT *, ROW_NUMBER() OVER (PARTITION BY req_id_code, doc_id ORDER BY revision_count DESC) AS rn " +
+                        "  SELECT *, ROW_NUMBER() OVER (PARTITION BY req_id_code, doc_id ORDER BY revision_count DESC, rev DESC) AS rn " +
                         "  FROM td_source_aud " +
                         "  WHERE revision_count <= :targetRevision " +
                         "    AND req_pk IN (:reqPkList) " +
                         ") s " +
-                        "LEFT JOIN tm_documents_aud d ON s.doc_id = d.doc_id " +
+                        LATEST_DOCUMENT_JOIN +
                         "WHERE s.rn = 1 " +
                         "ORDER BY s.req_id_code, s.doc_id";
 
@@ -286,83 +378,89 @@ public class RequirementAuditRepository {
                 .setParameter("reqPkList", reqPkList)
                 .getResultList();
 
-        System.out.println("소스 쿼리 결과 수: " + docs.size());
-
-        // docs를 Map<req_id_code, List<SourceResponse>>로 변환하면서 중복 문서 제거
+        // (req_id_code, doc_id) 별 최신 출처 한 건만 조회되므로 그대로 묶음
         Map<String, List<SourceResponse>> sourcesMap = new HashMap<>();
-
         for (Object[] doc : docs) {
-            String reqIdCode = (String) doc[0];
-            String docId = (String) doc[4];
-
-            SourceResponse source = new SourceResponse(
-                    ((Number) doc[1]).longValue(), // source_id
-                    docId,                         // doc_id
-                    (String) doc[5],               // doc_name
-                    ((Number) doc[2]).intValue(),  // page_num
-                    (String) doc[3]                // rel_sentence
-            );
-
-            sourcesMap.computeIfAbsent(reqIdCode, k -> new ArrayList<>());
-
-            // 같은 요구사항에서 동일한 doc_id가 이미 있는지 확인
-            boolean docExists = sourcesMap.get(reqIdCode).stream()
-                    .anyMatch(existingSource -> docId.equals(existingSource.docId()));
-
-            if (!docExists) {
-                sourcesMap.get(reqIdCode).add(source);
-            }
+            sourcesMap.computeIfAbsent((String) doc[0], k -> new ArrayList<>())
+                    .add(new SourceResponse(
+                            ((Number) doc[1]).longValue(), // source_id
+                            (String) doc[4],               // doc_id
+                            (String) doc[5],               // doc_name
+                            ((Number) doc[2]).intValue(),  // page_num
+                            (String) doc[3]                // rel_sentence
+                    ));
         }
 
-        // FR 타입 결과만 사용해서 최종 응답 생성
-        List<RequirementResponse> finalResult = frResults.stream()
-                .map(result -> {
-                    RequirementResponse response = requirementAuditMapper.toDtoResponse(result, revisionCount);
+        return snapshots.stream()
+                .map(snapshot -> {
+                    RequirementResponse response = requirementAuditMapper.toDtoResponse(snapshot, revisionCount);
                     // 해당 요구사항의 소스 목록을 추가
-                    String reqIdCode = (String) result[1]; // req_id_code
-                    List<SourceResponse> sources = sourcesMap.getOrDefault(reqIdCode, Collections.emptyList());
+                    List<SourceResponse> sources = sourcesMap.getOrDefault(snapshot.getReqIdCode(), Collections.emptyList());
                     response.setSources(sources);
                     return response;
                 })
                 .toList();
+    }
 
-        System.out.println("최종 결과 수: " + finalResult.size());
-        System.out.println("=== 디버깅 끝 ===");
+    /**
+     * 리비전 스냅샷에서 조건에 맞는 요구사항을 (type, req_id_code) 순으로 limit 건 조회합니다.
+     * 검색어(query)는 검색 색인({@link com.skala.decase.domain.requirement.service.RequirementSearchIndexService})에서 처리하므로 여기서는 보지 않습니다.
+     * 커서(cursorReqIdCode)가 주어지면 해당 위치 다음부터 조회하며, 커서의 유형은 null 일 수 있습니다.
+     */
+    public List<RequirementSnapshot> searchRevisionSnapshots(Long projectId, int revisionCount,
+                                                             RequirementSearchCondition condition,
+                                                             String cursorType, String cursorReqIdCode, int limit) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT s.* FROM td_requirement_snapshots s " +
+                        "WHERE s.project_id = :projectId " +
+                        "AND s.revision_count = :revisionCount ");
+        Map<String, Object> params = new HashMap<>();
+        params.put("projectId", projectId);
+        params.put("revisionCount", revisionCount);
+
+        appendEquals(sql, params, "level_1", "level1", condition.level1());
+        appendEquals(sql, params, "level_2", "level2", condition.level2());
+        appendEquals(sql, params, "level_3", "level3", condition.level3());
+        appendEquals(sql, params, "type", "type", condition.type());
+        appendEquals(sql, params, "difficulty", "difficulty", condition.difficulty());
+        appendEquals(sql, params, "priority", "priority", condition.priority());
+
+        if (condition.docTypes() != null) {
+            // 출처 문서 ID 의 접두어(예: RFP-1 -> RFP)로 필터링
+            sql.append("AND EXISTS ( " +
+                    "SELECT 1 FROM td_source_aud sa " +
+                    "WHERE sa.req_pk = s.req_pk " +
+                    "AND sa.revision_count <= :revisionCount " +
+                    "AND SUBSTRING_INDEX(sa.doc_id, '-', 1) IN (:docTypes)) ");
+            params.put("docTypes", condition.docTypes().isEmpty() ? List.of("") : condition.docTypes());
+        }
 
-        return finalResult;
-    }
+        // 유형이 null 인 행을 먼저 정렬합니다. 비교 연산은 null 을 거르므로 null 유형 커서는 따로 조건을 둡니다.
+        if (cursorReqIdCode != null) {
+            if (cursorType == null) {
+                sql.append("AND ((s.type IS NULL AND s.req_id_code > :cursorReqIdCode) OR s.type IS NOT NULL) ");
+            } else {
+                sql.append("AND (s.type > :cursorType OR (s.type = :cursorType AND s.req_id_code > :cursorReqIdCode)) ");
+                params.put("cursorType", cursorType);
+            }
+            params.put("cursorReqIdCode", cursorReqIdCode);
+        }
+        sql.append("ORDER BY s.type IS NOT NULL, s.type, s.req_id_code LIMIT :limit");
+        params.put("limit", limit);
 
-    public List<RequirementResponse> findByProjectIdAndRevisionCountToUpdate(Long projectId, int revisionCount) {
-        String requirementsQuery =
-                "SELECT " +
-                        "  r.req_pk, r.req_id_code, " +
-                        "  r.type, r.level_1, r.level_2, r.level_3, " +
-                        "  r.name, r.description, r.priority, r.difficulty, " +
-                        "  r.modified_date AS modified_date, " +
-                        "  r.created_date AS created_date, " +
-                        "  r.revtype, r.reception " +
-                        "FROM ( " +
-                        "  SELECT *, ROW_NUMBER() OVER (PARTITION BY req_id_code ORDER BY modified_date DESC) AS rn " +
-                        "  FROM td_requirements_aud " +
-                        "  WHERE revision_count <= :targetRevision " +
-                        "    AND project_id_aud = :projectId " +
-                        "    AND revtype <> 2 " +
-                        ") r " +
-                        "WHERE r.rn = 1 " +
-                        "ORDER BY r.req_id_code";
+        jakarta.persistence.Query query = entityManager.createNativeQuery(sql.toString(), RequirementSnapshot.class);
+        params.forEach(query::setParameter);
 
         @SuppressWarnings("unchecked")
-        List<Object[]> results = entityManager.createNativeQuery(requirementsQuery)
-                .setParameter("projectId", projectId)
-                .setParameter("targetRevision", revisionCount)
-                .getResultList();
+        List<RequirementSnapshot> results = query.getResultList();
+        return results;
+    }
 
-        return results.stream()
-                .map(result -> {
-                    RequirementResponse response = requirementAuditMapper.toDtoResponse(result, revisionCount);
-                    response.setSources(null);
-                    return response;
-                })
-                .toList();
+    private void appendEquals(StringBuilder sql, Map<String, Object> params, String column, String param, String value) {
+        if (value == null) {
+            return;
+        }
+        sql.append("AND s.").append(column).append(" = :").append(param).append(' ');
+        params.put(param, value);
     }
 }
@@ -0,0 +1,197 @@
+package com.skala.decase.domain.requirement.repository;
+
+import com.skala.decase.domain.requirement.domain.Requirement;
+import com.skala.decase.domain.source.domain.Source;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 엑셀 가져오기용 요구사항, 출처 일괄 조회와 추가
+ * <p>
+ * 행마다 엔티티를 읽지 않도록 비교에 필요한 열만 한 번에 읽습니다.
+ * 요구사항과 출처 키가 IDENTITY 라 Hibernate 는 INSERT 를 묶어 보내지 않으므로 추가는 JDBC 배치로 넣습니다.
+ * 넣은 행의 감사 기록은 호출한 쪽이 Envers 에 알려야 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RequirementImportRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 삭제되지 않은 현재 요구사항. 문자열 항목은 엑셀 값과 비교할 수 있도록 앞뒤 공백을 지우고 빈 값은 null 로 둡니다.
+     */
+    public record CurrentRequirement(
+            long reqPk,
+            String reqIdCode,
+            int revisionCount,
+            String type,
+            String reception,
+            String level1,
+            String level2,
+            String level3,
+            String name,
+            String description,
+            String priority,
+            String difficulty
+    ) {
+    }
+
+    /**
+     * 요구사항에 이미 붙은 출처
+     */
+    public record SourceKey(long reqPk, RequirementImportRow.Source source) {
+    }
+
+    /**
+     * 요구사항 ID 별 삭제되지 않은 현재 요구사항
+     */
+    public Map<String, CurrentRequirement> findCurrent(long projectId, Collection<String> reqIdCodes) {
+        Map<String, CurrentRequirement> result = new HashMap<>();
+        if (reqIdCodes.isEmpty()) {
+            return result;
+        }
+        String sql =
+                "SELECT req_pk, req_id_code, revision_count, type, reception, level_1, level_2, level_3, " +
+                        "  name, description, priority, difficulty " +
+                        "FROM td_requirements " +
+                        "WHERE project_id = :projectId AND is_deleted = false AND req_id_code IN (:reqIdCodes)";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("reqIdCodes", reqIdCodes);
+
+        jdbcTemplate.query(sql, params, (RowCallbackHandler) rs -> {
+            CurrentRequirement current = new CurrentRequirement(
+                    rs.getLong("req_pk"),
+                    rs.getString("req_id_code"),
+                    rs.getInt("revision_count"),
+                    rs.getString("type"),
+                    rs.getString("reception"),
+                    normalize(rs.getString("level_1")),
+                    normalize(rs.getString("level_2")),
+                    normalize(rs.getString("level_3")),
+                    normalize(rs.getString("name")),
+                    normalize(rs.getString("description")),
+                    rs.getString("priority"),
+                    rs.getString("difficulty")
+            );
+            result.put(current.reqIdCode(), current);
+        });
+        return result;
+    }
+
+    /**
+     * 요구사항들의 기존 출처. 같은 출처를 두 번 넣지 않는 데 씁니다.
+     */
+    public Set<SourceKey> findSourceKeys(Collection<Long> reqPks) {
+        Set<SourceKey> result = new HashSet<>();
+        if (reqPks.isEmpty()) {
+            return result;
+        }
+        String sql = "SELECT req_pk, doc_id, page_num, rel_sentence FROM td_source WHERE req_pk IN (:reqPks)";
+        jdbcTemplate.query(sql, new MapSqlParameterSource("reqPks", reqPks), (RowCallbackHandler) rs ->
+                result.add(new SourceKey(
+                        rs.getLong("req_pk"),
+                        new RequirementImportRow.Source(
+                                rs.getString("doc_id"),
+                                rs.getInt("page_num"),
+                                normalize(rs.getString("rel_sentence"))))));
+        return result;
+    }
+
+    /**
+     * 새 요구사항을 한 번의 배치로 넣고 생성된 키를 넣은 순서대로 돌려줍니다.
+     */
+    public List<Long> insertRequirements(List<Requirement> requirements) {
+        String sql =
+                "INSERT INTO td_requirements (req_id_code, revision_count, type, reception, level_1, level_2, level_3, " +
+                        "  name, description, priority, difficulty, created_date, modified_date, is_deleted, " +
+                        "  deleted_revision, mod_reason, project_id, project_id_aud, member_id, member_id_mod) " +
+                        "VALUES (:reqIdCode, :revisionCount, :type, :reception, :level1, :level2, :level3, " +
+                        "  :name, :description, :priority, :difficulty, :createdDate, :modifiedDate, :isDeleted, " +
+                        "  :deletedRevision, :modReason, :projectId, :projectIdAud, :memberId, :modifiedBy)";
+        SqlParameterSource[] params = requirements.stream()
+                .map(requirement -> new MapSqlParameterSource()
+                        .addValue("reqIdCode", requirement.getReqIdCode())
+                        .addValue("revisionCount", requirement.getRevisionCount())
+                        .addValue("type", name(requirement.getType()), Types.VARCHAR)
+                        .addValue("reception", name(requirement.getReception()), Types.VARCHAR)
+                        .addValue("level1", requirement.getLevel1(), Types.VARCHAR)
+                        .addValue("level2", requirement.getLevel2(), Types.VARCHAR)
+                        .addValue("level3", requirement.getLevel3(), Types.VARCHAR)
+                        .addValue("name", requirement.getName())
+                        .addValue("description", requirement.getDescription(), Types.VARCHAR)
+                        .addValue("priority", name(requirement.getPriority()), Types.VARCHAR)
+                        .addValue("difficulty", name(requirement.getDifficulty()), Types.VARCHAR)
+                        .addValue("createdDate", requirement.getCreatedDate())
+                        .addValue("modifiedDate", requirement.getModifiedDate(), Types.TIMESTAMP)
+                        .addValue("isDeleted", requirement.isDeleted())
+                        .addValue("deletedRevision", requirement.getDeletedRevision())
+                        .addValue("modReason", requirement.getModReason(), Types.VARCHAR)
+                        .addValue("projectId", requirement.getProject().getProjectId())
+                        .addValue("projectIdAud", requirement.getProjectIdAud(), Types.BIGINT)
+                        .addValue("memberId", requirement.getCreatedBy().getMemberId())
+                        .addValue("modifiedBy", requirement.getModifiedBy() == null
+                                ? null : requirement.getModifiedBy().getMemberId(), Types.BIGINT))
+                .toArray(SqlParameterSource[]::new);
+        return insert(sql, params, "req_pk");
+    }
+
+    /**
+     * 새 출처를 한 번의 배치로 넣고 생성된 키를 넣은 순서대로 돌려줍니다.
+     */
+    public List<Long> insertSources(List<Source> sources) {
+        String sql =
+                "INSERT INTO td_source (req_pk, req_id_code, revision_count, doc_id, page_num, rel_sentence) " +
+                        "VALUES (:reqPk, :reqIdCode, :revisionCount, :docId, :pageNum, :relSentence)";
+        SqlParameterSource[] params = sources.stream()
+                .map(source -> new MapSqlParameterSource()
+                        .addValue("reqPk", source.getRequirement().getReqPk())
+                        .addValue("reqIdCode", source.getReqIdCode())
+                        .addValue("revisionCount", source.getRevisionCount())
+                        .addValue("docId", source.getDocument().getDocId())
+                        .addValue("pageNum", source.getPageNum())
+                        .addValue("relSentence", source.getRelSentence()))
+                .toArray(SqlParameterSource[]::new);
+        return insert(sql, params, "source_id");
+    }
+
+    private List<Long> insert(String sql, SqlParameterSource[] params, String keyColumn) {
+        if (params.length == 0) {
+            return List.of();
+        }
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(sql, params, keyHolder, new String[]{keyColumn});
+        List<Long> keys = keyHolder.getKeyList().stream()
+                .map(key -> ((Number) key.values().iterator().next()).longValue())
+                .toList();
+        if (keys.size() != params.length) {
+            throw new IllegalStateException("생성된 키 수가 넣은 행 수와 다릅니다: " + keys.size() + "/" + params.length);
+        }
+        return keys;
+    }
+
+    private static String name(Enum<?> value) {
+        return value == null ? null : value.name();
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
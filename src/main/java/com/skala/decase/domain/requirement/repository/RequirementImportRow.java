@@ -0,0 +1,59 @@
+package com.skala.decase.domain.requirement.repository;
+
+import com.skala.decase.domain.requirement.domain.Difficulty;
+import com.skala.decase.domain.requirement.domain.Priority;
+import com.skala.decase.domain.requirement.domain.Reception;
+import com.skala.decase.domain.requirement.domain.RequirementType;
+import java.util.List;
+
+/**
+ * 엑셀에서 읽어 검증을 마친 요구사항 한 행
+ * <p>
+ * 빈 셀은 null 입니다. 수정할 때는 어느 항목이든 null 이면 기존 값을 유지하고
+ * ({@link com.skala.decase.domain.requirement.domain.Requirement#updateFromPending} 와 같은 규칙),
+ * 추가할 때는 값이 없는 항목으로 둡니다. 수용 여부만 추가할 때 기본값(수용)이 있습니다.
+ */
+public record RequirementImportRow(
+        int rowNum,
+        String reqIdCode,
+        RequirementType type,
+        String level1,
+        String level2,
+        String level3,
+        String name,
+        String description,
+        Priority priority,
+        Difficulty difficulty,
+        Reception reception,
+        List<Source> sources
+) {
+
+    /**
+     * 출처 한 건. 문서는 프로젝트 안에서 이름으로 찾은 문서 ID 입니다.
+     */
+    public record Source(String docId, int pageNum, String relSentence) {
+    }
+
+    /**
+     * 이 행으로 수정하면 현재 요구사항의 항목 값이 바뀌는지 (출처 제외). 빈 셀은 바꾸지 않으므로 비교하지 않습니다.
+     */
+    public boolean differsFrom(RequirementImportRepository.CurrentRequirement current) {
+        return changes(name(type), current.type())
+                || changes(level1, current.level1())
+                || changes(level2, current.level2())
+                || changes(level3, current.level3())
+                || changes(name, current.name())
+                || changes(description, current.description())
+                || changes(name(priority), current.priority())
+                || changes(name(difficulty), current.difficulty())
+                || changes(name(reception), current.reception());
+    }
+
+    private static boolean changes(String value, String current) {
+        return value != null && !value.equals(current);
+    }
+
+    private static String name(Enum<?> value) {
+        return value == null ? null : value.name();
+    }
+}
@@ -54,7 +54,19 @@ public interface RequirementRepository extends JpaRepository<Requirement, Long>
     @Query("SELECT MAX(r.revisionCount) FROM Requirement r WHERE r.project = :project")
     Integer getMaxRevisionCount(Project project);
 
-    Optional<Requirement> findFirstByProjectAndRevisionCount(Project project, int revisionCount);
+    /**
+     * 리비전별 요구사항 수와 최초 생성일 (리비전 내림차순)
+     *
+     * @return [revisionCount, MIN(createdDate), COUNT]
+     */
+    @Query("""
+            SELECT r.revisionCount, MIN(r.createdDate), COUNT(r)
+            FROM Requirement r
+            WHERE r.project = :project
+            GROUP BY r.revisionCount
+            ORDER BY r.revisionCount DESC
+            """)
+    List<Object[]> findRevisionSummaries(@Param("project") Project project);
 
     /**
      * 해당 프로젝트 내에서 가장 큰 revision count가 큰 수를 찾아옴
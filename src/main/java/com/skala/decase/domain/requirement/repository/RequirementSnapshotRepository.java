@@ -0,0 +1,59 @@
+package com.skala.decase.domain.requirement.repository;
+
+import com.skala.decase.domain.requirement.domain.RequirementSnapshot;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RequirementSnapshotRepository extends JpaRepository<RequirementSnapshot, Long> {
+
+    /**
+     * 감사 테이블로부터 특정 리비전의 스냅샷을 생성합니다.
+     * 같은 리비전은 {@link RequirementSnapshotRevisionRepository#insertMarker} 로 한 트랜잭션만 생성합니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO td_requirement_snapshots
+                (project_id, revision_count, req_pk, req_id_code, type, level_1, level_2, level_3,
+                 name, description, priority, difficulty, reception, revtype, created_date, modified_date)
+            SELECT :projectId, :revisionCount, r.req_pk, r.req_id_code, r.type, r.level_1, r.level_2, r.level_3,
+                   r.name, r.description, r.priority, r.difficulty, r.reception, r.revtype, r.created_date, r.modified_date
+            FROM (
+                SELECT *, ROW_NUMBER() OVER (PARTITION BY req_id_code ORDER BY modified_date DESC) AS rn
+                FROM td_requirements_aud
+                WHERE revision_count <= :revisionCount
+                  AND project_id_aud = :projectId
+                  AND revtype <> 2
+            ) r
+            WHERE r.rn = 1
+            """, nativeQuery = true)
+    int materialize(@Param("projectId") Long projectId, @Param("revisionCount") int revisionCount);
+
+    /**
+     * 생성 표시 없이 남은 리비전의 스냅샷 삭제
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM td_requirement_snapshots
+            WHERE project_id = :projectId
+              AND revision_count = :revisionCount
+            """, nativeQuery = true)
+    int deleteRevision(@Param("projectId") Long projectId, @Param("revisionCount") int revisionCount);
+
+    /**
+     * 변경이 반영된 리비전 이후의 스냅샷 삭제
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM td_requirement_snapshots
+            WHERE project_id = :projectId
+              AND revision_count >= :fromRevision
+            """, nativeQuery = true)
+    int deleteFromRevision(@Param("projectId") Long projectId, @Param("fromRevision") int fromRevision);
+
+    @Query(value = "SELECT MAX(revision_count) FROM td_requirements_aud WHERE project_id_aud = :projectId",
+            nativeQuery = true)
+    Optional<Integer> findLatestAuditedRevision(@Param("projectId") Long projectId);
+}
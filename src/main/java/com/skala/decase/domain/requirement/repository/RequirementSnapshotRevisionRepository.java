@@ -0,0 +1,41 @@
+package com.skala.decase.domain.requirement.repository;
+
+import com.skala.decase.domain.requirement.domain.RequirementSnapshotRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RequirementSnapshotRevisionRepository extends JpaRepository<RequirementSnapshotRevision, Long> {
+
+    boolean existsByProjectIdAndRevisionCount(Long projectId, int revisionCount);
+
+    /**
+     * 리비전 생성 표시를 넣습니다. 같은 리비전을 생성 중인 트랜잭션이 있으면 그 트랜잭션이 끝날 때까지 기다리며,
+     * 그 트랜잭션이 커밋되면 유니크 키 위반으로 실패합니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO td_requirement_snapshot_revisions (project_id, revision_count, row_count, created_date)
+            VALUES (:projectId, :revisionCount, 0, CURRENT_TIMESTAMP)
+            """, nativeQuery = true)
+    int insertMarker(@Param("projectId") Long projectId, @Param("revisionCount") int revisionCount);
+
+    @Modifying
+    @Query(value = """
+            UPDATE td_requirement_snapshot_revisions
+            SET row_count = :rowCount
+            WHERE project_id = :projectId
+              AND revision_count = :revisionCount
+            """, nativeQuery = true)
+    int updateRowCount(@Param("projectId") Long projectId, @Param("revisionCount") int revisionCount,
+                       @Param("rowCount") int rowCount);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM td_requirement_snapshot_revisions
+            WHERE project_id = :projectId
+              AND revision_count >= :fromRevision
+            """, nativeQuery = true)
+    int deleteFromRevision(@Param("projectId") Long projectId, @Param("fromRevision") int fromRevision);
+}
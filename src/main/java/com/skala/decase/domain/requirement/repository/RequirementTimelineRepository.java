@@ -0,0 +1,98 @@
+package com.skala.decase.domain.requirement.repository;
+
+import com.skala.decase.domain.requirement.domain.RequirementTimeline;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 프로젝트의 감사 이력 전체를 읽어 {@link RequirementTimeline} 을 구성합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RequirementTimelineRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 세 쿼리가 같은 시점을 보도록, 또 호출한 쪽 트랜잭션의 오래된 읽기 시점을 쓰지 않도록 새 트랜잭션에서 읽습니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public RequirementTimeline load(Long projectId) {
+        RequirementTimeline.Builder builder = RequirementTimeline.builder();
+        MapSqlParameterSource params = new MapSqlParameterSource("projectId", projectId);
+
+        String requirementsSql =
+                "SELECT a.req_pk, a.req_id_code, a.revision_count, a.type, a.reception, " +
+                        "  a.level_1, a.level_2, a.level_3, a.name, a.description, a.priority, a.difficulty, " +
+                        "  a.revtype, a.is_deleted, a.created_date, a.modified_date, a.rev, a.mod_reason, rev.revtstmp " +
+                        "FROM td_requirements_aud a " +
+                        "JOIN revinfo rev ON a.rev = rev.rev " +
+                        "WHERE a.project_id_aud = :projectId";
+
+        jdbcTemplate.query(requirementsSql, params, (RowCallbackHandler) rs -> builder.version(
+                new RequirementTimeline.Version(
+                        rs.getLong("req_pk"),
+                        rs.getString("req_id_code"),
+                        rs.getInt("revision_count"),
+                        rs.getString("type"),
+                        rs.getString("reception"),
+                        rs.getString("level_1"),
+                        rs.getString("level_2"),
+                        rs.getString("level_3"),
+                        rs.getString("name"),
+                        rs.getString("description"),
+                        rs.getString("priority"),
+                        rs.getString("difficulty"),
+                        rs.getInt("revtype"),
+                        rs.getBoolean("is_deleted"),
+                        toLocalDateTime(rs.getTimestamp("created_date")),
+                        toLocalDateTime(rs.getTimestamp("modified_date")),
+                        rs.getLong("rev")
+                ),
+                rs.getLong("revtstmp"),
+                rs.getString("mod_reason")));
+
+        String sourcesSql =
+                "SELECT sa.source_id, sa.req_pk, sa.doc_id, sa.page_num, sa.rel_sentence, sa.revision_count, sa.rev " +
+                        "FROM td_source_aud sa " +
+                        "WHERE sa.req_pk IN ( " +
+                        "  SELECT DISTINCT req_pk FROM td_requirements_aud WHERE project_id_aud = :projectId " +
+                        ")";
+
+        jdbcTemplate.query(sourcesSql, params, (RowCallbackHandler) rs -> builder.source(
+                new RequirementTimeline.SourceVersion(
+                        rs.getLong("source_id"),
+                        rs.getLong("req_pk"),
+                        rs.getString("doc_id"),
+                        rs.getInt("page_num"),
+                        rs.getString("rel_sentence"),
+                        rs.getInt("revision_count"),
+                        rs.getLong("rev")
+                )));
+
+        // rev 순으로 읽어 문서별 마지막 이름이 남도록 함
+        String documentsSql =
+                "SELECT d.doc_id, d.name FROM tm_documents_aud d " +
+                        "WHERE d.project_id = :projectId " +
+                        "ORDER BY d.rev";
+
+        jdbcTemplate.query(documentsSql, params, (RowCallbackHandler) rs -> {
+            if (rs.getString("name") != null) {
+                builder.docName(rs.getString("doc_id"), rs.getString("name"));
+            }
+        });
+
+        return builder.build();
+    }
+
+    private LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
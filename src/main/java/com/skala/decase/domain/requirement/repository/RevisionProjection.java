@@ -0,0 +1,30 @@
+package com.skala.decase.domain.requirement.repository;
+
+/**
+ * 리비전 조회 시 함께 가져올 항목
+ *
+ * @param withSources    출처(문서명 포함) 포함 여부
+ * @param withModReasons 변경 이유 이력 포함 여부
+ * @param type           요구사항 유형(FR, NFR) 필터. null 이면 전체
+ */
+public record RevisionProjection(
+        boolean withSources,
+        boolean withModReasons,
+        String type
+) {
+
+    /**
+     * 요구사항 정의서 미리보기/다운로드용. 출처와 변경 이유 포함
+     */
+    public static final RevisionProjection FULL = new RevisionProjection(true, true, null);
+
+    /**
+     * 요구사항 정의서 업데이트 요청용. 요구사항 본문만 포함
+     */
+    public static final RevisionProjection REQUIREMENTS_ONLY = new RevisionProjection(false, false, null);
+
+    /**
+     * 목업 생성용. 기능 요구사항과 출처만 포함
+     */
+    public static final RevisionProjection FUNCTIONAL_WITH_SOURCES = new RevisionProjection(true, false, "FR");
+}
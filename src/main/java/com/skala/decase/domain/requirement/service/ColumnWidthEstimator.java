@@ -0,0 +1,88 @@
+package com.skala.decase.domain.requirement.service;
+
+/**
+ * 엑셀 컬럼 너비 추정기
+ * <p>
+ * 셀을 쓸 때마다 컬럼별 최대 표시 폭을 기록해 두었다가 한 번에 너비를 정합니다.
+ * 폰트 측정(autoSizeColumn) 없이 글자 수로만 계산하므로 AWT 와 폰트가 필요 없습니다.
+ * 한글/한자/가나/전각 문자는 두 칸, 나머지는 한 칸으로 세고, 여러 줄인 값은 가장 긴 줄을 기준으로 합니다.
+ */
+final class ColumnWidthEstimator {
+
+    private static final int UNIT = 256;              // 엑셀 너비 단위: 글자 폭의 1/256
+    private static final int PADDING = 2;             // 좌우 여백 (칸)
+    private static final int HEADER_SCALE_PERCENT = 120;  // 헤더는 굵은 12pt 라 조금 넓게
+
+    private final int[] maxUnits;
+    private final int maxWidth;
+
+    ColumnWidthEstimator(int columns, int maxWidth) {
+        this.maxUnits = new int[columns];
+        this.maxWidth = maxWidth;
+    }
+
+    void header(int column, String value) {
+        record(column, displayUnits(value) * HEADER_SCALE_PERCENT / 100);
+    }
+
+    void cell(int column, String value) {
+        record(column, displayUnits(value));
+    }
+
+    /**
+     * POI 단위 컬럼 너비. 최대 너비를 넘지 않습니다.
+     */
+    int width(int column) {
+        if (column >= maxUnits.length) {
+            return maxWidth;
+        }
+        long width = (long) (maxUnits[column] + PADDING) * UNIT;
+        return (int) Math.min(width, maxWidth);
+    }
+
+    private void record(int column, int units) {
+        if (column < maxUnits.length && units > maxUnits[column]) {
+            maxUnits[column] = units;
+        }
+    }
+
+    /**
+     * 가장 긴 줄의 표시 폭(칸)
+     */
+    static int displayUnits(String value) {
+        if (value == null || value.isEmpty()) {
+            return 0;
+        }
+        int max = 0;
+        int line = 0;
+        for (int i = 0; i < value.length(); ) {
+            int cp = value.codePointAt(i);
+            i += Character.charCount(cp);
+            if (cp == '\n') {
+                max = Math.max(max, line);
+                line = 0;
+            } else if (cp != '\r') {
+                line += isWide(cp) ? 2 : 1;
+            }
+        }
+        return Math.max(max, line);
+    }
+
+    /**
+     * 동아시아 전각(두 칸) 문자 여부
+     */
+    private static boolean isWide(int cp) {
+        return (cp >= 0x1100 && cp <= 0x115F)      // 한글 자모 (초성)
+                || (cp >= 0x2E80 && cp <= 0x303E)  // CJK 부수, 기호
+                || (cp >= 0x3041 && cp <= 0x33FF)  // 가나, 호환 자모, CJK 호환
+                || (cp >= 0x3400 && cp <= 0x4DBF)  // CJK 확장 A
+                || (cp >= 0x4E00 && cp <= 0x9FFF)  // CJK 통합 한자
+                || (cp >= 0xA960 && cp <= 0xA97F)  // 한글 자모 확장 A
+                || (cp >= 0xAC00 && cp <= 0xD7A3)  // 한글 음절
+                || (cp >= 0xF900 && cp <= 0xFAFF)  // CJK 호환 한자
+                || (cp >= 0xFE30 && cp <= 0xFE4F)  // CJK 호환 형태
+                || (cp >= 0xFF00 && cp <= 0xFF60)  // 전각 ASCII
+                || (cp >= 0xFFE0 && cp <= 0xFFE6)  // 전각 기호
+                || (cp >= 0x20000 && cp <= 0x3FFFD);  // CJK 확장 B 이후
+    }
+}
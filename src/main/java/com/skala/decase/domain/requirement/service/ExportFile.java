@@ -0,0 +1,103 @@
+package com.skala.decase.domain.requirement.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+
+/**
+ * 디스크에 저장된 내보내기 결과를 연 파일
+ * <p>
+ * 파일을 연 상태로 넘기므로 응답을 쓰기 전에 무효화로 파일이 지워져도 연 내용을 끝까지 읽을 수 있습니다.
+ * 응답에 쓰지 않으면 {@link #close()} 를 호출해야 합니다.
+ *
+ * @param path    결과 파일
+ * @param length  파일 크기 (byte)
+ * @param etag    파일 이름, 수정 시각, 크기로 만든 강한 ETag (따옴표 포함)
+ * @param channel 읽기용으로 연 파일
+ */
+public record ExportFile(
+        Path path,
+        long length,
+        String etag,
+        FileChannel channel
+) implements Closeable {
+
+    /**
+     * 파일을 열고 연 파일의 속성으로 ETag 를 만듭니다. 여는 도중 파일이 교체되면 다시 엽니다.
+     *
+     * @throws java.nio.file.NoSuchFileException 파일이 없음
+     */
+    public static ExportFile open(Path path) throws IOException {
+        while (true) {
+            BasicFileAttributes before = Files.readAttributes(path, BasicFileAttributes.class);
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                BasicFileAttributes after = Files.readAttributes(path, BasicFileAttributes.class);
+                if (sameFile(before, after)) {
+                    return new ExportFile(path, channel.size(), etag(path, after), channel);
+                }
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+            channel.close();
+        }
+    }
+
+    private static boolean sameFile(BasicFileAttributes before, BasicFileAttributes after) {
+        if (before.fileKey() != null) {
+            return Objects.equals(before.fileKey(), after.fileKey());
+        }
+        return before.lastModifiedTime().equals(after.lastModifiedTime()) && before.size() == after.size();
+    }
+
+    private static String etag(Path path, BasicFileAttributes attributes) {
+        String name = path.getFileName().toString();
+        return "\"" + name.substring(0, name.lastIndexOf('.'))
+                + "-" + Long.toHexString(attributes.lastModifiedTime().toMillis())
+                + "-" + Long.toHexString(attributes.size()) + "\"";
+    }
+
+    /**
+     * 처음부터 읽는 스트림. 스트림을 닫으면 파일도 닫힙니다.
+     */
+    public InputStream inputStream() {
+        return Channels.newInputStream(channel);
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // 읽기 전용
+        }
+    }
+
+    /**
+     * If-None-Match 헤더가 이 파일과 일치하는지 여부
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            // If-None-Match 는 약한 비교
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,292 @@
+package com.skala.decase.domain.requirement.service;
+
+import com.skala.decase.domain.project.domain.Project;
+import com.skala.decase.domain.project.service.ProjectService;
+import com.skala.decase.domain.requirement.domain.ExportType;
+import com.skala.decase.domain.requirement.event.RequirementChangedEvent;
+import jakarta.annotation.PostConstruct;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 엑셀 내보내기 작업을 전용 스레드 풀에서 실행하고 결과를 디스크에 보관합니다.
+ * <p>
+ * 결과는 (프로젝트, 리비전, 종류, 형식 버전) 마다 {path}/{projectId}/{종류}-{리비전}-v{형식 버전}.xlsx 로 저장하며,
+ * 같은 결과를 동시에 요청하면 하나의 작업을 함께 기다립니다.
+ * 변경이 커밋되면 영향을 받는 리비전의 결과만 지우므로 지난 리비전은 한 번 만든 파일을 계속 씁니다.
+ * 작업 도중 변경이 커밋된 결과는 캐시하지 않고 .stale 파일로 그 작업을 기다린 요청에만 내려주며,
+ * 보관 시간이 지난 .stale 파일은 다음 작업이나 무효화 때 지웁니다.
+ * 결과는 연 파일로 돌려주므로 응답을 쓰는 도중 무효화로 파일이 지워져도 끝까지 내려줄 수 있습니다.
+ */
+@Slf4j
+@Service
+public class ExportJobService {
+
+    private static final String EXTENSION = ".xlsx";
+    private static final String STALE_EXTENSION = ".stale";
+    private static final long STALE_RETENTION_MILLIS = 10 * 60 * 1000L;
+
+    private final RequirementService requirementService;
+    private final RequirementMatrixService requirementMatrixService;
+    private final ProjectService projectService;
+    private final ExelExportService exelExportService;
+    private final Executor exportTaskExecutor;
+    private final Path exportPath;
+
+    private final Map<ExportKey, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+    // this 로 동기화
+    private final Map<Long, Long> generations = new HashMap<>();
+
+    public ExportJobService(RequirementService requirementService,
+                            RequirementMatrixService requirementMatrixService,
+                            ProjectService projectService,
+                            ExelExportService exelExportService,
+                            @Qualifier("exportTaskExecutor") Executor exportTaskExecutor,
+                            @Value("${requirement.export.path:./storage/exports}") String exportPath) {
+        this.requirementService = requirementService;
+        this.requirementMatrixService = requirementMatrixService;
+        this.projectService = projectService;
+        this.exelExportService = exelExportService;
+        this.exportTaskExecutor = exportTaskExecutor;
+        this.exportPath = Paths.get(exportPath);
+    }
+
+    /**
+     * 이전 실행에서 남은 임시/오래된 파일 정리
+     */
+    @PostConstruct
+    public void cleanUp() {
+        if (!Files.isDirectory(exportPath)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(exportPath, 2)) {
+            files.filter(Files::isRegularFile)
+                    .filter(file -> !file.getFileName().toString().endsWith(EXTENSION))
+                    .forEach(this::deleteQuietly);
+        } catch (IOException e) {
+            log.warn("내보내기 디렉토리 정리 실패: {}", exportPath, e);
+        }
+    }
+
+    /**
+     * 내보내기 결과를 연 파일. 저장된 파일이 있으면 바로 열어 돌려주고, 없으면 작업을 큐에 넣거나 진행 중인 작업에 합류합니다.
+     * MATRIX, MAPPING_TABLE 은 현재 값을 담으므로 revision 에 최신 리비전을 넘겨야 합니다.
+     * WORKBOOK 도 세 시트가 같은 시점의 값을 담도록 최신 리비전만 받습니다.
+     */
+    public CompletableFuture<ExportFile> export(ExportType type, long projectId, int revision) {
+        ExportKey key = new ExportKey(projectId, revision, type);
+        ExportFile stored = openIfExists(exportFile(key));
+        if (stored != null) {
+            return CompletableFuture.completedFuture(stored);
+        }
+        return generated(key).thenCompose(path -> {
+            ExportFile opened = openIfExists(path);
+            // 열기 전에 무효화로 지워졌으면 다시 만듦
+            return opened != null ? CompletableFuture.completedFuture(opened) : export(type, projectId, revision);
+        });
+    }
+
+    private CompletableFuture<Path> generated(ExportKey key) {
+        CompletableFuture<Path> created = new CompletableFuture<>();
+        CompletableFuture<Path> running = inFlight.putIfAbsent(key, created);
+        if (running != null) {
+            return running;
+        }
+
+        long generation = generation(key.projectId());
+        try {
+            exportTaskExecutor.execute(() -> {
+                try {
+                    created.complete(generate(key, generation));
+                } catch (Throwable e) {
+                    log.error("엑셀 내보내기 실패 - 프로젝트: {}, 리비전: {}, 종류: {}",
+                            key.projectId(), key.revision(), key.type(), e);
+                    created.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(key, created);
+                }
+            });
+        } catch (RuntimeException e) {
+            // 큐가 가득 찬 경우
+            inFlight.remove(key, created);
+            throw e;
+        }
+        return created;
+    }
+
+    /**
+     * 최신 리비전 기준 내보내기 결과
+     */
+    public CompletableFuture<ExportFile> exportLatest(ExportType type, long projectId) {
+        Project project = projectService.findByProjectId(projectId);
+        return export(type, projectId, requirementService.getMaxRevision(project));
+    }
+
+    private ExportFile openIfExists(Path file) {
+        try {
+            return ExportFile.open(file);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path generate(ExportKey key, long generation) throws IOException {
+        long start = System.currentTimeMillis();
+        Path file = exportFile(key);
+        Files.createDirectories(file.getParent());
+        storedFiles(key.projectId()).stream()
+                .filter(this::isExpiredStale)
+                .forEach(this::deleteQuietly);
+
+        Path temp = Files.createTempFile(file.getParent(), key.type().getFileName() + "-", ".tmp");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+            write(key, out);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+
+        Path result;
+        synchronized (this) {
+            if (generation == generations.getOrDefault(key.projectId(), 0L)) {
+                result = Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } else {
+                // 만드는 도중 변경이 커밋되었으면 이 작업을 기다린 요청에만 씀
+                result = Files.move(temp, file.resolveSibling(fileBaseName(key) + "-" + UUID.randomUUID() + STALE_EXTENSION),
+                        StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+
+        log.info("엑셀 내보내기 완료 - 프로젝트: {}, 리비전: {}, 종류: {}, 소요 시간: {}ms",
+                key.projectId(), key.revision(), key.type(), System.currentTimeMillis() - start);
+        return result;
+    }
+
+    private void write(ExportKey key, OutputStream out) throws IOException {
+        switch (key.type()) {
+            case REQUIREMENTS -> exelExportService.writeRequirementExcel(
+                    requirementService.getGeneratedRequirements(key.projectId(), key.revision()), out);
+            case MATRIX -> exelExportService.writeMatrixExcel(
+                    requirementMatrixService.getMatrix(key.projectId()), out);
+            case MAPPING_TABLE -> exelExportService.writeMappingTableExcel(
+                    consumer -> projectService.streamMappingTable(key.projectId(), consumer), out);
+            case WORKBOOK -> exelExportService.writeProjectWorkbook(
+                    requirementService.getGeneratedRequirements(key.projectId(), key.revision()),
+                    requirementMatrixService.getMatrix(key.projectId()),
+                    consumer -> projectService.streamMappingTable(key.projectId(), consumer), out);
+        }
+    }
+
+    private synchronized long generation(long projectId) {
+        return generations.getOrDefault(projectId, 0L);
+    }
+
+    private Path exportFile(ExportKey key) {
+        return exportPath.resolve(String.valueOf(key.projectId())).resolve(fileBaseName(key) + EXTENSION);
+    }
+
+    private String fileBaseName(ExportKey key) {
+        return key.type().getFileName() + "-" + key.revision() + "-v" + key.type().getFormatVersion();
+    }
+
+    private List<Path> storedFiles(long projectId) {
+        Path directory = exportPath.resolve(String.valueOf(projectId));
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(Files::isRegularFile).toList();
+        } catch (IOException e) {
+            log.warn("내보내기 디렉토리를 읽을 수 없습니다: {}", directory, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 지울 대상인 저장 파일인지 여부. 리비전 시점 내용은 fromRevision 이상, 현재 값은 모든 리비전이 대상입니다.
+     */
+    private boolean isAffected(Path file, int fromRevision) {
+        String name = file.getFileName().toString();
+        if (!name.endsWith(EXTENSION)) {
+            return false;
+        }
+        for (ExportType type : ExportType.values()) {
+            String prefix = type.getFileName() + "-";
+            if (!name.startsWith(prefix)) {
+                continue;
+            }
+            String rest = name.substring(prefix.length(), name.length() - EXTENSION.length());
+            int separator = rest.indexOf("-v");
+            if (separator < 0 || !rest.substring(0, separator).chars().allMatch(Character::isDigit)) {
+                continue;
+            }
+            return !type.isRevisionScoped() || Integer.parseInt(rest.substring(0, separator)) >= fromRevision;
+        }
+        return false;
+    }
+
+    private boolean isExpiredStale(Path file) {
+        if (!file.getFileName().toString().endsWith(STALE_EXTENSION)) {
+            return false;
+        }
+        try {
+            return Files.getLastModifiedTime(file).toMillis() < System.currentTimeMillis() - STALE_RETENTION_MILLIS;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    /**
+     * 변경이 반영된 리비전 이상의 정의서와 프로젝트의 매트릭스/조견표 결과를 지웁니다.
+     * 진행 중인 작업은 끝까지 실행되지만 새 요청은 합류하지 않고 새 작업을 만듭니다.
+     */
+    @Order(110)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRequirementChanged(RequirementChangedEvent event) {
+        long projectId = event.projectId();
+        synchronized (this) {
+            generations.merge(projectId, 1L, Long::sum);
+        }
+        inFlight.keySet().removeIf(key -> key.projectId() == projectId
+                && (!key.type().isRevisionScoped() || key.revision() >= event.fromRevision()));
+        storedFiles(projectId).stream()
+                .filter(file -> isAffected(file, event.fromRevision()) || isExpiredStale(file))
+                .forEach(this::deleteQuietly);
+        log.debug("엑셀 내보내기 결과 무효화 - 프로젝트: {}, 리비전: {}~", projectId, event.fromRevision());
+    }
+
+    private record ExportKey(long projectId, int revision, ExportType type) {
+    }
+}
@@ -5,6 +5,7 @@ import com.skala.decase.domain.requirement.controller.dto.response.PendingRequir
 import com.skala.decase.domain.requirement.controller.dto.response.RequirementDto;
 import com.skala.decase.domain.requirement.domain.PendingRequirement;
 import com.skala.decase.domain.requirement.domain.Requirement;
+import com.skala.decase.domain.requirement.event.RequirementChangedEvent;
 import com.skala.decase.domain.requirement.exception.PendingRequirementException;
 import com.skala.decase.domain.requirement.exception.RequirementException;
 import com.skala.decase.domain.requirement.repository.PendingRequirementRepository;
@@ -12,6 +13,7 @@ import com.skala.decase.domain.requirement.repository.RequirementRepository;
 import com.skala.decase.domain.source.service.SourceRepository;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +30,7 @@ public class PendingRequirementService {
     private final PendingRequirementRepository pendingRequirementRepository;
     private final RequirementRepository requirementRepository;
     private final SourceRepository sourceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public List<PendingRequirementDto> getPendingRequirementsList(Long projectId) {
@@ -144,6 +147,7 @@ public class PendingRequirementService {
             }
             // Pending 삭제
             pendingRequirementRepository.delete(pendingRequirement);
+            eventPublisher.publishEvent(new RequirementChangedEvent(projectId, originalRequirement.getRevisionCount()));
         } else if (approveDto.getStatus() == 1) {
             // 반려 처리: Pending 삭제
             pendingRequirement.setStatus(true);
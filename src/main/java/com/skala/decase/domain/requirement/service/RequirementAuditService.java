@@ -1,152 +1,178 @@
 package com.skala.decase.domain.requirement.service;
 
+import com.skala.decase.domain.requirement.controller.dto.request.RequirementSearchCondition;
 import com.skala.decase.domain.requirement.controller.dto.response.*;
-import com.skala.decase.domain.requirement.domain.Reception;
-import com.skala.decase.domain.requirement.domain.Requirement;
-import com.skala.decase.domain.requirement.exception.RequirementException;
+import com.skala.decase.domain.requirement.domain.RequirementSnapshot;
+import com.skala.decase.domain.requirement.exception.HistoryException;
 import com.skala.decase.domain.requirement.mapper.RequirementAuditMapper;
 import com.skala.decase.domain.requirement.repository.RequirementAuditRepository;
-import com.skala.decase.domain.requirement.repository.RequirementRepository;
+import com.skala.decase.domain.requirement.repository.RevisionProjection;
+import com.skala.decase.global.model.PageCursor;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.hibernate.envers.RevisionType;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
-import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class RequirementAuditService {
 
-    private final RequirementRepository requirementRepository;
     private final RequirementAuditRepository requirementAuditRepository;
     private final RequirementAuditMapper requirementAuditMapper;
+    private final RequirementSnapshotService requirementSnapshotService;
+
+    private static final int MAX_HISTORY_PAGE_SIZE = 500;
+
+    // 필드 단위 변경 이력에서 비교하는 필드
+    private static final List<HistoryField> HISTORY_FIELDS = List.of(
+            new HistoryField("type", r -> r.type() == null ? null : r.type().name()),
+            new HistoryField("name", RequirementAuditResponse::name),
+            new HistoryField("description", RequirementAuditResponse::description),
+            new HistoryField("level1", RequirementAuditResponse::level1),
+            new HistoryField("level2", RequirementAuditResponse::level2),
+            new HistoryField("level3", RequirementAuditResponse::level3),
+            new HistoryField("priority", r -> r.priority() == null ? null : r.priority().name()),
+            new HistoryField("difficulty", r -> r.difficulty() == null ? null : r.difficulty().name()),
+            new HistoryField("reception", r -> r.reception() == null ? null : r.reception().name()),
+            new HistoryField("modReason", RequirementAuditResponse::modReason)
+    );
 
     public List<RequirementAuditResponse> findAllByProjectId(long projectId) {
-        return requirementAuditRepository.getRequirementHistoryByProjectId(projectId)
-                .stream().map(requirementAuditMapper::toResponse).toList();
+        List<RequirementAuditResponse> history = requirementAuditRepository.findHistory(projectId, null, null, null);
+        if (history.isEmpty()) {
+            throw new HistoryException("해당 프로젝트에 대한 히스토리가 존재하지 않습니다.", HttpStatus.BAD_REQUEST);
+        }
+        return history;
     }
 
-    public List<RequirementAuditResponse> findByProjectIdAndReqIdCode(long projectId, String reqIdCode) {
-        return requirementAuditRepository.getRequirementHistoryByProjectIdAndReqIdCode(projectId, reqIdCode)
-                .stream()
-                .map(requirementAuditMapper::toResponse)
-                .toList();
+    /**
+     * 프로젝트의 요구사항 감사 이력을 최신 순 커서 기반 페이지로 조회합니다.
+     */
+    public RequirementHistoryPageResponse findHistoryPage(long projectId, String cursor, int size) {
+        if (size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new HistoryException("페이지 크기는 1~" + MAX_HISTORY_PAGE_SIZE + " 사이여야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+        long[] position = decodeHistoryCursor(cursor);
+        List<RequirementAuditResponse> rows = requirementAuditRepository.findHistory(projectId,
+                position == null ? null : position[0],
+                position == null ? null : position[1],
+                size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<RequirementAuditResponse> content = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            RequirementAuditResponse last = content.get(content.size() - 1);
+            nextCursor = PageCursor.encode(last.revisionNumber(), last.reqPk());
+        }
+        return new RequirementHistoryPageResponse(content, nextCursor, hasNext);
     }
 
-    public Map<String, List<String>> findModReasonByProjectIdAndReqIdCodes(long projectId, List<String> reqIdCodes, Integer revision) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-        Map<String, List<String>> results = new LinkedHashMap<>();
-
-        int batchSize = 50;
-        for (int i = 0; i < reqIdCodes.size(); i += batchSize) {
-            int end = Math.min(i + batchSize, reqIdCodes.size());
-            List<String> batch = reqIdCodes.subList(i, end);
-
-            List<RequirementModReasonResponse> audits = requirementAuditRepository.findModReasonByProjectIdAndReqIdCodesNative(projectId, batch, revision);
-
-            Map<String, List<String>> batchMap = audits.stream()
-                    .sorted(Comparator.comparing(RequirementModReasonResponse::revisionDate))
-                    .collect(Collectors.groupingBy(
-                            RequirementModReasonResponse::reqIdCode,
-                            LinkedHashMap::new,
-                            Collectors.mapping(
-                                    dto -> {
-                                        String date = dto.revisionDate().format(formatter);
-                                        String reason = Optional.ofNullable(dto.ModReason()).orElse("-");
-                                        return date + " : " + reason;
-                                    },
-                                    Collectors.toList()
-                            )
-                    ));
-            results.putAll(batchMap);
+    /**
+     * (rev, req_pk) 커서. 커서가 없으면 null 입니다.
+     */
+    private long[] decodeHistoryCursor(String cursor) {
+        try {
+            String[] values = PageCursor.decode(cursor, 2);
+            return values == null ? null : new long[]{Long.parseLong(values[0]), Long.parseLong(values[1])};
+        } catch (IllegalArgumentException e) {
+            throw new HistoryException("유효하지 않은 커서입니다.", HttpStatus.BAD_REQUEST);
         }
-        return results;
     }
 
-    public List<MatrixResponse> createMatrix(long projectId) {
-        // Aud 테이블에서 ADD 인거 갖고 오기
-        // 요구사항 정의서 테이블 데이터(최신) 가져오기
-        // 맵핑 -> 리스트 만들기
-        // 현재 요구사항에 있으면 수용, 없으면 미수용
-
-        /*
-            RevisionType.ADD        // 추가
-            RevisionType.MOD        // 수정
-            RevisionType.DEL        // 삭제
-         */
-
-        List<Requirement> requirements = requirementRepository.findByProjectId(projectId)
-                .orElseThrow(() -> new RequirementException("프로젝트에 해당하는 요구사항을 찾을 수 없습니다.", HttpStatus.BAD_REQUEST));
-
-        List<RequirementAuditDTO> addRequirements = requirementAuditRepository.getRequirementHistoryByProjectId(projectId)
+    public List<RequirementAuditResponse> findByProjectIdAndReqIdCode(long projectId, String reqIdCode) {
+        return requirementAuditRepository.getRequirementHistoryByProjectIdAndReqIdCode(projectId, reqIdCode)
                 .stream()
-                .filter(requirement -> requirement.getRevisionType() == RevisionType.ADD)
+                .map(requirementAuditMapper::toResponse)
                 .toList();
+    }
 
-        Map<String, MatrixResponse> matrixs = new HashMap<>();
-
-        for (RequirementAuditDTO add : addRequirements) {
-            String reqIdCode = add.getRequirement().getReqIdCode();
-            if (matrixs.containsKey(reqIdCode)) {
-                continue;
-            }
-
-            // 새로운 거에 있으면 그거 넣고 수용
-            Requirement matchRequirement = requirements
-                    .stream().filter(requirement -> requirement.getReqIdCode().equals(reqIdCode)).toList().get(0);
-            if (matchRequirement != null) {
-                MatrixResponse matrixResponse = new MatrixResponse(
-                        reqIdCode,
-                        matchRequirement.getLevel1(),
-                        matchRequirement.getLevel2(),
-                        matchRequirement.getLevel3(),
-                        matchRequirement.getName(),
-                        matchRequirement.getDescription(),
-                        matchRequirement.getReception()
-                );
-
-                matrixs.put(reqIdCode, matrixResponse);
-                continue;
+    /**
+     * 요구사항 하나의 감사 이력을 오래된 순으로 한 번 읽으며, 이력마다 직전 이력 대비 바뀐 필드만 남깁니다.
+     */
+    public RequirementFieldTimelineResponse findFieldTimeline(long projectId, String reqIdCode) {
+        List<RequirementFieldDelta> deltas = new ArrayList<>();
+        RequirementAuditResponse[] previous = new RequirementAuditResponse[1];
+
+        requirementAuditRepository.streamRequirementHistory(projectId, reqIdCode, current -> {
+            Map<String, String> changes = new LinkedHashMap<>();
+            for (HistoryField field : HISTORY_FIELDS) {
+                String value = field.getter().apply(current);
+                if (previous[0] == null ? value != null : !Objects.equals(field.getter().apply(previous[0]), value)) {
+                    changes.put(field.name(), value);
+                }
             }
-
-            // 없으면 delete 넣고 미수용
-            RequirementAuditDTO deleteRequirement = requirementAuditRepository.getRequirementHistoryByProjectId(projectId)
-                    .stream().filter(requirement -> requirement.getRequirement().getReqIdCode().equals(reqIdCode) && requirement.getRevisionType() == RevisionType.DEL)
-                    .toList().get(0);
-
-            MatrixResponse matrixResponse = new MatrixResponse(
-                    reqIdCode,
-                    deleteRequirement.getRequirement().getLevel1(),
-                    deleteRequirement.getRequirement().getLevel2(),
-                    deleteRequirement.getRequirement().getLevel3(),
-                    deleteRequirement.getRequirement().getName(),
-                    deleteRequirement.getRequirement().getDescription(),
-                    Reception.UNACCEPTED
-            );
-            matrixs.put(reqIdCode, matrixResponse);
+            deltas.add(new RequirementFieldDelta(
+                    current.revisionNumber(),
+                    current.version(),
+                    current.revisionDate(),
+                    current.modifiedById(),
+                    current.modifiedByName(),
+                    current.changeType(),
+                    changes));
+            previous[0] = current;
+        });
+
+        if (deltas.isEmpty()) {
+            throw new HistoryException("해당 요구사항에 대한 히스토리가 존재하지 않습니다.", HttpStatus.BAD_REQUEST);
         }
+        return new RequirementFieldTimelineResponse(reqIdCode, deltas);
+    }
 
-        return matrixs.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey()) // key = reqIdCode 기준 오름차순 정렬
-                .map(Map.Entry::getValue)
-                .toList();
+    /**
+     * 요구사항별 변경 이유 이력을 "yyyy-MM-dd HH:mm:ss : 사유" 형식으로 조회합니다.
+     *
+     * @param reqIdCodes 조회할 요구사항 ID. null 이면 프로젝트 전체
+     */
+    public Map<String, List<String>> findModReasons(long projectId, int revision, Collection<String> reqIdCodes) {
+        Map<String, List<String>> results = new LinkedHashMap<>();
+        requirementAuditRepository.streamModReasons(projectId, revision, reqIdCodes,
+                (reqIdCode, modReason, revTimestamp) -> results
+                        .computeIfAbsent(reqIdCode, k -> new ArrayList<>())
+                        .add(requirementAuditMapper.toModReasonLine(modReason, revTimestamp)));
+        return results;
     }
 
-    public List<RequirementResponse> findByProjectIdAndRevisionCount(Long projectId, int revisionCount) {
-        return requirementAuditRepository.findByProjectIdAndRevisionCount(projectId, revisionCount);
+    /**
+     * 요구사항별 변경 이유 이력을 기록 시각(epoch millis)과 함께 조회합니다.
+     */
+    public Map<String, List<ModReasonEntry>> findModReasonEntries(long projectId, int revision) {
+        Map<String, List<ModReasonEntry>> results = new LinkedHashMap<>();
+        requirementAuditRepository.streamModReasons(projectId, revision, null,
+                (reqIdCode, modReason, revTimestamp) -> results
+                        .computeIfAbsent(reqIdCode, k -> new ArrayList<>())
+                        .add(new ModReasonEntry(modReason, revTimestamp)));
+        return results;
     }
 
-    public List<RequirementResponse> findByProjectIdAndRevisionCountToMockup(Long projectId, int revisionCount) {
-        return requirementAuditRepository.findByProjectIdAndRevisionCountToMockup(projectId, revisionCount);
+    /**
+     * 리비전 스냅샷 검색 결과에 출처를 붙여 반환합니다. 출처는 조회된 페이지의 요구사항에 대해서만 가져옵니다.
+     */
+    public List<RequirementResponse> searchByRevision(Long projectId, int revisionCount,
+                                                      RequirementSearchCondition condition,
+                                                      String cursorType, String cursorReqIdCode, int limit) {
+        List<RequirementSnapshot> snapshots = requirementAuditRepository.searchRevisionSnapshots(
+                projectId, revisionCount, condition, cursorType, cursorReqIdCode, limit);
+        return requirementAuditRepository.findByRevisionSnapshots(snapshots, revisionCount);
+    }
+
+    /**
+     * 특정 리비전의 요구사항 정의서를 projection 에 따라 조회합니다.
+     */
+    public List<RequirementResponse> findRevision(Long projectId, int revisionCount, RevisionProjection projection) {
+        // 스냅샷이 없는 리비전은 최초 조회 시 생성
+        if (!requirementSnapshotService.isMaterialized(projectId, revisionCount)) {
+            return requirementSnapshotService.materialize(projectId, revisionCount, projection);
+        }
+        return requirementAuditRepository.findRevision(projectId, revisionCount, projection);
     }
 
-    public List<RequirementResponse> findByProjectIdAndRevisionCountToUpdate(Long projectId, int revisionCount) {
-        return requirementAuditRepository.findByProjectIdAndRevisionCountToUpdate(projectId, revisionCount);
+    private record HistoryField(String name, Function<RequirementAuditResponse, String> getter) {
     }
 }
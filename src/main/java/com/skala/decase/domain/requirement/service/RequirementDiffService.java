@@ -0,0 +1,182 @@
+package com.skala.decase.domain.requirement.service;
+
+import com.skala.decase.domain.project.domain.Project;
+import com.skala.decase.domain.project.service.ProjectService;
+import com.skala.decase.domain.requirement.controller.dto.response.FieldChange;
+import com.skala.decase.domain.requirement.controller.dto.response.RequirementDiffItem;
+import com.skala.decase.domain.requirement.controller.dto.response.RequirementDiffResponse;
+import com.skala.decase.domain.requirement.domain.Reception;
+import com.skala.decase.domain.requirement.domain.RequirementTimeline;
+import com.skala.decase.domain.requirement.event.RequirementChangedEvent;
+import com.skala.decase.domain.requirement.exception.RequirementException;
+import com.skala.decase.domain.requirement.repository.RequirementRepository;
+import com.skala.decase.global.cache.ProjectLruCache;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 두 리비전의 요구사항 정의서를 비교합니다.
+ * <p>
+ * 두 시점의 상태를 타임라인에서 구성해 요구사항 ID 순으로 한 번 병합하며, 결과는 (프로젝트, from, to) 단위로 보관합니다.
+ */
+@Slf4j
+@Service
+public class RequirementDiffService {
+
+    private static final List<Field> FIELDS = List.of(
+            new Field("type", RequirementTimeline.Version::type),
+            new Field("reception", v -> v.reception() == null ? null : Reception.fromReception(v.reception())),
+            new Field("level1", RequirementTimeline.Version::level1),
+            new Field("level2", RequirementTimeline.Version::level2),
+            new Field("level3", RequirementTimeline.Version::level3),
+            new Field("name", RequirementTimeline.Version::name),
+            new Field("description", RequirementTimeline.Version::description),
+            new Field("priority", RequirementTimeline.Version::priority),
+            new Field("difficulty", RequirementTimeline.Version::difficulty)
+    );
+
+    private final RequirementTimelineService requirementTimelineService;
+    private final ProjectService projectService;
+    private final RequirementRepository requirementRepository;
+    private final ProjectLruCache<DiffKey, RequirementDiffResponse> diffs;
+
+    public RequirementDiffService(RequirementTimelineService requirementTimelineService,
+                                  ProjectService projectService,
+                                  RequirementRepository requirementRepository,
+                                  @Value("${requirement.diff-cache.max-entries:200}") int maxEntries) {
+        this.requirementTimelineService = requirementTimelineService;
+        this.projectService = projectService;
+        this.requirementRepository = requirementRepository;
+        this.diffs = ProjectLruCache.ofEntries(maxEntries, DiffKey::projectId);
+    }
+
+    /**
+     * from 리비전에서 to 리비전으로의 변경. 두 리비전은 1 이상, 최신 리비전 이하이고 from 은 to 보다 클 수 없습니다.
+     */
+    public RequirementDiffResponse diff(Long projectId, int from, int to) {
+        if (from < 1 || to < 1) {
+            throw new RequirementException("비교할 리비전은 1 이상이어야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+        if (from > to) {
+            throw new RequirementException("비교 시작 리비전은 끝 리비전보다 클 수 없습니다.", HttpStatus.BAD_REQUEST);
+        }
+        Project project = projectService.findByProjectId(projectId);
+        // 최신 리비전보다 큰 리비전은 최신 상태와 같아 보여도 없는 리비전이므로 캐시에 남기지 않습니다.
+        int maxRevision = Optional.ofNullable(requirementRepository.getMaxRevisionCount(project)).orElse(0);
+        if (to > maxRevision) {
+            throw new RequirementException("존재하지 않는 리비전입니다.", HttpStatus.NOT_FOUND);
+        }
+
+        return diffs.getOrLoad(new DiffKey(projectId, from, to),
+                () -> compute(requirementTimelineService.getTimeline(projectId), from, to));
+    }
+
+    private RequirementDiffResponse compute(RequirementTimeline timeline, int from, int to) {
+        // 두 목록 모두 req_id_code 순
+        List<RequirementTimeline.Version> before = alive(timeline.stateAt(from));
+        List<RequirementTimeline.Version> after = alive(timeline.stateAt(to));
+
+        List<RequirementDiffItem> added = new ArrayList<>();
+        List<RequirementDiffItem> modified = new ArrayList<>();
+        List<RequirementDiffItem> deleted = new ArrayList<>();
+
+        int i = 0;
+        int j = 0;
+        while (i < before.size() || j < after.size()) {
+            int cmp;
+            if (i == before.size()) {
+                cmp = 1;
+            } else if (j == after.size()) {
+                cmp = -1;
+            } else {
+                cmp = before.get(i).reqIdCode().compareTo(after.get(j).reqIdCode());
+            }
+
+            if (cmp < 0) {
+                deleted.add(toItem(before.get(i++), List.of()));
+            } else if (cmp > 0) {
+                added.add(toItem(after.get(j++), List.of()));
+            } else {
+                RequirementTimeline.Version oldVersion = before.get(i++);
+                RequirementTimeline.Version newVersion = after.get(j++);
+                List<FieldChange> changes = compareFields(timeline, oldVersion, from, newVersion, to);
+                if (!changes.isEmpty()) {
+                    modified.add(toItem(newVersion, changes));
+                }
+            }
+        }
+        return new RequirementDiffResponse(from, to, added, modified, deleted);
+    }
+
+    /**
+     * 삭제 처리된(is_deleted) 요구사항은 해당 리비전에 없는 것으로 봅니다.
+     */
+    private List<RequirementTimeline.Version> alive(List<RequirementTimeline.Version> state) {
+        return state.stream().filter(version -> !version.deleted()).toList();
+    }
+
+    private List<FieldChange> compareFields(RequirementTimeline timeline,
+                                            RequirementTimeline.Version oldVersion, int from,
+                                            RequirementTimeline.Version newVersion, int to) {
+        List<FieldChange> changes = new ArrayList<>();
+        // 같은 감사 행이면 본문은 동일하므로 출처만 비교
+        if (oldVersion != newVersion) {
+            for (Field field : FIELDS) {
+                String oldValue = field.getter().apply(oldVersion);
+                String newValue = field.getter().apply(newVersion);
+                if (!Objects.equals(oldValue, newValue)) {
+                    changes.add(new FieldChange(field.name(), oldValue, newValue));
+                }
+            }
+        }
+        addSourceChange(changes, timeline, oldVersion, from, newVersion, to);
+        return changes;
+    }
+
+    private void addSourceChange(List<FieldChange> changes, RequirementTimeline timeline,
+                                 RequirementTimeline.Version oldVersion, int from,
+                                 RequirementTimeline.Version newVersion, int to) {
+        String oldSources = docIds(timeline, oldVersion, from);
+        String newSources = docIds(timeline, newVersion, to);
+        if (!oldSources.equals(newSources)) {
+            changes.add(new FieldChange("sources", oldSources, newSources));
+        }
+    }
+
+    private String docIds(RequirementTimeline timeline, RequirementTimeline.Version version, int revision) {
+        return timeline.sourcesAt(version.reqPk(), revision).stream()
+                .map(RequirementTimeline.SourceVersion::docId)
+                .collect(Collectors.joining(","));
+    }
+
+    private RequirementDiffItem toItem(RequirementTimeline.Version version, List<FieldChange> changes) {
+        return new RequirementDiffItem(version.reqIdCode(), version.type(), version.name(), changes);
+    }
+
+    /**
+     * 변경이 반영된 리비전 이상을 한쪽 끝으로 갖는 비교 결과를 제거합니다.
+     */
+    @Order(60)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRequirementChanged(RequirementChangedEvent event) {
+        diffs.invalidate(event.projectId(), key -> Math.max(key.from(), key.to()) >= event.fromRevision());
+        log.debug("요구사항 비교 결과 무효화 - 프로젝트: {}, 리비전: {}~", event.projectId(), event.fromRevision());
+    }
+
+    private record DiffKey(Long projectId, int from, int to) {
+    }
+
+    private record Field(String name, Function<RequirementTimeline.Version, String> getter) {
+    }
+}
@@ -0,0 +1,170 @@
+package com.skala.decase.domain.requirement.service;
+
+import com.skala.decase.domain.requirement.controller.dto.response.LevelFacet;
+import com.skala.decase.domain.requirement.controller.dto.response.RequirementFacetResponse;
+import com.skala.decase.domain.requirement.domain.Reception;
+import com.skala.decase.domain.requirement.domain.RequirementTimeline;
+import com.skala.decase.domain.requirement.event.RequirementChangedEvent;
+import com.skala.decase.global.cache.ProjectLruCache;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * (프로젝트, 리비전) 별 요구사항 분류 트리와 속성별 개수
+ * <p>
+ * 타임라인에서 구성한 리비전 상태를 한 번 훑어 계산하고 보관합니다.
+ * 요구사항 변경이 커밋되면 변경이 반영된 리비전 이상만 버리고 그 이전 리비전은 그대로 사용합니다.
+ */
+@Slf4j
+@Service
+public class RequirementFacetService {
+
+    private final RequirementTimelineService requirementTimelineService;
+    private final ProjectLruCache<FacetKey, Facets> facets;
+
+    public RequirementFacetService(RequirementTimelineService requirementTimelineService,
+                                   @Value("${requirement.facet-cache.max-entries:500}") int maxEntries) {
+        this.requirementTimelineService = requirementTimelineService;
+        this.facets = ProjectLruCache.ofEntries(maxEntries, FacetKey::projectId);
+    }
+
+    public RequirementFacetResponse getFacets(Long projectId, int revisionCount) {
+        return get(projectId, revisionCount).response();
+    }
+
+    /**
+     * 대분류/중분류/소분류 이름 목록
+     */
+    public Map<String, List<String>> getCategories(Long projectId, int revisionCount) {
+        return get(projectId, revisionCount).categories();
+    }
+
+    private Facets get(Long projectId, int revisionCount) {
+        return facets.getOrLoad(new FacetKey(projectId, revisionCount),
+                () -> compute(requirementTimelineService.getTimeline(projectId), revisionCount));
+    }
+
+    private Facets compute(RequirementTimeline timeline, int revisionCount) {
+        Node root = new Node();
+        Map<String, int[]> type = new TreeMap<>();
+        Map<String, int[]> priority = new TreeMap<>();
+        Map<String, int[]> difficulty = new TreeMap<>();
+        Map<String, int[]> reception = new TreeMap<>();
+        Map<String, int[]> docType = new TreeMap<>();
+        Set<String> level1Set = new HashSet<>();
+        Set<String> level2Set = new HashSet<>();
+        Set<String> level3Set = new HashSet<>();
+
+        List<RequirementTimeline.Version> state = timeline.stateAt(revisionCount);
+        Set<String> docTypesOfRequirement = new HashSet<>();
+
+        for (RequirementTimeline.Version version : state) {
+            // 분류 트리: 상위 분류가 없으면 하위 분류는 트리에 넣지 않음
+            if (version.level1() != null) {
+                Node level1 = root.child(version.level1());
+                level1.count++;
+                if (version.level2() != null) {
+                    Node level2 = level1.child(version.level2());
+                    level2.count++;
+                    if (version.level3() != null) {
+                        level2.child(version.level3()).count++;
+                    }
+                }
+            }
+            addIfPresent(level1Set, version.level1());
+            addIfPresent(level2Set, version.level2());
+            addIfPresent(level3Set, version.level3());
+
+            increment(type, version.type());
+            increment(priority, version.priority());
+            increment(difficulty, version.difficulty());
+            increment(reception, version.reception() == null ? null : Reception.fromReception(version.reception()));
+
+            // 요구사항마다 문서 유형은 한 번만 셈
+            docTypesOfRequirement.clear();
+            for (RequirementTimeline.SourceVersion source : timeline.sourcesAt(version.reqPk(), revisionCount)) {
+                String docId = source.docId();
+                int idx = docId.indexOf('-');
+                docTypesOfRequirement.add(idx < 0 ? docId : docId.substring(0, idx));
+            }
+            docTypesOfRequirement.forEach(prefix -> increment(docType, prefix));
+        }
+
+        RequirementFacetResponse response = new RequirementFacetResponse(
+                revisionCount,
+                state.size(),
+                root.toFacets(),
+                toCounts(type),
+                toCounts(priority),
+                toCounts(difficulty),
+                toCounts(reception),
+                toCounts(docType)
+        );
+
+        Map<String, List<String>> categories = new HashMap<>();
+        categories.put("대분류", List.copyOf(level1Set));
+        categories.put("중분류", List.copyOf(level2Set));
+        categories.put("소분류", List.copyOf(level3Set));
+
+        return new Facets(response, Map.copyOf(categories));
+    }
+
+    private void addIfPresent(Set<String> set, String value) {
+        if (value != null) {
+            set.add(value);
+        }
+    }
+
+    private void increment(Map<String, int[]> counts, String key) {
+        if (key != null) {
+            counts.computeIfAbsent(key, k -> new int[1])[0]++;
+        }
+    }
+
+    private Map<String, Integer> toCounts(Map<String, int[]> counts) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        counts.forEach((key, count) -> result.put(key, count[0]));
+        return result;
+    }
+
+    @Order(70)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRequirementChanged(RequirementChangedEvent event) {
+        facets.invalidate(event.projectId(), key -> key.revisionCount() >= event.fromRevision());
+        log.debug("요구사항 분류 집계 무효화 - 프로젝트: {}, 리비전: {}~", event.projectId(), event.fromRevision());
+    }
+
+    private record FacetKey(Long projectId, int revisionCount) {
+    }
+
+    private record Facets(RequirementFacetResponse response, Map<String, List<String>> categories) {
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> children = new TreeMap<>();
+        private int count;
+
+        Node child(String name) {
+            return children.computeIfAbsent(name, k -> new Node());
+        }
+
+        List<LevelFacet> toFacets() {
+            List<LevelFacet> result = new ArrayList<>(children.size());
+            children.forEach((name, node) -> result.add(new LevelFacet(name, node.count, node.toFacets())));
+            return result;
+        }
+    }
+}
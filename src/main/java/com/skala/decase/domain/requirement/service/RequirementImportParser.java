@@ -0,0 +1,188 @@
+package com.skala.decase.domain.requirement.service;
+
+import com.skala.decase.domain.requirement.domain.Difficulty;
+import com.skala.decase.domain.requirement.domain.Priority;
+import com.skala.decase.domain.requirement.domain.Reception;
+import com.skala.decase.domain.requirement.domain.RequirementType;
+import com.skala.decase.domain.requirement.exception.RequirementException;
+import com.skala.decase.domain.requirement.repository.RequirementImportRow;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 요구사항 정의서 엑셀 한 행을 검증해 {@link RequirementImportRow} 로 바꿉니다.
+ * <p>
+ * 요구사항 ID 와 요구사항 명은 필수입니다. 나머지 빈 셀은 null 이며, 수정할 때 어느 열이든 기존 값을 유지한다는 뜻입니다.
+ * 값이 잘못된 행은 {@link RequirementException} (400) 으로 거부합니다.
+ */
+final class RequirementImportParser {
+
+    // ExelExportService 요구사항 정의서 시트와 같은 열 순서
+    static final String[] HEADERS = {
+            "요구사항 ID", "요구사항 유형", "대분류", "중분류", "소분류",
+            "요구사항 명", "요구사항 설명", "중요도", "난이도", "출처",
+            "관리 구분", "수용 여부", "변경 이력", "최종 변경 일자"
+    };
+    static final int COL_ID = 0;
+    private static final int COL_TYPE = 1;
+    private static final int COL_LEVEL_1 = 2;
+    private static final int COL_LEVEL_2 = 3;
+    private static final int COL_LEVEL_3 = 4;
+    private static final int COL_NAME = 5;
+    private static final int COL_DESCRIPTION = 6;
+    private static final int COL_PRIORITY = 7;
+    private static final int COL_DIFFICULTY = 8;
+    private static final int COL_SOURCES = 9;
+    private static final int COL_RECEPTION = 11;
+
+    // 내보내기 출처 형식 "문서명 (N페이지)\n관련 문장" 의 첫 줄
+    private static final Pattern SOURCE_HEADER = Pattern.compile("^(.+) \\((\\d+)페이지\\)$", Pattern.MULTILINE);
+
+    private final Function<String, Optional<String>> docIdLookup;
+    private final Map<String, Optional<String>> docIdsByName = new HashMap<>();
+
+    /**
+     * @param docIdLookup 문서명으로 프로젝트 문서 ID 를 찾습니다. 같은 이름은 한 번만 찾습니다.
+     */
+    RequirementImportParser(Function<String, Optional<String>> docIdLookup) {
+        this.docIdLookup = docIdLookup;
+    }
+
+    static void checkHeader(String[] cells) {
+        for (int i = 0; i < HEADERS.length; i++) {
+            if (!HEADERS[i].equals(cells[i])) {
+                throw new RequirementException(
+                        "요구사항 정의서 양식이 아닙니다. " + (i + 1) + "번째 열은 '" + HEADERS[i] + "' 이어야 합니다.",
+                        HttpStatus.BAD_REQUEST);
+            }
+        }
+    }
+
+    RequirementImportRow parse(int rowNum, String[] cells) {
+        String reqIdCode = required(cells[COL_ID], "요구사항 ID");
+        String name = required(cells[COL_NAME], "요구사항 명");
+        checkLength(reqIdCode, 100, "요구사항 ID");
+        checkLength(cells[COL_LEVEL_1], 100, "대분류");
+        checkLength(cells[COL_LEVEL_2], 100, "중분류");
+        checkLength(cells[COL_LEVEL_3], 100, "소분류");
+        checkLength(name, 100, "요구사항 명");
+        checkLength(cells[COL_DESCRIPTION], 5000, "요구사항 설명");
+
+        return new RequirementImportRow(
+                rowNum,
+                reqIdCode,
+                parseType(cells[COL_TYPE]),
+                cells[COL_LEVEL_1],
+                cells[COL_LEVEL_2],
+                cells[COL_LEVEL_3],
+                name,
+                cells[COL_DESCRIPTION],
+                parsePriority(cells[COL_PRIORITY]),
+                parseDifficulty(cells[COL_DIFFICULTY]),
+                parseReception(cells[COL_RECEPTION]),
+                parseSources(cells[COL_SOURCES])
+        );
+    }
+
+    /**
+     * "문서명 (N페이지)\n관련 문장" 블록들을 출처로 바꿉니다.
+     */
+    private List<RequirementImportRow.Source> parseSources(String value) {
+        List<RequirementImportRow.Source> sources = new ArrayList<>();
+        if (value == null) {
+            return sources;
+        }
+        Matcher matcher = SOURCE_HEADER.matcher(value);
+        if (!matcher.find() || matcher.start() != 0) {
+            throw new RequirementException("출처 형식이 올바르지 않습니다.", HttpStatus.BAD_REQUEST);
+        }
+        while (true) {
+            String docName = matcher.group(1).trim();
+            int pageNum = parsePageNum(matcher.group(2));
+            int sentenceStart = matcher.end();
+            boolean hasNext = matcher.find();
+            String relSentence = value.substring(sentenceStart, hasNext ? matcher.start() : value.length()).trim();
+            checkLength(relSentence, 1000, "출처 관련 문장");
+
+            String docId = docIdsByName.computeIfAbsent(docName, docIdLookup)
+                    .orElseThrow(() -> new RequirementException(
+                            "출처 문서를 찾을 수 없습니다: " + docName, HttpStatus.BAD_REQUEST));
+            RequirementImportRow.Source source = new RequirementImportRow.Source(docId, pageNum, relSentence);
+            if (!sources.contains(source)) {
+                sources.add(source);
+            }
+            if (!hasNext) {
+                return sources;
+            }
+        }
+    }
+
+    private static int parsePageNum(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            // 숫자만 오지만 int 범위를 넘을 수 있음
+            throw new RequirementException("출처 페이지 번호가 올바르지 않습니다: " + value, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private static String required(String value, String column) {
+        if (value == null) {
+            throw new RequirementException(column + "이(가) 비어 있습니다.", HttpStatus.BAD_REQUEST);
+        }
+        return value;
+    }
+
+    private static void checkLength(String value, int max, String column) {
+        if (value != null && value.length() > max) {
+            throw new RequirementException(column + "은(는) " + max + "자를 넘을 수 없습니다.", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private static RequirementType parseType(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.equals("FR") || value.equals("NFR")) {
+            return RequirementType.valueOf(value);
+        }
+        return RequirementType.fromKorean(value);
+    }
+
+    private static Priority parsePriority(String value) {
+        if (value == null) {
+            return null;
+        }
+        return isEnglish(value) ? Priority.fromEnglish(value) : Priority.fromKorean(value);
+    }
+
+    private static Difficulty parseDifficulty(String value) {
+        if (value == null) {
+            return null;
+        }
+        return isEnglish(value) ? Difficulty.fromEnglish(value) : Difficulty.fromKorean(value);
+    }
+
+    private static Reception parseReception(String value) {
+        if (value == null) {
+            return null;
+        }
+        return switch (value) {
+            case "수용", "ACCEPTED" -> Reception.ACCEPTED;
+            case "검토중", "검토 중", "REVIEWING" -> Reception.REVIEWING;
+            case "미수용", "UNACCEPTED" -> Reception.UNACCEPTED;
+            default -> throw new RequirementException("Unknown Reception value: " + value, HttpStatus.BAD_REQUEST);
+        };
+    }
+
+    private static boolean isEnglish(String value) {
+        return value.chars().allMatch(c -> c >= 'A' && c <= 'Z');
+    }
+}
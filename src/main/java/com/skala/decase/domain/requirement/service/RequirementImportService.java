@@ -0,0 +1,326 @@
+package com.skala.decase.domain.requirement.service;
+
+import com.skala.decase.domain.document.domain.Document;
+import com.skala.decase.domain.document.repository.DocumentRepository;
+import com.skala.decase.domain.member.domain.Member;
+import com.skala.decase.domain.member.service.MemberService;
+import com.skala.decase.domain.project.domain.Project;
+import com.skala.decase.domain.project.repository.ProjectRepository;
+import com.skala.decase.domain.project.service.ProjectRevisionService;
+import com.skala.decase.domain.project.service.ProjectService;
+import com.skala.decase.domain.requirement.controller.dto.response.RequirementImportResponse;
+import com.skala.decase.domain.requirement.domain.Requirement;
+import com.skala.decase.domain.requirement.event.RequirementChangedEvent;
+import com.skala.decase.domain.requirement.exception.RequirementException;
+import com.skala.decase.domain.requirement.repository.RequirementImportRepository;
+import com.skala.decase.domain.requirement.repository.RequirementImportRepository.CurrentRequirement;
+import com.skala.decase.domain.requirement.repository.RequirementImportRepository.SourceKey;
+import com.skala.decase.domain.requirement.repository.RequirementImportRow;
+import com.skala.decase.domain.requirement.repository.RequirementRepository;
+import com.skala.decase.domain.source.domain.Source;
+import com.skala.decase.global.exception.CustomException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 요구사항 정의서 엑셀 가져오기
+ * <p>
+ * 내보내기와 같은 14열 양식을 SAX 로 한 행씩 읽어 검증하고, {@value #BATCH_SIZE} 행마다 반영합니다.
+ * 추가는 JDBC 배치로 넣고 수정은 엔티티로 반영하며, 감사 행은 모두 Envers 가 남깁니다.
+ * 엑셀에 있는 요구사항 ID 는 추가하거나 값이 다를 때 수정하며, 엑셀에 없는 요구사항은 삭제하지 않습니다.
+ * 가져오기 전체가 한 트랜잭션이고 하나의 새 리비전, 하나의 Envers 리비전으로 기록됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RequirementImportService {
+
+    private static final int BATCH_SIZE = 500;
+    // 응답에 담는 오류 행 수
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final String ADD_REASON = "엑셀 가져오기로 추가";
+    private static final String MOD_REASON = "엑셀 가져오기로 수정";
+
+    private final ProjectService projectService;
+    private final ProjectRepository projectRepository;
+    private final ProjectRevisionService projectRevisionService;
+    private final MemberService memberService;
+    private final RequirementRepository requirementRepository;
+    private final DocumentRepository documentRepository;
+    private final RequirementImportRepository requirementImportRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public RequirementImportResponse importRequirements(Long projectId, Long memberId, MultipartFile file) {
+        String originalFileName = file.getOriginalFilename();
+        if (originalFileName == null || !originalFileName.toLowerCase().endsWith(".xlsx")) {
+            throw new RequirementException("xlsx 파일만 가져올 수 있습니다.", HttpStatus.BAD_REQUEST);
+        }
+        Project project = projectService.findByProjectId(projectId);
+        Member member = memberService.findByMemberId(memberId);
+        int latestRevision = requirementRepository.findMaxRevisionCountByProject(project).orElse(0);
+
+        // SAX 로 읽으려면 파일 경로가 필요합니다. 메모리에 올리지 않도록 임시 파일로 옮깁니다.
+        Path temp = null;
+        try {
+            temp = Files.createTempFile("requirement-import-", ".xlsx");
+            file.transferTo(temp);
+
+            ImportRun run = new ImportRun(project, member, latestRevision + 1);
+            RequirementSheetReader.read(temp, RequirementImportParser.HEADERS.length, run::row);
+            return run.finish();
+        } catch (IOException e) {
+            throw new RequirementException("업로드한 파일을 저장할 수 없습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * 가져오기 한 번의 진행 상태
+     */
+    private final class ImportRun {
+
+        private final Project project;
+        private final Member member;
+        private final int revision;
+        private final LocalDateTime now = LocalDateTime.now();
+
+        private final List<RequirementImportRow> chunk = new ArrayList<>();
+        private final Set<String> seenReqIdCodes = new HashSet<>();
+        private final RequirementImportParser parser = new RequirementImportParser(this::findDocId);
+        private final List<RequirementImportResponse.RowError> errors = new ArrayList<>();
+
+        private boolean headerChecked;
+        private int fromRevision;
+        // 가져오기가 쓴 가장 높은 리비전. 수정만 있으면 새 리비전보다 낮을 수 있음
+        private int toRevision;
+        private int added;
+        private int updated;
+        private int unchanged;
+        private int failed;
+
+        private ImportRun(Project project, Member member, int revision) {
+            this.project = project;
+            this.member = member;
+            this.revision = revision;
+            this.fromRevision = revision;
+        }
+
+        private void row(int rowNum, String[] cells) {
+            if (!headerChecked) {
+                RequirementImportParser.checkHeader(cells);
+                headerChecked = true;
+                return;
+            }
+            try {
+                RequirementImportRow row = parser.parse(rowNum, cells);
+                if (!seenReqIdCodes.add(row.reqIdCode())) {
+                    throw new RequirementException("요구사항 ID가 중복되었습니다.", HttpStatus.BAD_REQUEST);
+                }
+                chunk.add(row);
+            } catch (CustomException e) {
+                failed++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(new RequirementImportResponse.RowError(rowNum + 1, cells[RequirementImportParser.COL_ID], e.getMessage()));
+                }
+            }
+            if (chunk.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private Optional<String> findDocId(String docName) {
+            return documentRepository.findByProjectAndName(project, docName).stream()
+                    .findFirst()
+                    .map(Document::getDocId);
+        }
+
+        /**
+         * 쌓인 행을 현재 요구사항과 비교해 추가, 수정할 행만 반영합니다.
+         * 추가는 JDBC 배치로 넣고 Envers 에 알리며, 수정은 엔티티로 반영합니다. 감사 행은 모두 이 트랜잭션의 리비전으로 남고,
+         * 수정한 엔티티는 영속성 컨텍스트에서 뗍니다.
+         */
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            Map<String, CurrentRequirement> currents = requirementImportRepository.findCurrent(
+                    project.getProjectId(), chunk.stream().map(RequirementImportRow::reqIdCode).toList());
+            Set<SourceKey> existingSources = requirementImportRepository.findSourceKeys(
+                    currents.values().stream().map(CurrentRequirement::reqPk).toList());
+
+            List<RequirementImportRow> toAdd = new ArrayList<>();
+            Map<Long, RequirementImportRow> toUpdate = new HashMap<>();
+            Map<Long, List<RequirementImportRow.Source>> newSourcesByReqPk = new HashMap<>();
+            for (RequirementImportRow row : chunk) {
+                CurrentRequirement current = currents.get(row.reqIdCode());
+                if (current == null) {
+                    toAdd.add(row);
+                    continue;
+                }
+                List<RequirementImportRow.Source> newSources = row.sources().stream()
+                        .filter(source -> !existingSources.contains(new SourceKey(current.reqPk(), source)))
+                        .toList();
+                if (!row.differsFrom(current) && newSources.isEmpty()) {
+                    unchanged++;
+                    continue;
+                }
+                // 수정은 요구사항 자체의 리비전을 1 올리므로 새 리비전보다 앞선 리비전에 반영될 수 있음
+                fromRevision = Math.min(fromRevision, current.revisionCount() + 1);
+                toUpdate.put(current.reqPk(), row);
+                newSourcesByReqPk.put(current.reqPk(), newSources);
+            }
+            chunk.clear();
+            if (toAdd.isEmpty() && toUpdate.isEmpty()) {
+                return;
+            }
+
+            List<Source> sources = new ArrayList<>();
+            List<Requirement> newRequirements = toAdd.stream().map(this::toRequirement).toList();
+            List<Long> reqPks = requirementImportRepository.insertRequirements(newRequirements);
+            for (int i = 0; i < newRequirements.size(); i++) {
+                Requirement requirement = newRequirements.get(i);
+                requirement.setReqPk(reqPks.get(i));
+                auditInsert(requirement, requirement.getReqPk());
+                addSources(requirement, toAdd.get(i).sources(), sources);
+            }
+            if (!newRequirements.isEmpty()) {
+                toRevision = revision;
+            }
+
+            List<Requirement> updatedRequirements = requirementRepository.findAllById(toUpdate.keySet());
+            for (Requirement requirement : updatedRequirements) {
+                RequirementImportRow row = toUpdate.get(requirement.getReqPk());
+                requirement.updateFromPending(row.type(), row.level1(), row.level2(), row.level3(), row.name(),
+                        row.description(), row.priority(), row.difficulty(), row.reception(), MOD_REASON, member);
+                requirement.setRevisionCount(requirement.getRevisionCount() + 1);
+                toRevision = Math.max(toRevision, requirement.getRevisionCount());
+                addSources(requirement, newSourcesByReqPk.get(requirement.getReqPk()), sources);
+            }
+
+            List<Long> sourceIds = requirementImportRepository.insertSources(sources);
+            for (int i = 0; i < sources.size(); i++) {
+                Source source = sources.get(i);
+                source.setSourceId(sourceIds.get(i));
+                auditInsert(source, source.getSourceId());
+            }
+            entityManager.flush();
+            // 영속성 컨텍스트에는 한 번에 BATCH_SIZE 행만 둡니다.
+            updatedRequirements.forEach(entityManager::detach);
+
+            added += toAdd.size();
+            updated += toUpdate.size();
+        }
+
+        private Requirement toRequirement(RequirementImportRow row) {
+            Requirement requirement = Requirement.builder()
+                    .reqIdCode(row.reqIdCode())
+                    .type(row.type())
+                    .level1(row.level1())
+                    .level2(row.level2())
+                    .level3(row.level3())
+                    .name(row.name())
+                    .description(row.description())
+                    .priority(row.priority())
+                    .difficulty(row.difficulty())
+                    .createdDate(now)
+                    .project(project)
+                    .createdBy(member)
+                    .build();
+            // persist 때 AuditingEntityListener 가 채우는 값
+            requirement.setModifiedDate(now);
+            requirement.setRevisionCount(revision);
+            if (row.reception() != null) {
+                requirement.setReception(row.reception());
+            }
+            requirement.setModReason(ADD_REASON);
+            return requirement;
+        }
+
+        /**
+         * 출처를 요구사항의 현재 리비전으로 만듭니다. 기존 요구사항의 출처 목록은 읽지 않습니다.
+         */
+        private void addSources(Requirement requirement, List<RequirementImportRow.Source> imported,
+                                List<Source> sources) {
+            for (RequirementImportRow.Source source : imported) {
+                Source newSource = new Source();
+                newSource.createSource(requirement, entityManager.getReference(Document.class, source.docId()),
+                        source.pageNum(), source.relSentence(), requirement.getRevisionCount());
+                sources.add(newSource);
+            }
+        }
+
+        /**
+         * JDBC 로 넣은 행을 Hibernate 가 INSERT 뒤에 내는 것과 같은 PostInsertEvent 로 알립니다.
+         * Envers 가 엔티티 매핑대로 이 트랜잭션의 리비전에 ADD 감사 행을 남깁니다.
+         */
+        private void auditInsert(Object entity, Object id) {
+            SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+            EntityPersister persister = session.getEntityPersister(null, entity);
+            PostInsertEvent event = new PostInsertEvent(entity, id, persister.getValues(entity), persister,
+                    session.asEventSource());
+            session.getFactory().getServiceRegistry().requireService(EventListenerRegistry.class)
+                    .getEventListenerGroup(EventType.POST_INSERT)
+                    .fireEventOnEachListener(event, PostInsertEventListener::onPostInsert);
+        }
+
+        private RequirementImportResponse finish() {
+            if (!headerChecked) {
+                throw new RequirementException("요구사항 정의서 양식이 아닙니다. 머리글 행이 없습니다.", HttpStatus.BAD_REQUEST);
+            }
+            flush();
+            if (added + updated == 0) {
+                return new RequirementImportResponse(null, 0, 0, unchanged, failed, errors);
+            }
+
+            // 프로젝트 리비전 갱신. 동시에 올리는 다른 요청과 겹치지 않도록 행 잠금을 잡고 다시 읽은 값보다 낮추지 않습니다.
+            Project current = entityManager.find(Project.class, project.getProjectId());
+            entityManager.refresh(current, LockModeType.PESSIMISTIC_WRITE);
+            current.setRevisionCount(Math.max(current.getRevisionCount(), revision));
+            projectRepository.save(current);
+            projectRevisionService.recordRevision(current, toRevision, member, null);
+            eventPublisher.publishEvent(new RequirementChangedEvent(project.getProjectId(), fromRevision));
+            log.info("요구사항 정의서 가져오기 완료 - 프로젝트: {}, 리비전: {}, 추가: {}, 수정: {}, 실패: {}",
+                    project.getProjectId(), revision, added, updated, failed);
+            return new RequirementImportResponse(revision, added, updated, unchanged, failed, errors);
+        }
+    }
+
+    private static void deleteQuietly(Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            log.warn("가져오기 임시 파일 삭제 실패: {}", temp, e);
+        }
+    }
+}
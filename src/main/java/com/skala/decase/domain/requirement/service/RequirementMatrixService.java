@@ -0,0 +1,129 @@
+package com.skala.decase.domain.requirement.service;
+
+import com.skala.decase.domain.project.domain.Project;
+import com.skala.decase.domain.project.service.ProjectService;
+import com.skala.decase.domain.requirement.controller.dto.response.MatrixResponse;
+import com.skala.decase.domain.requirement.domain.Reception;
+import com.skala.decase.domain.requirement.event.RequirementChangedEvent;
+import com.skala.decase.domain.requirement.repository.MatrixRow;
+import com.skala.decase.domain.requirement.repository.RequirementAuditRepository;
+import com.skala.decase.domain.requirement.repository.RequirementRepository;
+import com.skala.decase.global.cache.ProjectLruCache;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 요구사항 추적 매트릭스를 만들고 (프로젝트, 최신 리비전) 단위로 보관합니다.
+ * <p>
+ * 한 번이라도 추가(ADD)된 요구사항마다 삭제되지 않은 현재 요구사항이 있으면 현재 값과 수용 여부를,
+ * 없으면 마지막 삭제(DEL 또는 is_deleted 로 바뀐 수정) 행의 값과 미수용을 씁니다.
+ * JSON 조회와 엑셀 다운로드가 같은 결과를 공유합니다.
+ */
+@Slf4j
+@Service
+public class RequirementMatrixService {
+
+    private static final int ADD = 0;
+    private static final int DEL = 2;
+
+    private final ProjectService projectService;
+    private final RequirementRepository requirementRepository;
+    private final RequirementAuditRepository requirementAuditRepository;
+    private final ProjectLruCache<MatrixKey, List<MatrixResponse>> matrices;
+
+    public RequirementMatrixService(ProjectService projectService,
+                                    RequirementRepository requirementRepository,
+                                    RequirementAuditRepository requirementAuditRepository,
+                                    @Value("${requirement.matrix-cache.max-entries:50}") int maxEntries) {
+        this.projectService = projectService;
+        this.requirementRepository = requirementRepository;
+        this.requirementAuditRepository = requirementAuditRepository;
+        this.matrices = ProjectLruCache.ofEntries(maxEntries, MatrixKey::projectId);
+    }
+
+    /**
+     * 요구사항 ID 순 추적 매트릭스. 반환한 목록은 공유되므로 수정하면 안 됩니다.
+     */
+    public List<MatrixResponse> getMatrix(long projectId) {
+        Project project = projectService.findByProjectId(projectId);
+        int revision = Optional.ofNullable(requirementRepository.getMaxRevisionCount(project)).orElse(0);
+
+        return matrices.getOrLoad(new MatrixKey(projectId, revision), () -> build(projectId));
+    }
+
+    /**
+     * rev 순으로 한 번 훑으며 요구사항 ID 별로 현재 값 또는 마지막 삭제 값을 남깁니다.
+     */
+    private List<MatrixResponse> build(long projectId) {
+        Map<String, MatrixResponse> accepted = new HashMap<>();
+        Map<String, MatrixResponse> removed = new HashMap<>();
+
+        requirementAuditRepository.streamMatrixRows(projectId, row -> {
+            String reqIdCode = row.reqIdCode();
+            if (row.revtype() == ADD) {
+                if (row.current()) {
+                    accepted.computeIfAbsent(reqIdCode, code -> new MatrixResponse(
+                            code,
+                            row.currentLevel1(),
+                            row.currentLevel2(),
+                            row.currentLevel3(),
+                            row.currentName(),
+                            row.currentDescription(),
+                            row.currentReception() == null ? null : Reception.valueOf(row.currentReception())
+                    ));
+                } else {
+                    // 삭제 행이 없을 때를 대비해 추가 시점 값으로 둠
+                    removed.putIfAbsent(reqIdCode, toUnaccepted(row));
+                }
+            } else if (row.revtype() == DEL && !row.current()) {
+                removed.put(reqIdCode, toUnaccepted(row));
+            }
+        });
+
+        List<MatrixResponse> matrix = new ArrayList<>(accepted.size() + removed.size());
+        matrix.addAll(accepted.values());
+        removed.forEach((reqIdCode, response) -> {
+            if (!accepted.containsKey(reqIdCode)) {
+                matrix.add(response);
+            }
+        });
+        matrix.sort((a, b) -> a.getReqIdCode().compareTo(b.getReqIdCode()));
+
+        log.info("요구사항 추적 매트릭스 생성 - 프로젝트: {}, 행 수: {}", projectId, matrix.size());
+        return List.copyOf(matrix);
+    }
+
+    private MatrixResponse toUnaccepted(MatrixRow row) {
+        return new MatrixResponse(
+                row.reqIdCode(),
+                row.level1(),
+                row.level2(),
+                row.level3(),
+                row.name(),
+                row.description(),
+                Reception.UNACCEPTED
+        );
+    }
+
+    /**
+     * 같은 리비전 안에서도 현재 요구사항 값이 바뀔 수 있으므로 프로젝트의 매트릭스를 모두 버립니다.
+     */
+    @Order(90)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRequirementChanged(RequirementChangedEvent event) {
+        matrices.invalidate(event.projectId());
+        log.debug("요구사항 추적 매트릭스 무효화 - 프로젝트: {}", event.projectId());
+    }
+
+    private record MatrixKey(Long projectId, int revision) {
+    }
+}
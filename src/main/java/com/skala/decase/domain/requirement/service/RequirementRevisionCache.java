@@ -0,0 +1,224 @@
+package com.skala.decase.domain.requirement.service;
+
+import com.skala.decase.domain.requirement.controller.dto.response.RequirementResponse;
+import com.skala.decase.domain.requirement.controller.dto.response.SourceResponse;
+import com.skala.decase.domain.requirement.event.RequirementChangedEvent;
+import com.skala.decase.global.cache.ProjectLruCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 리비전별 요구사항 정의서 조회 결과 캐시
+ * <p>
+ * 분류/유형/중요도/난이도처럼 반복되는 값은 리비전 단위 사전으로 인코딩해 보관합니다.
+ * 캐시 크기는 보관 중인 요구사항 수 기준으로 제한하며, 초과 시 가장 오래 사용하지 않은 리비전부터 제거합니다.
+ */
+@Slf4j
+@Component
+public class RequirementRevisionCache {
+
+    private static final int NONE = -1;
+
+    // 행마다 사전 코드로 저장하는 컬럼
+    private static final int TYPE = 0;
+    private static final int RECEPTION = 1;
+    private static final int LEVEL1 = 2;
+    private static final int LEVEL2 = 3;
+    private static final int LEVEL3 = 4;
+    private static final int PRIORITY = 5;
+    private static final int DIFFICULTY = 6;
+    private static final int REV_TYPE = 7;
+    private static final int CODE_COLUMNS = 8;
+
+    private final ProjectLruCache<CacheKey, CompactRevision> entries;
+
+    public RequirementRevisionCache(@Value("${requirement.revision-cache.max-requirements:200000}") int maxRequirements,
+                                    MeterRegistry meterRegistry) {
+        this.entries = ProjectLruCache.ofWeight(maxRequirements, CompactRevision::size, CacheKey::projectId);
+
+        FunctionCounter.builder("requirement.revision.cache.hits", entries, ProjectLruCache::hits)
+                .register(meterRegistry);
+        FunctionCounter.builder("requirement.revision.cache.misses", entries, ProjectLruCache::misses)
+                .register(meterRegistry);
+        FunctionCounter.builder("requirement.revision.cache.evictions", entries, ProjectLruCache::evictions)
+                .register(meterRegistry);
+        FunctionCounter.builder("requirement.revision.cache.invalidations", entries, ProjectLruCache::invalidations)
+                .register(meterRegistry);
+        Gauge.builder("requirement.revision.cache.requirements", entries, ProjectLruCache::weight)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회를 시작하기 전에 받아둔 세대 값. 조회 도중 무효화가 일어나면 {@link #put} 이 결과를 버립니다.
+     */
+    public long generation(Long projectId) {
+        return entries.generation(projectId);
+    }
+
+    public Optional<List<RequirementResponse>> get(Long projectId, int revisionCount) {
+        CompactRevision revision = entries.get(new CacheKey(projectId, revisionCount));
+        return Optional.ofNullable(revision).map(r -> r.decode(revisionCount));
+    }
+
+    public void put(Long projectId, int revisionCount, long generation, List<RequirementResponse> responses) {
+        if (generation != entries.generation(projectId)) {
+            return;  // 조회 도중 변경이 커밋됨, 인코딩 생략
+        }
+        entries.put(new CacheKey(projectId, revisionCount), CompactRevision.encode(responses), generation);
+    }
+
+    /**
+     * fromRevision 이상의 리비전을 제거합니다. 그 이전 리비전은 변하지 않으므로 그대로 둡니다.
+     */
+    public void evictFrom(Long projectId, int fromRevision) {
+        entries.invalidate(projectId, key -> key.revisionCount() >= fromRevision);
+    }
+
+    /**
+     * 스냅샷 갱신({@link RequirementSnapshotService#onRequirementChanged}) 이후에 제거해야 오래된 스냅샷이 다시 캐시되지 않습니다.
+     */
+    @Order(100)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRequirementChanged(RequirementChangedEvent event) {
+        evictFrom(event.projectId(), event.fromRevision());
+        log.debug("요구사항 리비전 캐시 무효화 - 프로젝트: {}, 리비전: {}~", event.projectId(), event.fromRevision());
+    }
+
+    public long size() {
+        return entries.weight();
+    }
+
+    private record CacheKey(Long projectId, int revisionCount) {
+    }
+
+    /**
+     * 한 리비전의 요구사항 목록을 컬럼 배열로 보관합니다.
+     */
+    private static final class CompactRevision {
+
+        private final String[] dictionary;
+        private final int[] codes;  // 행 * CODE_COLUMNS
+        private final long[] reqPks;
+        private final String[] reqIdCodes;
+        private final String[] names;
+        private final String[] descriptions;
+        private final LocalDateTime[] createdDates;
+        private final LocalDateTime[] modifiedDates;
+        private final List<List<String>> modReasons;
+        private final List<List<SourceResponse>> sources;
+
+        private CompactRevision(String[] dictionary, int[] codes, long[] reqPks, String[] reqIdCodes, String[] names,
+                                String[] descriptions, LocalDateTime[] createdDates, LocalDateTime[] modifiedDates,
+                                List<List<String>> modReasons, List<List<SourceResponse>> sources) {
+            this.dictionary = dictionary;
+            this.codes = codes;
+            this.reqPks = reqPks;
+            this.reqIdCodes = reqIdCodes;
+            this.names = names;
+            this.descriptions = descriptions;
+            this.createdDates = createdDates;
+            this.modifiedDates = modifiedDates;
+            this.modReasons = modReasons;
+            this.sources = sources;
+        }
+
+        static CompactRevision encode(List<RequirementResponse> responses) {
+            int rows = responses.size();
+            Map<String, Integer> index = new HashMap<>();
+            List<String> dictionary = new ArrayList<>();
+
+            int[] codes = new int[rows * CODE_COLUMNS];
+            long[] reqPks = new long[rows];
+            String[] reqIdCodes = new String[rows];
+            String[] names = new String[rows];
+            String[] descriptions = new String[rows];
+            LocalDateTime[] createdDates = new LocalDateTime[rows];
+            LocalDateTime[] modifiedDates = new LocalDateTime[rows];
+            List<List<String>> modReasons = new ArrayList<>(rows);
+            List<List<SourceResponse>> sources = new ArrayList<>(rows);
+
+            for (int i = 0; i < rows; i++) {
+                RequirementResponse r = responses.get(i);
+                int base = i * CODE_COLUMNS;
+                codes[base + TYPE] = code(r.getType(), index, dictionary);
+                codes[base + RECEPTION] = code(r.getReception(), index, dictionary);
+                codes[base + LEVEL1] = code(r.getLevel1(), index, dictionary);
+                codes[base + LEVEL2] = code(r.getLevel2(), index, dictionary);
+                codes[base + LEVEL3] = code(r.getLevel3(), index, dictionary);
+                codes[base + PRIORITY] = code(r.getPriority(), index, dictionary);
+                codes[base + DIFFICULTY] = code(r.getDifficulty(), index, dictionary);
+                codes[base + REV_TYPE] = code(r.getRevType(), index, dictionary);
+
+                reqPks[i] = r.getReqPk();
+                reqIdCodes[i] = r.getReqIdCode();
+                names[i] = r.getName();
+                descriptions[i] = r.getDescription();
+                createdDates[i] = r.getCreatedDate();
+                modifiedDates[i] = r.getModifiedDate();
+                modReasons.add(r.getModReason() == null ? null : List.copyOf(r.getModReason()));
+                sources.add(r.getSources() == null ? null : List.copyOf(r.getSources()));
+            }
+
+            return new CompactRevision(dictionary.toArray(String[]::new), codes, reqPks, reqIdCodes, names,
+                    descriptions, createdDates, modifiedDates, modReasons, sources);
+        }
+
+        private static int code(String value, Map<String, Integer> index, List<String> dictionary) {
+            if (value == null) {
+                return NONE;
+            }
+            return index.computeIfAbsent(value, v -> {
+                dictionary.add(v);
+                return dictionary.size() - 1;
+            });
+        }
+
+        private String value(int row, int column) {
+            int code = codes[row * CODE_COLUMNS + column];
+            return code == NONE ? null : dictionary[code];
+        }
+
+        List<RequirementResponse> decode(int revisionCount) {
+            List<RequirementResponse> responses = new ArrayList<>(reqPks.length);
+            for (int i = 0; i < reqPks.length; i++) {
+                RequirementResponse r = new RequirementResponse();
+                r.setReqPk(reqPks[i]);
+                r.setReqIdCode(reqIdCodes[i]);
+                r.setRevisionCount(revisionCount);
+                r.setType(value(i, TYPE));
+                r.setReception(value(i, RECEPTION));
+                r.setLevel1(value(i, LEVEL1));
+                r.setLevel2(value(i, LEVEL2));
+                r.setLevel3(value(i, LEVEL3));
+                r.setPriority(value(i, PRIORITY));
+                r.setDifficulty(value(i, DIFFICULTY));
+                r.setRevType(value(i, REV_TYPE));
+                r.setName(names[i]);
+                r.setDescription(descriptions[i]);
+                r.setCreatedDate(createdDates[i]);
+                r.setModifiedDate(modifiedDates[i]);
+                r.setModReason(modReasons.get(i));
+                r.setSources(sources.get(i));
+                responses.add(r);
+            }
+            return responses;
+        }
+
+        int size() {
+            return reqPks.length;
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.skala.decase.domain.requirement.service;
+
+import com.skala.decase.domain.requirement.controller.dto.request.RequirementSearchCondition;
+import com.skala.decase.domain.requirement.controller.dto.response.RequirementResponse;
+import com.skala.decase.domain.requirement.domain.RequirementSearchIndex;
+import com.skala.decase.domain.requirement.domain.RequirementTimeline;
+import com.skala.decase.domain.requirement.event.RequirementChangedEvent;
+import com.skala.decase.global.cache.ProjectLruCache;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * (프로젝트, 리비전) 별 요구사항 검색 색인을 보관하고 검색어 검색을 수행합니다.
+ * <p>
+ * 색인은 가장 가까운 리비전의 색인에서 감사 행이 바뀐 요구사항만 다시 넣어 만들고, 디스크에 저장해 재시작 후에도 재사용합니다.
+ * 디스크의 색인이 오래되었더라도 불러올 때 같은 방식으로 바뀐 요구사항만 반영합니다.
+ */
+@Slf4j
+@Service
+public class RequirementSearchIndexService {
+
+    private static final Comparator<Match> RANKED_ORDER = Comparator.comparingDouble(Match::score).reversed()
+            .thenComparing(match -> Objects.toString(match.version().type(), ""))
+            .thenComparing(match -> match.version().reqIdCode());
+
+    private final RequirementTimelineService requirementTimelineService;
+    private final Executor searchIndexExecutor;
+    private final Path indexPath;
+    private final ProjectLruCache<IndexKey, RequirementSearchIndex> indexes;
+
+    public RequirementSearchIndexService(RequirementTimelineService requirementTimelineService,
+                                         @Qualifier("searchIndexExecutor") Executor searchIndexExecutor,
+                                         @Value("${requirement.search-index.path:./storage/search-index}") String indexPath,
+                                         @Value("${requirement.search-index.max-entries:50}") int maxEntries) {
+        this.requirementTimelineService = requirementTimelineService;
+        this.searchIndexExecutor = searchIndexExecutor;
+        this.indexPath = Paths.get(indexPath);
+        this.indexes = ProjectLruCache.ofEntries(maxEntries, IndexKey::projectId);
+    }
+
+    public record RankedRequirement(RequirementResponse requirement, double score) {
+    }
+
+    /**
+     * 검색어와 나머지 조건에 맞는 요구사항을 (점수 내림차순, 유형, 요구사항 ID) 순으로 limit 건 조회합니다.
+     * 커서가 주어지면 해당 위치 다음부터 조회합니다.
+     */
+    public List<RankedRequirement> search(Long projectId, int revisionCount, RequirementSearchCondition condition,
+                                          Double cursorScore, String cursorType, String cursorReqIdCode, int limit) {
+        Indexed indexed = index(projectId, revisionCount);
+        RequirementTimeline timeline = indexed.timeline();
+
+        List<Match> matches = new ArrayList<>();
+        for (RequirementSearchIndex.Hit hit : indexed.index().search(condition.query())) {
+            RequirementTimeline.Version version = timeline.versionAt(hit.reqIdCode(), revisionCount);
+            if (version != null && matches(condition, version, timeline, revisionCount)) {
+                matches.add(new Match(version, hit.score()));
+            }
+        }
+        matches.sort(RANKED_ORDER);
+
+        int start = 0;
+        if (cursorScore != null) {
+            Match cursor = new Match(cursorVersion(cursorType, cursorReqIdCode), cursorScore);
+            while (start < matches.size() && RANKED_ORDER.compare(matches.get(start), cursor) <= 0) {
+                start++;
+            }
+        }
+
+        return matches.subList(start, Math.min(matches.size(), start + limit)).stream()
+                .map(match -> new RankedRequirement(
+                        requirementTimelineService.toResponse(timeline, match.version(), revisionCount),
+                        match.score()))
+                .toList();
+    }
+
+    private boolean matches(RequirementSearchCondition condition, RequirementTimeline.Version version,
+                            RequirementTimeline timeline, int revisionCount) {
+        if (!equalsIfPresent(condition.level1(), version.level1())
+                || !equalsIfPresent(condition.level2(), version.level2())
+                || !equalsIfPresent(condition.level3(), version.level3())
+                || !equalsIfPresent(condition.type(), version.type())
+                || !equalsIfPresent(condition.difficulty(), version.difficulty())
+                || !equalsIfPresent(condition.priority(), version.priority())) {
+            return false;
+        }
+        if (condition.docTypes() == null) {
+            return true;
+        }
+        // 출처 문서 ID 의 접두어(예: RFP-1 -> RFP)로 필터링
+        for (RequirementTimeline.SourceVersion source : timeline.sourcesAt(version.reqPk(), revisionCount)) {
+            int idx = source.docId().indexOf('-');
+            if (condition.docTypes().contains(idx < 0 ? source.docId() : source.docId().substring(0, idx))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean equalsIfPresent(String expected, String actual) {
+        return expected == null || expected.equals(actual);
+    }
+
+    private RequirementTimeline.Version cursorVersion(String type, String reqIdCode) {
+        return new RequirementTimeline.Version(0, reqIdCode, 0, type, null, null, null, null, null, null, null, null,
+                0, false, null, null, 0);
+    }
+
+    /**
+     * 타임라인은 세대 값을 받은 뒤에 가져와야 오래된 타임라인으로 만든 색인이 보관되지 않습니다.
+     */
+    private Indexed index(Long projectId, int revisionCount) {
+        IndexKey key = new IndexKey(projectId, revisionCount);
+        long generation = indexes.generation(projectId);
+        RequirementSearchIndex cached = indexes.get(key);
+        RequirementTimeline timeline = requirementTimelineService.getTimeline(projectId);
+        if (cached != null) {
+            return new Indexed(timeline, cached);
+        }
+        RequirementSearchIndex base = nearestInMemory(projectId, revisionCount);
+        if (base == null) {
+            base = readNearest(projectId, revisionCount);
+        }
+
+        RequirementSearchIndex.Updater updater = base.toUpdater();
+        Set<String> current = new HashSet<>();
+        int changed = 0;
+        for (RequirementTimeline.Version version : timeline.stateAt(revisionCount)) {
+            current.add(version.reqIdCode());
+            List<RequirementTimeline.SourceVersion> sources = timeline.sourcesAt(version.reqPk(), revisionCount);
+            long signature = signature(version, sources);
+            if (!updater.contains(version.reqIdCode(), signature)) {
+                updater.put(version.reqIdCode(), signature, version.name(), version.description(),
+                        sources.stream().map(RequirementTimeline.SourceVersion::relSentence).toList());
+                changed++;
+            }
+        }
+        changed += updater.retainAll(current);
+        RequirementSearchIndex index = updater.build(revisionCount);
+        log.info("요구사항 검색 색인 생성 - 프로젝트: {}, 리비전: {} (기준 리비전: {}), 요구사항 수: {}, 반영: {}",
+                projectId, revisionCount, base.revision(), index.size(), changed);
+
+        indexes.put(key, index, generation);
+        if (changed > 0 || base.revision() != revisionCount) {
+            searchIndexExecutor.execute(() -> write(projectId, index));
+        }
+        return new Indexed(timeline, index);
+    }
+
+    /**
+     * 감사 행이 바뀌지 않았으면 같은 값이 되도록 요구사항과 출처의 감사 rev 로 서명을 만듭니다.
+     */
+    private long signature(RequirementTimeline.Version version, List<RequirementTimeline.SourceVersion> sources) {
+        long signature = version.rev();
+        for (RequirementTimeline.SourceVersion source : sources) {
+            signature = 31 * signature + source.sourceId();
+            signature = 31 * signature + source.rev();
+        }
+        return signature;
+    }
+
+    /**
+     * 같은 프로젝트에서 가장 가까운 아래 리비전의 색인, 없으면 가장 가까운 위 리비전의 색인
+     */
+    private RequirementSearchIndex nearestInMemory(Long projectId, int revisionCount) {
+        RequirementSearchIndex below = null;
+        RequirementSearchIndex above = null;
+        for (Map.Entry<IndexKey, RequirementSearchIndex> entry : indexes.entriesOf(projectId).entrySet()) {
+            int revision = entry.getKey().revisionCount();
+            if (revision <= revisionCount && (below == null || revision > below.revision())) {
+                below = entry.getValue();
+            } else if (revision > revisionCount && (above == null || revision < above.revision())) {
+                above = entry.getValue();
+            }
+        }
+        return below != null ? below : above;
+    }
+
+    private RequirementSearchIndex readNearest(Long projectId, int revisionCount) {
+        Integer below = null;
+        Integer above = null;
+        for (int revision : storedRevisions(projectId)) {
+            if (revision <= revisionCount && (below == null || revision > below)) {
+                below = revision;
+            } else if (revision > revisionCount && (above == null || revision < above)) {
+                above = revision;
+            }
+        }
+        Integer nearest = below != null ? below : above;
+        if (nearest == null) {
+            return RequirementSearchIndex.empty();
+        }
+
+        Path file = indexFile(projectId, nearest);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            return RequirementSearchIndex.readFrom(in);
+        } catch (IOException e) {
+            log.warn("요구사항 검색 색인 파일을 읽을 수 없어 새로 생성합니다: {}", file, e);
+            deleteQuietly(file);
+            return RequirementSearchIndex.empty();
+        }
+    }
+
+    private void write(Long projectId, RequirementSearchIndex index) {
+        Path file = indexFile(projectId, index.revision());
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), index.revision() + "-", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                index.writeTo(out);
+            } catch (IOException e) {
+                deleteQuietly(temp);
+                throw e;
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("요구사항 검색 색인 저장 실패 - 프로젝트: {}, 리비전: {}", projectId, index.revision(), e);
+        }
+    }
+
+    private List<Integer> storedRevisions(Long projectId) {
+        Path directory = indexPath.resolve(String.valueOf(projectId));
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.matches("\\d+\\.idx"))
+                    .map(name -> Integer.parseInt(name.substring(0, name.length() - ".idx".length())))
+                    .toList();
+        } catch (IOException e) {
+            log.warn("요구사항 검색 색인 디렉토리를 읽을 수 없습니다: {}", directory, e);
+            return List.of();
+        }
+    }
+
+    private Path indexFile(Long projectId, int revisionCount) {
+        return indexPath.resolve(String.valueOf(projectId)).resolve(revisionCount + ".idx");
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    /**
+     * 변경이 반영된 리비전 이상의 색인을 버리고, 해당 프로젝트를 검색 중이었다면 최신 리비전 색인을 백그라운드에서 다시 만듭니다.
+     * 새 색인은 남아 있는 이전 리비전 색인에서 바뀐 요구사항만 반영해 만듭니다.
+     */
+    @Order(80)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRequirementChanged(RequirementChangedEvent event) {
+        Long projectId = event.projectId();
+        boolean searched = !indexes.entriesOf(projectId).isEmpty();
+        indexes.invalidate(projectId, key -> key.revisionCount() >= event.fromRevision());
+        storedRevisions(projectId).stream()
+                .filter(revision -> revision >= event.fromRevision())
+                .forEach(revision -> deleteQuietly(indexFile(projectId, revision)));
+        log.debug("요구사항 검색 색인 무효화 - 프로젝트: {}, 리비전: {}~", projectId, event.fromRevision());
+
+        if (searched) {
+            searchIndexExecutor.execute(() -> {
+                try {
+                    int latest = requirementTimelineService.getTimeline(projectId).latestRevision();
+                    if (latest > 0) {
+                        index(projectId, latest);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("요구사항 검색 색인 재생성 실패 - 프로젝트: {}", projectId, e);
+                }
+            });
+        }
+    }
+
+    private record IndexKey(Long projectId, int revisionCount) {
+    }
+
+    private record Indexed(RequirementTimeline timeline, RequirementSearchIndex index) {
+    }
+
+    private record Match(RequirementTimeline.Version version, double score) {
+    }
+}
@@ -7,23 +7,33 @@ import com.skala.decase.domain.member.repository.MemberRepository;
 import com.skala.decase.domain.mockup.controller.dto.request.CreateMockUpRequest;
 import com.skala.decase.domain.mockup.mapper.MockupMapper;
 import com.skala.decase.domain.project.domain.Project;
+import com.skala.decase.domain.project.service.ProjectRevisionService;
 import com.skala.decase.domain.project.service.ProjectService;
 import com.skala.decase.domain.requirement.controller.dto.request.RequirementRevisionDto;
+import com.skala.decase.domain.requirement.controller.dto.request.RequirementSearchCondition;
 import com.skala.decase.domain.requirement.controller.dto.request.UpdateRequirementDto;
 import com.skala.decase.domain.requirement.controller.dto.request.UpdateSrsAgentRequest;
+import com.skala.decase.domain.requirement.controller.dto.response.ModReasonEntry;
+import com.skala.decase.domain.requirement.controller.dto.response.RequirementFacetResponse;
+import com.skala.decase.domain.requirement.controller.dto.response.RequirementPageResponse;
 import com.skala.decase.domain.requirement.controller.dto.response.RequirementResponse;
 import com.skala.decase.domain.requirement.controller.dto.response.SourceResponse;
 import com.skala.decase.domain.requirement.domain.*;
+import com.skala.decase.domain.requirement.event.RequirementChangedEvent;
 import com.skala.decase.domain.requirement.exception.RequirementException;
 import com.skala.decase.domain.requirement.mapper.RequirementServiceMapper;
 import com.skala.decase.domain.requirement.mapper.RequirementUpdateServiceMapper;
 import com.skala.decase.domain.requirement.repository.PendingRequirementRepository;
 import com.skala.decase.domain.requirement.repository.RequirementRepository;
+import com.skala.decase.domain.requirement.repository.RevisionProjection;
 import com.skala.decase.domain.source.domain.Source;
 import com.skala.decase.domain.source.service.SourceRepository;
+import com.skala.decase.global.model.PageCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
@@ -44,9 +54,18 @@ public class RequirementService {
     private final MemberRepository memberRepository;
     private final PendingRequirementRepository pendingRequirementRepository;
     private final RequirementAuditService requirementAuditService;
+    private final RequirementRevisionCache requirementRevisionCache;
+    private final RequirementTimelineService requirementTimelineService;
+    private final RequirementFacetService requirementFacetService;
+    private final RequirementSearchIndexService requirementSearchIndexService;
+    private final ProjectRevisionService projectRevisionService;
     private final MemberProjectRepository memberProjectRepository;
 
     private final RequirementServiceMapper requirementServiceMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RequirementSnapshotService requirementSnapshotService;
+
+    private static final int MAX_SEARCH_PAGE_SIZE = 500;
 
     // 리버전 기본값 1로 받도록 하기 위함
     public List<RequirementResponse> getGeneratedRequirements(Long projectId) {
@@ -61,32 +80,20 @@ public class RequirementService {
      * @return
      */
     public List<RequirementResponse> getGeneratedRequirements(Long projectId, int revisionCount) {
+        // 조회 도중 변경이 커밋되면 오래된 결과가 캐시되지 않도록 먼저 세대 값을 받아둠
+        long generation = requirementRevisionCache.generation(projectId);
         Project project = projectService.findByProjectId(projectId);
 
-        // 버전 별로 가져올 수 있도록 수정해야함 -> aud에서 reqCodeId 별로 그룹핑해서 revisionCount보다 같거나 작은걸로 하면 됨
-        List<RequirementResponse> requirements = requirementAuditService.findByProjectIdAndRevisionCount(projectId, revisionCount);
-
-        if (requirements == null) {
-            throw new RequirementException("요구사항이 존재하지 않습니다.", HttpStatus.BAD_REQUEST);
+        Optional<List<RequirementResponse>> cached = requirementRevisionCache.get(projectId, revisionCount);
+        if (cached.isPresent()) {
+            return cached.get();
         }
 
-        // 모든 reqIdCode 수집
-        List<String> reqIdCodes = requirements.stream()
-                .map(RequirementResponse::getReqIdCode)
-                .distinct()
-                .toList();
+        // 프로젝트 타임라인에서 해당 리비전 상태를 구성 (출처, 변경 이유 포함, 유형/요구사항 ID 순)
+        List<RequirementResponse> responses = requirementTimelineService.getRequirementsAt(projectId, revisionCount);
 
-        // 한 번에 이력 조회 (Map 형태로 반환)
-        Map<String, List<String>> reasonMap = requirementAuditService.findModReasonByProjectIdAndReqIdCodes(projectId, reqIdCodes, revisionCount);
-        // 변환
-        return requirements.stream()
-                .peek(req -> {
-                    List<String> reasons = reasonMap.getOrDefault(req.getReqIdCode(), List.of());
-                    req.setModReason(reasons);
-                })
-                .sorted(Comparator.comparing(RequirementResponse::getType)
-                        .thenComparing(RequirementResponse::getReqIdCode))
-                .toList();
+        requirementRevisionCache.put(projectId, revisionCount, generation, responses);
+        return responses;
     }
 
     /**
@@ -101,7 +108,7 @@ public class RequirementService {
 
         //유효한 요구사항 리스트 조회
         // 출처 없이 유효한 요구사항만 조회하도록 수정 필요
-        List<RequirementResponse> requirements = requirementAuditService.findByProjectIdAndRevisionCountToUpdate(projectId, revisionCount);
+        List<RequirementResponse> requirements = requirementAuditService.findRevision(projectId, revisionCount, RevisionProjection.REQUIREMENTS_ONLY);
 
         //요구사항이 없는 경우
         if (requirements.isEmpty()) {
@@ -124,7 +131,7 @@ public class RequirementService {
         Project project = projectService.findByProjectId(projectId);
 
         //유효한 기능적 요구사항 리스트 조회 => 소스도 해당 버전으로 가져옴 - 매핑 필요 X
-        List<RequirementResponse> requirements = requirementAuditService.findByProjectIdAndRevisionCountToMockup(projectId, revisionCount);
+        List<RequirementResponse> requirements = requirementAuditService.findRevision(projectId, revisionCount, RevisionProjection.FUNCTIONAL_WITH_SOURCES);
 
         //요구사항이 없는 경우
         if (requirements.isEmpty()) {
@@ -137,61 +144,119 @@ public class RequirementService {
     }
 
     public Map<String, List<String>> getRequirementCategory(Long projectId, int revisionCount) {
+        projectService.findByProjectId(projectId);
+        return requirementFacetService.getCategories(projectId, revisionCount);
+    }
 
-        Project project = projectService.findByProjectId(projectId);
+    /**
+     * 리비전의 분류 트리와 유형/중요도/난이도/수용 여부/출처 문서 유형별 요구사항 수
+     */
+    public RequirementFacetResponse getRequirementFacets(Long projectId, int revisionCount) {
+        projectService.findByProjectId(projectId);
+        return requirementFacetService.getFacets(projectId, revisionCount);
+    }
 
-        List<Requirement> requirements = requirementRepository.findValidRequirementsByProjectAndRevision(
-                project.getProjectId(), revisionCount);
+    /**
+     * 특정 리비전의 요구사항 정의서를 조건으로 검색합니다.
+     * <p>
+     * 검색어가 있으면 검색 색인으로 찾아 (점수, type, reqIdCode) 순, 없으면 스냅샷에서 (type, reqIdCode) 순 커서 기반 페이지로 반환합니다.
+     * 스냅샷을 별도 트랜잭션에서 생성한 뒤 조회해야 하므로 읽기 시점이 고정되는 트랜잭션 없이 실행합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RequirementPageResponse searchRequirements(Long projectId, int revisionCount, String query,
+                                                      String level1, String level2, String level3,
+                                                      Integer type, Integer difficulty,
+                                                      Integer priority,
+                                                      List<String> docTypes,
+                                                      String cursor, int size) {
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new RequirementException("페이지 크기는 1~" + MAX_SEARCH_PAGE_SIZE + " 사이여야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+        projectService.findByProjectId(projectId);
+
+        RequirementSearchCondition condition = new RequirementSearchCondition(
+                (query == null || query.isBlank()) ? null : query,
+                level1, level2, level3,
+                type == null ? null : RequirementType.fromOrdinal(type).name(),
+                difficulty == null ? null : Difficulty.fromOrdinal(difficulty).name(),
+                priority == null ? null : Priority.fromOrdinal(priority).name(),
+                docTypes);
+
+        if (condition.query() != null) {
+            return searchRanked(projectId, revisionCount, condition, cursor, size);
+        }
 
-        Set<String> level1Set = new HashSet<>();
-        Set<String> level2Set = new HashSet<>();
-        Set<String> level3Set = new HashSet<>();
+        requirementSnapshotService.ensureMaterialized(projectId, revisionCount);
 
-        for (Requirement req : requirements) {
-            if (req.getLevel1() != null) {
-                level1Set.add(req.getLevel1());
-            }
-            if (req.getLevel2() != null) {
-                level2Set.add(req.getLevel2());
-            }
-            if (req.getLevel3() != null) {
-                level3Set.add(req.getLevel3());
+        // (type, reqIdCode). type 은 null 일 수 있습니다.
+        String[] position = decodeCursor(cursor, 2);
+        List<RequirementResponse> rows = requirementAuditService.searchByRevision(projectId, revisionCount, condition,
+                position == null ? null : position[0], position == null ? null : position[1], size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<RequirementResponse> content = hasNext ? rows.subList(0, size) : rows;
+
+        // 현재 페이지의 변경 이유만 조회
+        List<String> reqIdCodes = content.stream()
+                .map(RequirementResponse::getReqIdCode)
+                .toList();
+        Map<String, List<String>> reasonMap = requirementAuditService.findModReasons(projectId, revisionCount, reqIdCodes);
+        content.forEach(req -> req.setModReason(reasonMap.getOrDefault(req.getReqIdCode(), List.of())));
+
+        String nextCursor = null;
+        if (hasNext) {
+            RequirementResponse last = content.get(content.size() - 1);
+            nextCursor = PageCursor.encode(last.getType(), last.getReqIdCode());
+        }
+        return new RequirementPageResponse(content, nextCursor, hasNext);
+    }
+
+    private RequirementPageResponse searchRanked(Long projectId, int revisionCount, RequirementSearchCondition condition,
+                                                 String cursor, int size) {
+        // (score, type, reqIdCode)
+        String[] position = decodeCursor(cursor, 3);
+        Double cursorScore = null;
+        if (position != null) {
+            try {
+                cursorScore = Double.valueOf(String.valueOf(position[0]));
+            } catch (NumberFormatException e) {
+                throw new RequirementException("유효하지 않은 커서입니다.", HttpStatus.BAD_REQUEST);
             }
         }
 
-        Map<String, List<String>> categoryMap = new HashMap<>();
-        categoryMap.put("대분류", new ArrayList<>(level1Set));
-        categoryMap.put("중분류", new ArrayList<>(level2Set));
-        categoryMap.put("소분류", new ArrayList<>(level3Set));
+        List<RequirementSearchIndexService.RankedRequirement> rows = requirementSearchIndexService.search(
+                projectId, revisionCount, condition, cursorScore,
+                position == null ? null : position[1], position == null ? null : position[2], size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<RequirementSearchIndexService.RankedRequirement> page = hasNext ? rows.subList(0, size) : rows;
 
-        return categoryMap;
+        String nextCursor = null;
+        if (hasNext) {
+            RequirementSearchIndexService.RankedRequirement last = page.get(page.size() - 1);
+            nextCursor = PageCursor.encode(last.score(), last.requirement().getType(), last.requirement().getReqIdCode());
+        }
+        List<RequirementResponse> content = page.stream()
+                .map(RequirementSearchIndexService.RankedRequirement::requirement)
+                .toList();
+        return new RequirementPageResponse(content, nextCursor, hasNext);
     }
 
-    public List<RequirementResponse> getFilteredRequirements(Long projectId, int revisionCount, String query,
-                                                             String level1, String level2, String level3,
-                                                             Integer type, Integer difficulty,
-                                                             Integer priority,
-                                                             List<String> docTypes) {
+    private String[] decodeCursor(String cursor, int parts) {
+        try {
+            return PageCursor.decode(cursor, parts);
+        } catch (IllegalArgumentException e) {
+            throw new RequirementException("유효하지 않은 커서입니다.", HttpStatus.BAD_REQUEST);
+        }
+    }
 
+    /**
+     * 특정 리비전까지의 요구사항별 변경 이유 이력을 기록 시각과 함께 조회합니다. 리비전이 없으면 최신 리비전 기준입니다.
+     */
+    public Map<String, List<ModReasonEntry>> getModReasonHistory(Long projectId, Integer revisionCount) {
         Project project = projectService.findByProjectId(projectId);
-        List<RequirementResponse> response = getGeneratedRequirements(projectId, revisionCount);
-
-        // 스트림 필터링
-        return response.stream()
-                .filter(r -> query == null || r.getName().contains(query) || r.getDescription().contains(query))
-                .filter(r -> level1 == null || level1.equals(r.getLevel1()))
-                .filter(r -> level2 == null || level2.equals(r.getLevel2()))
-                .filter(r -> level3 == null || level3.equals(r.getLevel3()))
-                .filter(r -> type == null || r.getType().equals(RequirementType.fromOrdinal(type)))
-                .filter(r -> difficulty == null || r.getDifficulty().equals(Difficulty.fromOrdinal(difficulty)))
-                .filter(r -> priority == null || r.getPriority().equals(Priority.fromOrdinal(priority)))
-                .filter(r -> docTypes == null || r.getSources().stream()
-                        .anyMatch(rd -> {
-                            String docId = rd.docId();
-                            String prefix = docId.split("-")[0];
-                            return docTypes.contains(prefix);
-                        }))
-                .toList();
+        int revision = (revisionCount == null) ? getMaxRevision(project) : revisionCount;
+        return requirementAuditService.findModReasonEntries(projectId, revision);
     }
 
     public int getMaxRevision(Project project) {
@@ -199,21 +264,13 @@ public class RequirementService {
     }
 
     // 요구사항 버전 별 조회
+    /**
+     * 리비전 목록은 캐시 무효화 시점과 어긋나지 않도록 읽기 시점이 고정되는 트랜잭션 없이 조회합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<RequirementRevisionDto> getRequirementRevisions(Long projectId) {
         Project project = projectService.findByProjectId(projectId);
-
-        int maxRevision = Optional.ofNullable(requirementRepository.getMaxRevisionCount(project)).orElse(1);
-
-        List<RequirementRevisionDto> versionList = new ArrayList<>();
-        for (int i = maxRevision; i > 0; i--) {
-            int finalI = i;
-            Optional<Requirement> requirementOpt = requirementRepository.findFirstByProjectAndRevisionCount(project, i);
-            requirementOpt.ifPresent(req -> {
-                String date = req.getCreatedDate().toLocalDate().toString();
-                versionList.add(new RequirementRevisionDto("요구사항 정의서", finalI, date));
-            });
-        }
-        return versionList;
+        return projectRevisionService.getCatalog(project);
     }
 
     @Transactional
@@ -235,6 +292,7 @@ public class RequirementService {
             //admin일 경우 바로 반영
             if (memberProjectRepository.existsAdminPermission(project, member)) {
                 updateRequirementByAdmin(req, requirement, member);
+                eventPublisher.publishEvent(new RequirementChangedEvent(projectId, requirement.getRevisionCount()));
                 continue;
             }
 
@@ -274,6 +332,7 @@ public class RequirementService {
             List<PendingRequirement> pendings = pendingRequirementRepository.findAllPendingRequirementByReqIdCode(requirement.getReqIdCode());
             pendingRequirementRepository.deleteAll(pendings);
             requirementRepository.delete(requirement);
+            eventPublisher.publishEvent(new RequirementChangedEvent(projectId, requirement.getRevisionCount()));
         }
 
         PendingRequirement pendingRequirement = new PendingRequirement();
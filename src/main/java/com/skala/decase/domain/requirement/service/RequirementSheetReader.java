@@ -0,0 +1,115 @@
+package com.skala.decase.domain.requirement.service;
+
+import com.skala.decase.domain.requirement.exception.RequirementException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import javax.xml.parsers.ParserConfigurationException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.http.HttpStatus;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * 엑셀 첫 시트를 SAX 로 한 행씩 읽습니다.
+ * <p>
+ * 시트 XML 을 이벤트로 받아 행이 끝날 때마다 셀 값 배열을 넘기므로 시트 전체를 메모리에 올리지 않습니다.
+ * 셀 값은 엑셀에 보이는 그대로의 문자열이며 빈 셀은 null 입니다.
+ */
+final class RequirementSheetReader {
+
+    /**
+     * 한 행의 셀 값을 받습니다.
+     */
+    @FunctionalInterface
+    interface RowHandler {
+        /**
+         * @param rowNum 0부터 시작하는 행 번호
+         */
+        void row(int rowNum, String[] cells);
+    }
+
+    private RequirementSheetReader() {
+    }
+
+    /**
+     * file 의 첫 시트를 columnCount 열까지 읽어 행마다 handler 를 호출합니다. 값이 하나도 없는 행은 건너뜁니다.
+     */
+    static void read(Path file, int columnCount, RowHandler handler) {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new RequirementException("시트가 없는 엑셀 파일입니다.", HttpStatus.BAD_REQUEST);
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, null, strings, new RowCollector(columnCount, handler), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (IOException | OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new RequirementException("엑셀 파일을 읽을 수 없습니다.", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final int columnCount;
+        private final RowHandler handler;
+        private final String[] cells;
+        private boolean empty;
+        private int lastCol;
+
+        private RowCollector(int columnCount, RowHandler handler) {
+            this.columnCount = columnCount;
+            this.handler = handler;
+            this.cells = new String[columnCount];
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            Arrays.fill(cells, null);
+            empty = true;
+            lastCol = -1;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (!empty) {
+                handler.row(rowNum, cells.clone());
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            // 값이 없는 셀은 이벤트가 오지 않으므로 셀 주소로 열을 찾습니다. 주소가 없으면 바로 다음 열입니다.
+            int col = cellReference == null ? lastCol + 1 : new CellReference(cellReference).getCol();
+            lastCol = col;
+            if (col >= columnCount || formattedValue == null) {
+                return;
+            }
+            String value = formattedValue.trim();
+            if (!value.isEmpty()) {
+                cells[col] = value;
+                empty = false;
+            }
+        }
+    }
+}
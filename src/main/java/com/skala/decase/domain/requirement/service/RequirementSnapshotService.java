@@ -0,0 +1,100 @@
+package com.skala.decase.domain.requirement.service;
+
+import com.skala.decase.domain.requirement.controller.dto.response.RequirementResponse;
+import com.skala.decase.domain.requirement.event.RequirementChangedEvent;
+import com.skala.decase.domain.requirement.repository.RequirementAuditRepository;
+import com.skala.decase.domain.requirement.repository.RequirementSnapshotRepository;
+import com.skala.decase.domain.requirement.repository.RequirementSnapshotRevisionRepository;
+import com.skala.decase.domain.requirement.repository.RevisionProjection;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+public class RequirementSnapshotService {
+
+    private final RequirementSnapshotRepository requirementSnapshotRepository;
+    private final RequirementSnapshotRevisionRepository requirementSnapshotRevisionRepository;
+    private final RequirementAuditRepository requirementAuditRepository;
+    private final TransactionTemplate newTransaction;
+
+    public RequirementSnapshotService(RequirementSnapshotRepository requirementSnapshotRepository,
+                                      RequirementSnapshotRevisionRepository requirementSnapshotRevisionRepository,
+                                      RequirementAuditRepository requirementAuditRepository,
+                                      PlatformTransactionManager transactionManager) {
+        this.requirementSnapshotRepository = requirementSnapshotRepository;
+        this.requirementSnapshotRevisionRepository = requirementSnapshotRevisionRepository;
+        this.requirementAuditRepository = requirementAuditRepository;
+        // 호출한 쪽의 트랜잭션은 이미 읽기 시점이 고정되어 새로 생성한 행을 볼 수 없으므로 별도 트랜잭션에서 생성합니다.
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 스냅샷을 생성한 리비전인지. 요구사항이 없는 리비전도 생성했으면 true 입니다.
+     */
+    public boolean isMaterialized(Long projectId, int revisionCount) {
+        return requirementSnapshotRevisionRepository.existsByProjectIdAndRevisionCount(projectId, revisionCount);
+    }
+
+    /**
+     * 스냅샷이 없는 리비전을 감사 테이블로부터 생성한 뒤 projection 에 따라 조회합니다.
+     */
+    public List<RequirementResponse> materialize(Long projectId, int revisionCount, RevisionProjection projection) {
+        ensureMaterialized(projectId, revisionCount);
+        return newTransaction.execute(status ->
+                requirementAuditRepository.findRevision(projectId, revisionCount, projection));
+    }
+
+    /**
+     * 스냅샷이 없으면 생성합니다. 이후 조회는 이 메서드가 끝난 뒤 시작해야 생성된 행을 볼 수 있습니다.
+     */
+    public void ensureMaterialized(Long projectId, int revisionCount) {
+        if (isMaterialized(projectId, revisionCount)) {
+            return;
+        }
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                // 표시를 먼저 넣어 같은 리비전을 생성하는 다른 트랜잭션과 순서를 정합니다.
+                requirementSnapshotRevisionRepository.insertMarker(projectId, revisionCount);
+                // 생성 표시를 두기 전에 만든 스냅샷이 남아 있으면 지우고 다시 만듭니다.
+                requirementSnapshotRepository.deleteRevision(projectId, revisionCount);
+                int inserted = requirementSnapshotRepository.materialize(projectId, revisionCount);
+                requirementSnapshotRevisionRepository.updateRowCount(projectId, revisionCount, inserted);
+                log.info("요구사항 스냅샷 생성 - 프로젝트: {}, 리비전: {}, 행 수: {}", projectId, revisionCount, inserted);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 같은 리비전을 먼저 생성해 커밋했습니다.
+            log.debug("요구사항 스냅샷 생성 생략 - 프로젝트: {}, 리비전: {}", projectId, revisionCount);
+        }
+    }
+
+    /**
+     * 요구사항 변경이 커밋된 후 영향을 받는 리비전의 스냅샷을 지우고 최신 리비전을 다시 생성합니다.
+     * 지워진 과거 리비전은 다음 조회 시 다시 생성됩니다.
+     */
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRequirementChanged(RequirementChangedEvent event) {
+        Long projectId = event.projectId();
+        Integer deleted = newTransaction.execute(status -> {
+            requirementSnapshotRevisionRepository.deleteFromRevision(projectId, event.fromRevision());
+            return requirementSnapshotRepository.deleteFromRevision(projectId, event.fromRevision());
+        });
+
+        int latestRevision = requirementSnapshotRepository.findLatestAuditedRevision(projectId)
+                .orElse(event.fromRevision());
+        ensureMaterialized(projectId, latestRevision);
+
+        log.info("요구사항 스냅샷 갱신 - 프로젝트: {}, 삭제 리비전: {}~ ({}행), 최신 리비전: {}",
+                projectId, event.fromRevision(), deleted, latestRevision);
+    }
+}
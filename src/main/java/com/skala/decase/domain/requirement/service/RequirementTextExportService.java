@@ -0,0 +1,192 @@
+package com.skala.decase.domain.requirement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skala.decase.domain.requirement.controller.dto.response.RequirementResponse;
+import com.skala.decase.domain.requirement.controller.dto.response.SourceResponse;
+import com.skala.decase.domain.requirement.domain.TextExportFormat;
+import com.skala.decase.domain.requirement.exception.RequirementException;
+import com.skala.decase.domain.requirement.repository.RequirementAuditRepository;
+import com.skala.decase.domain.requirement.repository.RevisionProjection;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 요구사항 정의서를 CSV, NDJSON 으로 내보냅니다.
+ * <p>
+ * 리비전 스냅샷 쿼리 커서에서 요구사항을 한 건씩 받아 바로 응답에 쓰므로 요구사항 수와 관계없이 메모리 사용량이 일정합니다.
+ * 스냅샷 생성 표시 확인과 스트리밍을 한 읽기 트랜잭션에서 하므로, 도중에 변경이 커밋되어 스냅샷이 지워져도 확인한 시점의 스냅샷을 끝까지 읽습니다.
+ */
+@Service
+public class RequirementTextExportService {
+
+    // 스트리밍 직전 스냅샷이 지워졌을 때 다시 만들어 읽는 횟수
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final String[] CSV_HEADERS = {
+            "req_id_code", "type", "level_1", "level_2", "level_3", "name", "description",
+            "priority", "difficulty", "reception", "rev_type", "created_date", "modified_date",
+            "sources", "mod_reasons"
+    };
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final RequirementSnapshotService requirementSnapshotService;
+    private final RequirementAuditRepository requirementAuditRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate snapshotRead;
+
+    public RequirementTextExportService(RequirementSnapshotService requirementSnapshotService,
+                                        RequirementAuditRepository requirementAuditRepository,
+                                        ObjectMapper objectMapper,
+                                        PlatformTransactionManager transactionManager) {
+        this.requirementSnapshotService = requirementSnapshotService;
+        this.requirementAuditRepository = requirementAuditRepository;
+        this.objectMapper = objectMapper;
+        // 첫 조회 시점의 읽기 뷰로 트랜잭션 끝까지 읽음
+        this.snapshotRead = new TransactionTemplate(transactionManager);
+        this.snapshotRead.setReadOnly(true);
+        this.snapshotRead.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * 스냅샷이 없으면 만듭니다. 응답을 시작하기 전에 호출해 요청 스레드에서 만들어 둡니다.
+     */
+    public void prepare(Long projectId, int revisionCount) {
+        requirementSnapshotService.ensureMaterialized(projectId, revisionCount);
+    }
+
+    /**
+     * 리비전의 요구사항 정의서를 format 으로 out 에 씁니다. out 은 닫지 않습니다.
+     */
+    public void write(Long projectId, int revisionCount, TextExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            for (int attempt = 1; !streamSnapshot(projectId, revisionCount, format, writer); attempt++) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw new RequirementException("요구사항이 계속 변경되어 정의서를 내려받을 수 없습니다.", HttpStatus.CONFLICT);
+                }
+                requirementSnapshotService.ensureMaterialized(projectId, revisionCount);
+            }
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 끊김 등
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    /**
+     * 생성 표시가 있으면 같은 트랜잭션에서 스냅샷을 읽어 씁니다. 표시가 지워졌으면 아무것도 쓰지 않고 false 입니다.
+     */
+    private boolean streamSnapshot(Long projectId, int revisionCount, TextExportFormat format, Writer writer) {
+        return Boolean.TRUE.equals(snapshotRead.execute(status -> {
+            if (!requirementSnapshotService.isMaterialized(projectId, revisionCount)) {
+                return false;
+            }
+            try {
+                if (format == TextExportFormat.CSV) {
+                    writeCsvRow(writer, CSV_HEADERS);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            requirementAuditRepository.streamRevision(projectId, revisionCount, RevisionProjection.FULL, response -> {
+                try {
+                    if (format == TextExportFormat.CSV) {
+                        writeCsvRow(writer, toCsvRow(response));
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(response));
+                        writer.write('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            return true;
+        }));
+    }
+
+    private String[] toCsvRow(RequirementResponse response) {
+        return new String[]{
+                response.getReqIdCode(),
+                response.getType(),
+                response.getLevel1(),
+                response.getLevel2(),
+                response.getLevel3(),
+                response.getName(),
+                response.getDescription(),
+                response.getPriority(),
+                response.getDifficulty(),
+                response.getReception(),
+                response.getRevType(),
+                formatDate(response.getCreatedDate()),
+                formatDate(response.getModifiedDate()),
+                formatSources(response.getSources()),
+                formatModReasons(response.getModReason())
+        };
+    }
+
+    /**
+     * RFC 4180: 쉼표, 큰따옴표, 줄바꿈이 있는 필드는 큰따옴표로 감싸고 큰따옴표는 두 번 씁니다. 행 끝은 CRLF 입니다.
+     */
+    static void writeCsvRow(Writer writer, String[] fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String field = fields[i];
+            if (field == null || field.isEmpty()) {
+                continue;
+            }
+            if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+                writer.write(field);
+                continue;
+            }
+            writer.write('"');
+            for (int j = 0; j < field.length(); j++) {
+                char c = field.charAt(j);
+                if (c == '"') {
+                    writer.write('"');
+                }
+                writer.write(c);
+            }
+            writer.write('"');
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * 출처 한 건을 "문서명 (페이지): 관련 문장" 한 줄로
+     */
+    private String formatSources(List<SourceResponse> sources) {
+        if (sources == null || sources.isEmpty()) {
+            return "";
+        }
+        return sources.stream()
+                .map(source -> source.docName() + " (" + source.pageNum() + "): " + source.relSentence())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private String formatModReasons(List<String> modReasons) {
+        if (modReasons == null || modReasons.isEmpty()) {
+            return "";
+        }
+        return String.join("\n", modReasons);
+    }
+
+    private String formatDate(LocalDateTime dateTime) {
+        return dateTime == null ? "" : dateTime.format(DATE_FORMAT);
+    }
+}
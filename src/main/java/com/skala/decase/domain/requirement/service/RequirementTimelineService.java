@@ -0,0 +1,88 @@
+package com.skala.decase.domain.requirement.service;
+
+import com.skala.decase.domain.requirement.controller.dto.response.RequirementResponse;
+import com.skala.decase.domain.requirement.controller.dto.response.SourceResponse;
+import com.skala.decase.domain.requirement.domain.RequirementTimeline;
+import com.skala.decase.domain.requirement.event.RequirementChangedEvent;
+import com.skala.decase.domain.requirement.mapper.RequirementAuditMapper;
+import com.skala.decase.domain.requirement.repository.RequirementTimelineRepository;
+import com.skala.decase.global.cache.ProjectLruCache;
+import java.util.Comparator;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 프로젝트별 {@link RequirementTimeline} 을 보관하고 임의 리비전의 요구사항 정의서를 구성합니다.
+ * <p>
+ * 감사 이력은 프로젝트당 한 번만 읽고, 리비전을 바꿔 조회할 때는 메모리에서 이진 탐색만 수행합니다.
+ * 요구사항 변경이 커밋되면 해당 프로젝트의 타임라인을 버립니다.
+ */
+@Slf4j
+@Service
+public class RequirementTimelineService {
+
+    private static final Comparator<RequirementResponse> SPEC_ORDER =
+            Comparator.comparing(RequirementResponse::getType, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(RequirementResponse::getReqIdCode);
+
+    private final RequirementTimelineRepository requirementTimelineRepository;
+    private final RequirementAuditMapper requirementAuditMapper;
+    private final ProjectLruCache<Long, RequirementTimeline> timelines;
+
+    public RequirementTimelineService(RequirementTimelineRepository requirementTimelineRepository,
+                                      RequirementAuditMapper requirementAuditMapper,
+                                      @Value("${requirement.timeline-cache.max-projects:20}") int maxProjects) {
+        this.requirementTimelineRepository = requirementTimelineRepository;
+        this.requirementAuditMapper = requirementAuditMapper;
+        this.timelines = ProjectLruCache.ofEntries(maxProjects, projectId -> projectId);
+    }
+
+    public RequirementTimeline getTimeline(Long projectId) {
+        return timelines.getOrLoad(projectId, () -> {
+            RequirementTimeline timeline = requirementTimelineRepository.load(projectId);
+            log.info("요구사항 타임라인 로드 - 프로젝트: {}, 요구사항 수: {}", projectId, timeline.requirementCount());
+            return timeline;
+        });
+    }
+
+    /**
+     * 특정 리비전의 요구사항 정의서 (출처, 변경 이유 포함, 유형/요구사항 ID 순)
+     */
+    public List<RequirementResponse> getRequirementsAt(Long projectId, int revisionCount) {
+        RequirementTimeline timeline = getTimeline(projectId);
+
+        return timeline.stateAt(revisionCount).stream()
+                .map(version -> toResponse(timeline, version, revisionCount))
+                .sorted(SPEC_ORDER)
+                .toList();
+    }
+
+    /**
+     * 리비전 시점의 요구사항 하나를 출처, 변경 이유와 함께 응답으로 변환합니다.
+     */
+    public RequirementResponse toResponse(RequirementTimeline timeline, RequirementTimeline.Version version,
+                                          int revisionCount) {
+        RequirementResponse response = requirementAuditMapper.toDtoResponse(version, revisionCount);
+        List<SourceResponse> sources = timeline.sourcesAt(version.reqPk(), revisionCount).stream()
+                .map(source -> requirementAuditMapper.toSourceResponse(source, timeline.docName(source.docId())))
+                .toList();
+        List<String> modReasons = timeline.modReasonsAt(version.reqIdCode(), revisionCount).stream()
+                .map(reason -> requirementAuditMapper.toModReasonLine(reason.reason(), reason.revTimestamp()))
+                .toList();
+        response.setSources(sources);
+        response.setModReason(modReasons);
+        return response;
+    }
+
+    @Order(50)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRequirementChanged(RequirementChangedEvent event) {
+        timelines.invalidate(event.projectId());
+        log.debug("요구사항 타임라인 무효화 - 프로젝트: {}", event.projectId());
+    }
+}
@@ -8,9 +8,11 @@ import com.skala.decase.domain.member.domain.Member;
 import com.skala.decase.domain.member.service.MemberService;
 import com.skala.decase.domain.project.domain.Project;
 import com.skala.decase.domain.project.service.AIMailService;
+import com.skala.decase.domain.project.service.ProjectRevisionService;
 import com.skala.decase.domain.project.service.ProjectService;
 import com.skala.decase.domain.requirement.controller.dto.request.CreateRfpRequest;
 import com.skala.decase.domain.requirement.domain.Requirement;
+import com.skala.decase.domain.requirement.event.RequirementChangedEvent;
 import com.skala.decase.domain.requirement.exception.RequirementException;
 import com.skala.decase.domain.requirement.mapper.RequirementServiceMapper;
 import com.skala.decase.domain.requirement.repository.RequirementRepository;
@@ -25,6 +27,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.envers.internal.entities.mapper.id.AbstractIdMapper;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -39,6 +42,7 @@ public class SrsProcessingService {
     private final SrsProcessor srsProcessor;
 
     private final ProjectService projectService;
+    private final ProjectRevisionService projectRevisionService;
     private final MemberService memberService;
     private final DocumentService documentService;
     private final RequirementServiceMapper requirementServiceMapper;
@@ -48,6 +52,7 @@ public class SrsProcessingService {
 
     private final EntityManager entityManager;
     private final AIMailService aiMailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${asis.callback-url}")
     private String asisCallbackUrl;
@@ -128,8 +133,8 @@ public class SrsProcessingService {
     @Transactional
     public void saveAsisHtml(Document asisPdf) {
         try {
-            // 기존 PDF 파일 경로와 이름
-            String pdfPath = asisPdf.getPath() + File.separator + asisPdf.getName();
+            // 기존 PDF 파일 경로 (asis-path 아래 파일)
+            String pdfPath = asisPdf.getPath();
 
             // .pdf를 .html로 변경한 이름과 경로
             String htmlName = asisPdf.getName().replaceFirst("\\.pdf$", ".html");
@@ -167,7 +172,7 @@ public class SrsProcessingService {
         Document document = documentService.findByDocId(documentId);
 
         if (!status.equals("COMPLETED")) {
-            documentRepository.delete(document);  //요구사항 정의서 저장 실패시 사용자 업로드 RFP 삭제
+            documentService.deleteDocument(document);  //요구사항 정의서 저장 실패시 사용자 업로드 RFP 삭제
             throw new RequirementException("요구사항 정의서 저장 실패. 상태: " + status + " - 프로젝트 ID: " + projectId,
                     HttpStatus.INTERNAL_SERVER_ERROR);
         }
@@ -181,6 +186,8 @@ public class SrsProcessingService {
                 });
             }
         }
+        projectRevisionService.recordRevision(project, 1, member, document.getDocId());
+        eventPublisher.publishEvent(new RequirementChangedEvent(projectId, 1));  // 최초 요구사항 정의서는 1번 리비전
         aiMailService.sendMail(JobName.SRS, member, status, project,1);  // 메일 전송
         log.info("요구사항 정의서 및 출처 저장 완료 - 프로젝트 ID: {}", projectId);
     }
@@ -1,7 +1,6 @@
 package com.skala.decase.domain.requirement.service;
 
 import com.skala.decase.domain.document.domain.Document;
-import com.skala.decase.domain.document.repository.DocumentRepository;
 import com.skala.decase.domain.document.service.DocumentService;
 import com.skala.decase.domain.requirement.exception.RequirementException;
 import java.time.Duration;
@@ -24,7 +23,6 @@ import reactor.core.scheduler.Schedulers;
 @RequiredArgsConstructor
 public class SrsProcessor {
     private final WebClient webClient;
-    private final DocumentRepository documentRepository;
     private final DocumentService documentService;
 
     /**
@@ -64,14 +62,14 @@ public class SrsProcessor {
                     .doOnError(error -> {
                         log.error("요구사항 처리 실패 - 프로젝트: {}, 에러: {}", projectId, error.getMessage());
                         Document document = documentService.findByDocId(documentId);
-                        documentRepository.delete(document);  //요구사항 정의서 저장 실패시 사용자 업로드 RFP 삭제
+                        documentService.deleteDocument(document);  //요구사항 정의서 저장 실패시 사용자 업로드 RFP 삭제
                     })
                     .toFuture();
 
         } catch (Exception e) {
             log.error("요구사항 처리 실패 - 프로젝트: {}, 에러: {}", projectId, e.getMessage(), e);
             Document document = documentService.findByDocId(documentId);
-            documentRepository.delete(document);  //요구사항 정의서 저장 실패시 사용자 업로드 RFP 삭제
+            documentService.deleteDocument(document);  //요구사항 정의서 저장 실패시 사용자 업로드 RFP 삭제
             throw new RequirementException("요구사항 정의서 생성 요청 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
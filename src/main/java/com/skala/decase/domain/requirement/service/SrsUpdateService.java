@@ -4,8 +4,9 @@ import static com.skala.decase.domain.document.service.DocumentService.TYPE_PREF
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skala.decase.domain.document.domain.Document;
-import com.skala.decase.domain.document.exception.DocumentException;
 import com.skala.decase.domain.document.repository.DocumentRepository;
+import com.skala.decase.domain.document.service.DocumentContentStore;
+import com.skala.decase.domain.document.service.DocumentContentStore.StoredContent;
 import com.skala.decase.domain.document.service.DocumentService;
 import com.skala.decase.domain.job.domain.JobName;
 import com.skala.decase.domain.member.domain.Member;
@@ -13,12 +14,14 @@ import com.skala.decase.domain.member.service.MemberService;
 import com.skala.decase.domain.project.domain.Project;
 import com.skala.decase.domain.project.repository.ProjectRepository;
 import com.skala.decase.domain.project.service.AIMailService;
+import com.skala.decase.domain.project.service.ProjectRevisionService;
 import com.skala.decase.domain.project.service.ProjectService;
 import com.skala.decase.domain.requirement.controller.dto.request.SrsDeleteRequestDetail;
 import com.skala.decase.domain.requirement.controller.dto.request.SrsUpdateRequest;
 import com.skala.decase.domain.requirement.controller.dto.request.SrsUpdateRequestDetail;
 import com.skala.decase.domain.requirement.controller.dto.request.UpdateSrsAgentRequest;
 import com.skala.decase.domain.requirement.domain.Requirement;
+import com.skala.decase.domain.requirement.event.RequirementChangedEvent;
 import com.skala.decase.domain.requirement.exception.RequirementException;
 import com.skala.decase.domain.requirement.mapper.RequirementUpdateServiceMapper;
 import com.skala.decase.domain.requirement.repository.RequirementRepository;
@@ -26,15 +29,12 @@ import com.skala.decase.domain.source.domain.Source;
 import com.skala.decase.domain.source.service.SourceRepository;
 import jakarta.persistence.EntityManager;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -60,15 +60,15 @@ public class SrsUpdateService {
     private final DocumentRepository documentRepository;
 
     private final ProjectService projectService;
+    private final ProjectRevisionService projectRevisionService;
     private final MemberService memberService;
     private final DocumentService documentService;
+    private final DocumentContentStore documentContentStore;
     private final RequirementService requirementService;
     private final AIMailService aiMailService;
 
     private final EntityManager entityManager;
-
-    @Value("${file.upload.upload-path}")
-    private String BASE_UPLOAD_PATH;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${srs-update.callback-url}")
     private String updateCallbackUrl;
@@ -141,11 +141,11 @@ public class SrsUpdateService {
             idx = 2; // 음성 파일 MOMV
         }
 
-        return saveDocument(BASE_UPLOAD_PATH, file, newFileName, idx, project, member, true);
+        return saveDocument(file, newFileName, idx, project, member, true);
     }
 
     @Transactional
-    public Document saveDocument(String uploadPath, MultipartFile file, String newFileName, int docTypeIdx,
+    public Document saveDocument(MultipartFile file, String newFileName, int docTypeIdx,
                                  Project project,
                                  Member member, boolean isMemberUpload) {
         //파일 이름 지정
@@ -154,31 +154,19 @@ public class SrsUpdateService {
             extension = file.getOriginalFilename().substring(file.getOriginalFilename().lastIndexOf("."));
         }
 
-        Path path = Paths.get(uploadPath);
-        if (!Files.exists(path)) {
-            try {
-                Files.createDirectories(path);
-            } catch (IOException e) {
-                throw new DocumentException("파일 uploadPath를 만들 수 없습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
-            }
-        }
-        String filePathName= newFileName+"_"+System.currentTimeMillis()+extension;
-        Path filePath = path.resolve(filePathName);
-        try {
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-        } catch (IOException e) {
-            throw new DocumentException("파일을 저장할 수 없습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
-        }
+        // 파일은 내용 저장소에 두며 같은 회의록을 다시 올려도 파일 하나를 함께 씁니다.
+        StoredContent content = documentContentStore.store(file);
 
         // Document 엔티티 생성 및 저장
         Document doc = new Document(
                 documentService.generateDocId(TYPE_PREFIX_MAP.get(docTypeIdx)),
                 newFileName+extension,
-                filePath.toString(),
+                content.path().toString(),
                 isMemberUpload,
                 project,
                 member
         );
+        doc.setContentHash(content.hash());
 
         Document savedDocument = documentRepository.save(doc);
         entityManager.flush();
@@ -237,7 +225,7 @@ public class SrsUpdateService {
         Document document = documentService.findByDocId(docId);
 
         if (!status.equals("COMPLETED")) {
-            documentRepository.delete(document);
+            documentService.deleteDocument(document);
             throw new RequirementException("요구사항 정의서 업데이트 실패. 상태: " + status + " - 프로젝트 ID: " + projectId,
                     HttpStatus.INTERNAL_SERVER_ERROR);
         }
@@ -246,12 +234,17 @@ public class SrsUpdateService {
         LocalDateTime modDate = LocalDateTime.now();  //수정 시각
         int latestRevisionCount = requirementRepository.findMaxRevisionCountByProject(project)
                 .orElseThrow(() -> new RequirementException("수정할 요구사항 정의서가 없습니다.", HttpStatus.NOT_FOUND));
+        // 수정/삭제는 요구사항 자체의 리비전을 1 올리므로 최신 리비전보다 앞선 리비전에 반영될 수 있음
+        int fromRevision = latestRevisionCount + 1;
+        // 이번 업데이트가 쓴 가장 높은 리비전. 리비전 목록에 작성자와 회의록을 남깁니다.
+        int toRevision = 0;
 
         // 1. 추가
         for (SrsUpdateRequestDetail addDetail : requirements.to_add()) {
             Requirement newReq = requirementUpdateServiceMapper.toCreateREQEntity(addDetail, member, project,
                     modDate, latestRevisionCount + 1);
             requirementRepository.save(newReq);
+            toRevision = newReq.getRevisionCount();
             Source source = requirementUpdateServiceMapper.toSrcEntity(addDetail, newReq, document);
             sourceRepository.save(source);
         }
@@ -262,6 +255,8 @@ public class SrsUpdateService {
                     .orElseThrow(() -> new RequirementException("업데이트할 요구사항이 없습니다.", HttpStatus.NOT_FOUND));
             oldReq.updateSRS(updateDetail, member);
             requirementRepository.save(oldReq);
+            fromRevision = Math.min(fromRevision, oldReq.getRevisionCount());
+            toRevision = Math.max(toRevision, oldReq.getRevisionCount());
             //출처 추가
             Source source = requirementUpdateServiceMapper.toSrcEntity(updateDetail, oldReq, document);
             sourceRepository.save(source);
@@ -273,7 +268,13 @@ public class SrsUpdateService {
                     .orElseThrow(() -> new RequirementException("삭제할 요구사항이 없습니다.", HttpStatus.NOT_FOUND));
             reqToDelete.deleteSRS(deleteDetail, member);
             requirementRepository.save(reqToDelete);
+            fromRevision = Math.min(fromRevision, reqToDelete.getRevisionCount());
+            toRevision = Math.max(toRevision, reqToDelete.getRevisionCount());
+        }
+        if (toRevision > 0) {
+            projectRevisionService.recordRevision(project, toRevision, member, document.getDocId());
         }
+        eventPublisher.publishEvent(new RequirementChangedEvent(projectId, fromRevision));
         log.info("요구사항 정의서 업데이트 완료");
         aiMailService.sendMail(JobName.UPDATE, member, status, project,1);
 
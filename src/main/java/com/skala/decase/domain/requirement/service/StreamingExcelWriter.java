@@ -0,0 +1,189 @@
+package com.skala.decase.domain.requirement.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.VerticalAlignment;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * SXSSF 기반 엑셀 작성기
+ * <p>
+ * 메모리에는 시트마다 최근 {@value #ROW_ACCESS_WINDOW} 행만 두고 나머지는 임시 파일로 내보내므로 행 수와 관계없이 힙 사용량이 일정합니다.
+ * 헤더/데이터 셀 스타일은 통합 문서당 한 번만 만들어 모든 셀이 공유합니다.
+ * 컬럼 너비는 행을 쓰면서 {@link ColumnWidthEstimator} 로 추정하므로 폰트 측정 없이 한 번에 끝납니다.
+ * 사용 후 반드시 {@link #close()} 로 임시 파일을 지워야 합니다.
+ */
+public final class StreamingExcelWriter implements Closeable {
+
+    private static final int ROW_ACCESS_WINDOW = 100;
+    private static final int MAX_COLUMN_WIDTH = 15000;  // 약 100글자
+    private static final short DEFAULT_ROW_HEIGHT = 600;
+
+    private final SXSSFWorkbook workbook;
+    private final CellStyle headerStyle;
+    private final CellStyle dataStyle;
+    private final List<SheetWriter> sheets = new ArrayList<>();
+
+    public StreamingExcelWriter() {
+        this.workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        this.workbook.setCompressTempFiles(true);
+        this.headerStyle = createHeaderStyle();
+        this.dataStyle = createDataStyle();
+    }
+
+    /**
+     * 헤더 행을 쓴 새 시트를 추가합니다.
+     */
+    public SheetWriter sheet(String name, String... headers) {
+        SheetWriter writer = new SheetWriter(workbook.createSheet(name), headers.length);
+        Row headerRow = writer.nextRow();
+        for (int i = 0; i < headers.length; i++) {
+            Cell cell = headerRow.createCell(i);
+            cell.setCellValue(headers[i]);
+            cell.setCellStyle(headerStyle);
+            writer.widths.header(i, headers[i]);
+        }
+        sheets.add(writer);
+        return writer;
+    }
+
+    /**
+     * 컬럼 너비를 정한 뒤 통합 문서를 out 에 씁니다. out 은 닫지 않습니다.
+     */
+    public void write(OutputStream out) throws IOException {
+        for (SheetWriter sheet : sheets) {
+            sheet.finish();
+        }
+        workbook.write(out);
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.dispose();  // 임시 파일 삭제
+        } finally {
+            workbook.close();
+        }
+    }
+
+    private CellStyle createHeaderStyle() {
+        CellStyle style = workbook.createCellStyle();
+        Font font = workbook.createFont();
+        font.setBold(true);
+        font.setFontHeightInPoints((short) 12);
+        style.setFont(font);
+        style.setAlignment(HorizontalAlignment.CENTER);
+        style.setVerticalAlignment(VerticalAlignment.CENTER);
+        style.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
+        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        setThinBorder(style);
+        return style;
+    }
+
+    private CellStyle createDataStyle() {
+        CellStyle style = workbook.createCellStyle();
+        style.setVerticalAlignment(VerticalAlignment.TOP);
+        style.setWrapText(true);  // 텍스트 줄바꿈
+        setThinBorder(style);
+        return style;
+    }
+
+    private void setThinBorder(CellStyle style) {
+        style.setBorderTop(BorderStyle.THIN);
+        style.setBorderBottom(BorderStyle.THIN);
+        style.setBorderLeft(BorderStyle.THIN);
+        style.setBorderRight(BorderStyle.THIN);
+    }
+
+    /**
+     * 한 시트에 행을 순서대로 추가합니다. 창 밖으로 밀려난 행은 다시 고칠 수 없습니다.
+     */
+    public final class SheetWriter {
+
+        private final SXSSFSheet sheet;
+        private final int columns;
+        private final ColumnWidthEstimator widths;
+        private int rowIndex;
+
+        private SheetWriter(SXSSFSheet sheet, int columns) {
+            this.sheet = sheet;
+            this.columns = columns;
+            this.widths = new ColumnWidthEstimator(columns, MAX_COLUMN_WIDTH);
+        }
+
+        /**
+         * 데이터 스타일을 적용한 행. null 값은 빈 문자열로 씁니다.
+         */
+        public void styledRow(String... values) {
+            Row row = nextRow();
+            for (int i = 0; i < values.length; i++) {
+                Cell cell = row.createCell(i);
+                cell.setCellValue(values[i] != null ? values[i] : "");
+                cell.setCellStyle(dataStyle);
+                widths.cell(i, values[i]);
+            }
+        }
+
+        /**
+         * 스타일 없는 행. null 값은 빈 셀로 둡니다. Integer 등 숫자는 숫자 셀로 씁니다.
+         */
+        public void plainRow(Object... values) {
+            Row row = nextRow();
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                if (value instanceof Number number) {
+                    row.createCell(i).setCellValue(number.doubleValue());
+                    widths.cell(i, number.toString());
+                } else if (value != null) {
+                    row.createCell(i).setCellValue(value.toString());
+                    widths.cell(i, value.toString());
+                } else {
+                    row.createCell(i);
+                }
+            }
+        }
+
+        /**
+         * 다음에 쓸 행 번호
+         */
+        public int currentRow() {
+            return rowIndex;
+        }
+
+        /**
+         * 한 컬럼의 firstRow ~ lastRow 를 병합합니다.
+         */
+        public void mergeColumn(int firstRow, int lastRow, int column) {
+            if (lastRow > firstRow) {
+                sheet.addMergedRegion(new CellRangeAddress(firstRow, lastRow, column, column));
+            }
+        }
+
+        private Row nextRow() {
+            return sheet.createRow(rowIndex++);
+        }
+
+        private void finish() {
+            // 최대 너비 제한은 추정기에서 적용
+            for (int i = 0; i < columns; i++) {
+                sheet.setColumnWidth(i, widths.width(i));
+            }
+            // 행 높이 설정 (내용이 많은 경우를 위해)
+            sheet.setDefaultRowHeight(DEFAULT_ROW_HEIGHT);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.skala.decase.global.cache;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * 프로젝트 단위로 무효화하는 LRU 캐시
+ * <p>
+ * 값을 만들기 전에 {@link #generation} 을 받아두고 {@link #put} 에 넘기면, 만드는 도중 같은 프로젝트가 무효화된 경우 결과를 보관하지 않습니다.
+ * 크기는 항목 수 또는 항목별 가중치 합으로 제한하며, 초과 시 가장 오래 사용하지 않은 항목부터 제거합니다.
+ * 모든 메서드는 이 객체로 동기화합니다.
+ *
+ * @param <K> 키. {@code projectOf} 로 프로젝트 ID 를 얻을 수 있어야 합니다.
+ */
+public final class ProjectLruCache<K, V> {
+
+    private final Function<K, Long> projectOf;
+    private final ToLongFunction<V> weigher;
+    private final long maxWeight;
+
+    // access-order LRU
+    private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, Long> generations = new HashMap<>();
+    private long weight;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private ProjectLruCache(Function<K, Long> projectOf, ToLongFunction<V> weigher, long maxWeight) {
+        this.projectOf = projectOf;
+        this.weigher = weigher;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * 항목 수로 크기를 제한합니다.
+     */
+    public static <K, V> ProjectLruCache<K, V> ofEntries(int maxEntries, Function<K, Long> projectOf) {
+        return new ProjectLruCache<>(projectOf, value -> 1L, maxEntries);
+    }
+
+    /**
+     * 항목별 가중치 합으로 크기를 제한합니다. 가중치가 maxWeight 보다 큰 값은 보관하지 않습니다.
+     */
+    public static <K, V> ProjectLruCache<K, V> ofWeight(long maxWeight, ToLongFunction<V> weigher,
+                                                        Function<K, Long> projectOf) {
+        return new ProjectLruCache<>(projectOf, weigher, maxWeight);
+    }
+
+    public synchronized long generation(Long projectId) {
+        return generations.getOrDefault(projectId, 0L);
+    }
+
+    public synchronized V get(K key) {
+        V value = entries.get(key);
+        (value == null ? misses : hits).incrementAndGet();
+        return value;
+    }
+
+    /**
+     * generation 을 받은 뒤 프로젝트가 무효화되었으면 보관하지 않고 false 를 반환합니다.
+     */
+    public synchronized boolean put(K key, V value, long generation) {
+        if (generation != generation(projectOf.apply(key))) {
+            return false;
+        }
+        long valueWeight = weigher.applyAsLong(value);
+        if (valueWeight > maxWeight) {
+            return false;
+        }
+        V previous = entries.put(key, value);
+        if (previous != null) {
+            weight -= weigher.applyAsLong(previous);
+        }
+        weight += valueWeight;
+
+        Iterator<Map.Entry<K, V>> it = entries.entrySet().iterator();
+        while (weight > maxWeight && it.hasNext()) {
+            weight -= weigher.applyAsLong(it.next().getValue());
+            it.remove();
+            evictions.incrementAndGet();
+        }
+        return true;
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 만들어 보관합니다. loader 는 락 밖에서 실행되므로 같은 키를 동시에 여러 번 만들 수 있습니다.
+     */
+    public V getOrLoad(K key, Supplier<V> loader) {
+        long generation;
+        synchronized (this) {
+            V cached = get(key);
+            if (cached != null) {
+                return cached;
+            }
+            generation = generation(projectOf.apply(key));
+        }
+        V value = loader.get();
+        put(key, value, generation);
+        return value;
+    }
+
+    /**
+     * 프로젝트의 세대를 올리고 조건에 맞는 항목을 제거합니다.
+     *
+     * @return 제거한 항목 수
+     */
+    public synchronized int invalidate(Long projectId, Predicate<K> predicate) {
+        generations.merge(projectId, 1L, Long::sum);
+
+        int removed = 0;
+        Iterator<Map.Entry<K, V>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<K, V> entry = it.next();
+            if (projectId.equals(projectOf.apply(entry.getKey())) && predicate.test(entry.getKey())) {
+                weight -= weigher.applyAsLong(entry.getValue());
+                it.remove();
+                removed++;
+            }
+        }
+        invalidations.addAndGet(removed);
+        return removed;
+    }
+
+    public int invalidate(Long projectId) {
+        return invalidate(projectId, key -> true);
+    }
+
+    /**
+     * 프로젝트의 항목 복사본. 사용 순서는 바꾸지 않습니다.
+     */
+    public synchronized Map<K, V> entriesOf(Long projectId) {
+        Map<K, V> result = new HashMap<>();
+        entries.forEach((key, value) -> {
+            if (projectId.equals(projectOf.apply(key))) {
+                result.put(key, value);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 보관 중인 항목의 가중치 합 (항목 수로 제한하면 항목 수)
+     */
+    public synchronized long weight() {
+        return weight;
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    public long evictions() {
+        return evictions.get();
+    }
+
+    public long invalidations() {
+        return invalidations.get();
+    }
+}
@@ -1,14 +1,17 @@
 package com.skala.decase.global.config;
 
 import com.skala.decase.domain.mockup.exception.MockupException;
+import com.skala.decase.domain.requirement.exception.RequirementException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+@Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig {
@@ -39,4 +42,45 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    @Bean(name = "exportTaskExecutor")
+    public Executor exportTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);        // 엑셀 생성은 CPU/디스크를 많이 써서 동시 실행 수를 제한
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("Export-");
+        executor.setRejectedExecutionHandler((r, executor1) -> {
+            throw new RequirementException("내보내기 작업이 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS);
+        });
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "documentIoExecutor")
+    public Executor documentIoExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);        // 업로드 파일 디스크 쓰기. 디스크 대역폭을 넘지 않도록 제한
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("DocumentIO-");
+        // 큐가 가득 차면 요청 스레드가 직접 씁니다.
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "searchIndexExecutor")
+    public Executor searchIndexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);        // 검색 색인 저장/재생성. 요청 처리와 CPU 를 나눠 쓰지 않도록 제한
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("SearchIndex-");
+        // 색인은 다음 검색 때 다시 만들어지므로 큐가 가득 차면 요청 스레드에서 돌리지 않고 버립니다.
+        executor.setRejectedExecutionHandler((r, executor1) ->
+                log.warn("검색 색인 작업이 밀려 건너뜁니다. 대기 작업 수: {}", executor1.getQueue().size()));
+        executor.initialize();
+        return executor;
+    }
 }
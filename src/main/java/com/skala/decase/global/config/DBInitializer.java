@@ -29,6 +29,7 @@ public class DBInitializer implements ApplicationRunner {
     @Override
     public void run(ApplicationArguments args) {
         alterSourceTable();
+        createAuditIndexes();
         insertInitialData();
     }
 
@@ -47,6 +48,20 @@ public class DBInitializer implements ApplicationRunner {
         }
     }
 
+    /**
+     * 감사 이력 페이지 조회(project_id_aud 조건, rev 내림차순)용 인덱스. Envers 가 만드는 테이블이라 엔티티에 선언할 수 없습니다.
+     */
+    private void createAuditIndexes() {
+        try {
+            String sql = "CREATE INDEX IF NOT EXISTS idx_requirements_aud_project_rev " +
+                    "ON td_requirements_aud (project_id_aud, rev, req_pk);";
+            jdbcTemplate.execute(sql);
+            logger.info("Ensured index idx_requirements_aud_project_rev on td_requirements_aud.");
+        } catch (Exception e) {
+            logger.warn("Could not create index on td_requirements_aud: {}", e.getMessage());
+        }
+    }
+
     private void checkAutoIncrementSetting() {
         try {
             // MariaDB/MySQL에서 컬럼 정보 조회
@@ -0,0 +1,33 @@
+package com.skala.decase.global.jdbc;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결과를 목록으로 모으지 않고 커서로 읽는 조회
+ * <p>
+ * fetchSize 를 지정해 드라이버가 결과 전체를 메모리에 올리지 않도록 합니다.
+ * 기본 JdbcTemplate 빈을 대신하지 않도록 JdbcTemplate 을 상속하지 않고 감쌉니다.
+ * 진행 중인 트랜잭션이 있으면 그 커넥션으로 읽습니다.
+ */
+@Component
+public class StreamingJdbcTemplate {
+
+    private final NamedParameterJdbcTemplate template;
+
+    public StreamingJdbcTemplate(DataSource dataSource,
+                                 @Value("${spring.jdbc.streaming.fetch-size:500}") int fetchSize) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+        this.template = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public void query(String sql, SqlParameterSource params, RowCallbackHandler handler) {
+        template.query(sql, params, handler);
+    }
+}
@@ -0,0 +1,71 @@
+package com.skala.decase.global.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지의 다음 위치를 불투명한 문자열로 주고받습니다.
+ * <p>
+ * 값마다 null 여부를 앞 글자로 표시하고 줄바꿈으로 이은 뒤 URL 안전 Base64 로 인코딩합니다.
+ * 그래서 null 과 "null", 빈 문자열이 서로 구분됩니다.
+ */
+public final class PageCursor {
+
+    private static final char DELIMITER = '\n';
+    private static final char NULL_MARK = '-';
+    private static final char VALUE_MARK = '=';
+
+    private PageCursor() {
+    }
+
+    /**
+     * 정렬 키 값들을 커서로 만듭니다. 값에는 줄바꿈이 없어야 합니다.
+     */
+    public static String encode(Object... values) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                raw.append(DELIMITER);
+            }
+            if (values[i] == null) {
+                raw.append(NULL_MARK);
+            } else {
+                String value = values[i].toString();
+                if (value.indexOf(DELIMITER) >= 0) {
+                    throw new IllegalArgumentException("커서 값에 줄바꿈이 있습니다: " + value);
+                }
+                raw.append(VALUE_MARK).append(value);
+            }
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 정렬 키 값들로 되돌립니다. 커서가 없으면 null 입니다.
+     *
+     * @param parts 값 개수
+     * @throws IllegalArgumentException 형식이 맞지 않는 커서
+     */
+    public static String[] decode(String cursor, int parts) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] tokens = raw.split(String.valueOf(DELIMITER), -1);
+        if (tokens.length != parts) {
+            throw new IllegalArgumentException("커서 값 개수가 맞지 않습니다: " + cursor);
+        }
+        String[] values = new String[parts];
+        for (int i = 0; i < parts; i++) {
+            String token = tokens[i];
+            if (token.length() == 1 && token.charAt(0) == NULL_MARK) {
+                values[i] = null;
+            } else if (!token.isEmpty() && token.charAt(0) == VALUE_MARK) {
+                values[i] = token.substring(1);
+            } else {
+                throw new IllegalArgumentException("커서 형식이 맞지 않습니다: " + cursor);
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,140 @@
+package com.skala.decase.domain.document.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 구간 요청과 조건부 요청 응답을 MockMvc 로 확인합니다. MockMvc 요청에는 sendfile 속성이 없으므로 본문은 채널 전송으로 씁니다.
+ */
+class DocumentFileSenderTest {
+
+    private static final String BODY = "0123456789abcdefghij";
+    private static final String ETAG = "\"hash\"";
+
+    @TempDir
+    Path tempDir;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("sample.pdf"), BODY, StandardCharsets.US_ASCII);
+        mockMvc = MockMvcBuilders.standaloneSetup(new FileController(file)).build();
+    }
+
+    @RestController
+    static class FileController {
+
+        private final DocumentFileSender sender = new DocumentFileSender();
+        private final Path file;
+
+        FileController(Path file) {
+            this.file = file;
+        }
+
+        @GetMapping("/file")
+        void download(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            sender.send(file, "hash", "sample.pdf", false, request, response);
+        }
+    }
+
+    @Test
+    void 구간_없이_요청하면_전체를_보낸다() throws Exception {
+        mockMvc.perform(get("/file"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, BODY.length()))
+                .andExpect(content().contentType("application/pdf"))
+                .andExpect(content().string(BODY));
+    }
+
+    @Test
+    void 단일_구간은_206_과_Content_Range_로_보낸다() throws Exception {
+        mockMvc.perform(get("/file").header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/20"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+                .andExpect(content().string("2345"));
+
+        mockMvc.perform(get("/file").header(HttpHeaders.RANGE, "bytes=-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 17-19/20"))
+                .andExpect(content().string("hij"));
+    }
+
+    @Test
+    void 다중_구간은_multipart_byteranges_로_보낸다() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/file").header(HttpHeaders.RANGE, "bytes=0-1,10-12"))
+                .andExpect(status().isPartialContent())
+                .andReturn().getResponse();
+
+        assertThat(response.getContentType()).startsWith("multipart/byteranges; boundary=");
+        String boundary = response.getContentType().substring(response.getContentType().indexOf('=') + 1);
+        String body = response.getContentAsString(StandardCharsets.US_ASCII);
+        assertThat(body).isEqualTo(
+                "\r\n--" + boundary + "\r\n"
+                        + "Content-Type: application/pdf\r\n"
+                        + "Content-Range: bytes 0-1/20\r\n\r\n"
+                        + "01"
+                        + "\r\n--" + boundary + "\r\n"
+                        + "Content-Type: application/pdf\r\n"
+                        + "Content-Range: bytes 10-12/20\r\n\r\n"
+                        + "abc"
+                        + "\r\n--" + boundary + "--\r\n");
+        assertThat(response.getContentLengthLong()).isEqualTo(body.length());
+    }
+
+    @Test
+    void 파일_밖의_구간만_요청하면_416() throws Exception {
+        mockMvc.perform(get("/file").header(HttpHeaders.RANGE, "bytes=100-200"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */20"))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void If_Range_가_일치하면_구간을_아니면_전체를_보낸다() throws Exception {
+        mockMvc.perform(get("/file").header(HttpHeaders.RANGE, "bytes=0-3").header(HttpHeaders.IF_RANGE, ETAG))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("0123"));
+
+        mockMvc.perform(get("/file").header(HttpHeaders.RANGE, "bytes=0-3").header(HttpHeaders.IF_RANGE, "\"old\""))
+                .andExpect(status().isOk())
+                .andExpect(content().string(BODY));
+
+        // 약한 ETag 는 If-Range 와 맞지 않음
+        mockMvc.perform(get("/file").header(HttpHeaders.RANGE, "bytes=0-3").header(HttpHeaders.IF_RANGE, "W/" + ETAG))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void If_None_Match_가_일치하면_304() throws Exception {
+        mockMvc.perform(get("/file").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/file").header(HttpHeaders.IF_NONE_MATCH, "\"other\""))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,89 @@
+package com.skala.decase.domain.document.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.skala.decase.domain.document.repository.DocumentIdSequenceRepository;
+import com.skala.decase.domain.document.repository.DocumentRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class DocumentIdAllocatorTest {
+
+    private final AtomicLong sequence = new AtomicLong(1);
+    private DocumentIdSequenceRepository sequenceRepository;
+    private DocumentIdAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        // 행 잠금으로 직렬화되는 블록 할당을 원자적 카운터로 흉내 냅니다.
+        sequenceRepository = mock(DocumentIdSequenceRepository.class);
+        given(sequenceRepository.existsById(anyString())).willReturn(true);
+        given(sequenceRepository.lockNextValue(anyString()))
+                .willAnswer(invocation -> sequence.getAndAdd(DocumentIdAllocator.BLOCK_SIZE));
+        allocator = new DocumentIdAllocator(sequenceRepository, mock(DocumentRepository.class),
+                mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void 블록_안에서는_DB_에_다시_접근하지_않는다() {
+        for (int i = 0; i < DocumentIdAllocator.BLOCK_SIZE; i++) {
+            assertThat(allocator.next("RFP")).isEqualTo(i + 1);
+        }
+        verify(sequenceRepository, times(1)).lockNextValue("RFP");
+
+        assertThat(allocator.next("RFP")).isEqualTo(DocumentIdAllocator.BLOCK_SIZE + 1);
+        verify(sequenceRepository, times(2)).lockNextValue("RFP");
+    }
+
+    @Test
+    void 여러_스레드가_블록을_여러_번_다시_받아도_번호가_겹치거나_빠지지_않는다() throws Exception {
+        int threads = 16;
+        int perThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<Long> issued = ConcurrentHashMap.newKeySet();
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int duplicates = 0;
+                    for (int i = 0; i < perThread; i++) {
+                        if (!issued.add(allocator.next("MOMD"))) {
+                            duplicates++;
+                        }
+                    }
+                    return duplicates;
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> future : futures) {
+                assertThat(future.get()).isZero();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int total = threads * perThread;
+        // 블록을 끝까지 쓴 뒤에만 새 블록을 받으므로 번호가 빠짐없이 이어집니다.
+        assertThat(issued).containsExactlyInAnyOrderElementsOf(
+                LongStream.rangeClosed(1, total).boxed().toList());
+        verify(sequenceRepository, times(total / DocumentIdAllocator.BLOCK_SIZE)).lockNextValue("MOMD");
+    }
+}
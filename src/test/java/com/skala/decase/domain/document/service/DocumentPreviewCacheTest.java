@@ -0,0 +1,92 @@
+package com.skala.decase.domain.document.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skala.decase.domain.document.domain.Document;
+import com.skala.decase.domain.document.event.DocumentDeletedEvent;
+import com.skala.decase.domain.document.service.DocumentPreviewCache.RenderedPreview;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class DocumentPreviewCacheTest {
+
+    @TempDir
+    Path previewPath;
+
+    @Test
+    void 한_번_렌더링한_미리보기는_캐시에서_읽는다() throws IOException {
+        DocumentPreviewCache cache = cache(DataSize.ofMegabytes(1));
+        AtomicInteger renders = new AtomicInteger();
+        Document doc = document("MOMD-000001", "hash1");
+
+        for (int i = 0; i < 3; i++) {
+            RenderedPreview preview = cache.get(doc, previewPath, () -> {
+                renders.incrementAndGet();
+                return new RenderedPreview("<p>본문</p>", null);
+            });
+            assertThat(preview.htmlContent()).isEqualTo("<p>본문</p>");
+        }
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    void 시작할_때_이전_버전_캐시와_임시_파일을_지운다() throws IOException {
+        Path current = Files.writeString(previewPath.resolve("MOMD-000001-hash1.v1.json"), "{}");
+        Path outdated = Files.writeString(previewPath.resolve("MOMD-000001-hash1.v0.json"), "{}");
+        Path partial = Files.writeString(previewPath.resolve("preview-123.part"), "{");
+
+        cache(DataSize.ofMegabytes(1)).cleanUp();
+
+        assertThat(current).exists();
+        assertThat(outdated).doesNotExist();
+        assertThat(partial).doesNotExist();
+    }
+
+    @Test
+    void 크기_제한을_넘으면_오래_읽지_않은_캐시부터_지운다() throws IOException {
+        Path oldest = cacheFile("EXTRA-000001-a.v1.json", 400, 1_000);
+        Path middle = cacheFile("EXTRA-000002-b.v1.json", 400, 2_000);
+        Path newest = cacheFile("EXTRA-000003-c.v1.json", 400, 3_000);
+
+        cache(DataSize.ofBytes(1000)).trim();
+
+        // 1200 byte 에서 제한의 90% (900 byte) 이하가 될 때까지 지움
+        assertThat(oldest).doesNotExist();
+        assertThat(middle).exists();
+        assertThat(newest).exists();
+    }
+
+    @Test
+    void 삭제된_문서의_캐시만_지운다() throws IOException {
+        Path deleted = cacheFile("RFP-000001-a.v1.json", 10, 1_000);
+        Path other = cacheFile("RFP-000011-b.v1.json", 10, 1_000);
+
+        cache(DataSize.ofMegabytes(1)).onDocumentDeleted(new DocumentDeletedEvent("RFP-000001"));
+
+        assertThat(deleted).doesNotExist();
+        assertThat(other).exists();
+    }
+
+    private DocumentPreviewCache cache(DataSize maxSize) {
+        return new DocumentPreviewCache(new ObjectMapper(), previewPath.toString(), maxSize);
+    }
+
+    private Path cacheFile(String name, int size, long lastModified) throws IOException {
+        Path file = Files.write(previewPath.resolve(name), new byte[size]);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified));
+        return file;
+    }
+
+    private static Document document(String docId, String contentHash) {
+        Document doc = new Document(docId, "회의록.docx", "/contents/" + contentHash, true, null, null);
+        doc.setContentHash(contentHash);
+        return doc;
+    }
+}
@@ -0,0 +1,130 @@
+package com.skala.decase.domain.document.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.skala.decase.domain.document.controller.dto.DocumentUploadResponse;
+import com.skala.decase.domain.document.domain.Document;
+import com.skala.decase.domain.document.exception.DocumentException;
+import com.skala.decase.domain.document.service.DocumentContentStore.StagedContent;
+import com.skala.decase.domain.document.service.DocumentContentStore.StoredContent;
+import com.skala.decase.domain.member.domain.Member;
+import com.skala.decase.domain.member.repository.MemberRepository;
+import com.skala.decase.domain.project.domain.Project;
+import com.skala.decase.domain.project.repository.ProjectRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class DocumentUploadServiceTest {
+
+    private static final long PROJECT_ID = 1L;
+
+    private DocumentService documentService;
+    private DocumentContentStore contentStore;
+    private ProjectRepository projectRepository;
+    private EntityManager entityManager;
+    private DocumentUploadService uploadService;
+
+    private Project project;
+    private Project current;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        documentService = mock(DocumentService.class);
+        contentStore = mock(DocumentContentStore.class);
+        projectRepository = mock(ProjectRepository.class);
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        entityManager = mock(EntityManager.class);
+
+        project = new Project();
+        project.setProjectId(PROJECT_ID);
+        project.setRevisionCount(3);
+        // 다른 요청이 이미 리비전을 올린 DB 의 현재 값
+        current = new Project();
+        current.setProjectId(PROJECT_ID);
+        current.setRevisionCount(5);
+
+        given(projectRepository.findById(PROJECT_ID)).willReturn(Optional.of(project));
+        member = mock(Member.class);
+        given(memberRepository.findById(any())).willReturn(Optional.of(member));
+        given(entityManager.unwrap(Session.class)).willReturn(mock(Session.class));
+        given(entityManager.find(Project.class, PROJECT_ID)).willReturn(current);
+        AtomicInteger sequence = new AtomicInteger();
+        given(documentService.generateDocId(anyString()))
+                .willAnswer(invocation -> invocation.getArgument(0) + "-" + sequence.incrementAndGet());
+        given(contentStore.stage(any())).willAnswer(invocation -> {
+            MockMultipartFile file = invocation.getArgument(0);
+            if (file.getOriginalFilename().startsWith("broken")) {
+                throw new DocumentException("파일을 저장할 수 없습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+            return new StagedContent(Path.of("tmp", file.getOriginalFilename()), file.getOriginalFilename(), 1);
+        });
+        given(contentStore.commit(any())).willAnswer(invocation -> {
+            StagedContent staged = invocation.getArgument(0);
+            return new StoredContent(staged.hash(), Path.of("contents", staged.hash()), staged.size());
+        });
+
+        uploadService = new DocumentUploadService(documentService, contentStore, projectRepository, memberRepository,
+                entityManager, Runnable::run, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void 받지_못한_파일만_실패로_남기고_나머지는_저장한다() {
+        List<DocumentUploadResponse> responses = uploadService.uploadDocuments(PROJECT_ID, 1L,
+                List.of(file("rfp.pdf"), file("broken.pdf"), file("minutes.docx"), file("unknown.txt")),
+                List.of(1, 1, 3, 99));
+
+        assertThat(responses).extracting(DocumentUploadResponse::uploaded).containsExactly(true, false, true, false);
+        assertThat(responses).extracting(DocumentUploadResponse::docId).containsExactly("RFP-1", null, "MOMD-2", null);
+        assertThat(responses.get(1).error()).isEqualTo("파일을 저장할 수 없습니다.");
+        assertThat(responses.get(3).error()).contains("유효하지 않은 문서 타입");
+
+        verify(entityManager, times(2)).persist(any(Document.class));
+        verify(contentStore, times(2)).discard(any());
+    }
+
+    @Test
+    void 프로젝트_리비전은_행_잠금을_잡고_다시_읽은_값에서_한_번만_올린다() {
+        uploadService.uploadDocuments(PROJECT_ID, 1L, List.of(file("a.pdf"), file("b.pdf")), List.of(4, 4));
+
+        InOrder order = inOrder(entityManager, projectRepository);
+        order.verify(entityManager).refresh(current, LockModeType.PESSIMISTIC_WRITE);
+        order.verify(projectRepository).save(current);
+        assertThat(current.getRevisionCount()).isEqualTo(6);
+        assertThat(project.getRevisionCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 모든_파일을_받지_못하면_리비전을_올리지_않는다() {
+        List<DocumentUploadResponse> responses = uploadService.uploadDocuments(PROJECT_ID, 1L,
+                List.of(file("broken.pdf")), List.of(1));
+
+        assertThat(responses).extracting(DocumentUploadResponse::uploaded).containsExactly(false);
+        verify(entityManager, never()).refresh(any(), eq(LockModeType.PESSIMISTIC_WRITE));
+        verify(projectRepository, never()).save(any());
+    }
+
+    private static MockMultipartFile file(String name) {
+        return new MockMultipartFile("files", name, "application/octet-stream", new byte[]{1});
+    }
+}
@@ -0,0 +1,198 @@
+package com.skala.decase.domain.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+import com.skala.decase.domain.company.domain.Company;
+import com.skala.decase.domain.department.domain.Department;
+import com.skala.decase.domain.document.domain.Document;
+import com.skala.decase.domain.document.service.DocumentContentStore;
+import com.skala.decase.domain.document.service.DocumentContentStore.StagedContent;
+import com.skala.decase.domain.document.service.DocumentContentStore.StoredContent;
+import com.skala.decase.domain.document.service.DocumentService;
+import com.skala.decase.domain.document.service.DocumentUploadService;
+import com.skala.decase.domain.member.domain.Member;
+import com.skala.decase.domain.member.service.MemberService;
+import com.skala.decase.domain.project.domain.Project;
+import com.skala.decase.domain.requirement.controller.dto.request.CreateRfpRequest;
+import com.skala.decase.domain.requirement.controller.dto.request.RequirementRevisionDto;
+import com.skala.decase.domain.requirement.controller.dto.request.SrsUpdateRequest;
+import com.skala.decase.domain.requirement.controller.dto.request.SrsUpdateRequestDetail;
+import com.skala.decase.domain.requirement.mapper.RequirementServiceMapper;
+import com.skala.decase.domain.requirement.mapper.RequirementUpdateServiceMapper;
+import com.skala.decase.domain.requirement.service.RequirementService;
+import com.skala.decase.domain.requirement.service.SrsProcessingService;
+import com.skala.decase.domain.requirement.service.SrsProcessor;
+import com.skala.decase.domain.requirement.service.SrsUpdateService;
+import jakarta.persistence.EntityManager;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * 리비전 목록의 작성자와 문서가 요구사항을 쓴 리비전 번호로 붙는지 H2 에서 확인합니다.
+ * 문서 업로드와 업데이트 요청은 요구사항 없이 프로젝트 리비전만 올리므로 두 번호가 어긋나는 흐름을 그대로 재현합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({ProjectRevisionService.class, SrsProcessingService.class, SrsUpdateService.class,
+        DocumentUploadService.class, RequirementServiceMapper.class, RequirementUpdateServiceMapper.class,
+        ProjectRevisionServiceTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ProjectRevisionServiceTest {
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        WebClient webClient() {
+            // AI 서버 호출은 바로 200 으로 끝냅니다.
+            return WebClient.builder()
+                    .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK).build()))
+                    .build();
+        }
+
+        @Bean
+        Executor documentIoExecutor() {
+            return Runnable::run;
+        }
+    }
+
+    @Autowired
+    private ProjectRevisionService projectRevisionService;
+    @Autowired
+    private SrsProcessingService srsProcessingService;
+    @Autowired
+    private SrsUpdateService srsUpdateService;
+    @Autowired
+    private DocumentUploadService documentUploadService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbc;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private ProjectService projectService;
+    @MockitoBean
+    private MemberService memberService;
+    @MockitoBean
+    private DocumentService documentService;
+    @MockitoBean
+    private DocumentContentStore documentContentStore;
+    @MockitoBean
+    private RequirementService requirementService;
+    @MockitoBean
+    private SrsProcessor srsProcessor;
+    @MockitoBean
+    private AIMailService aiMailService;
+
+    private Project project;
+    private Member analyst;
+    private Member uploader;
+    private Member editor;
+
+    @BeforeEach
+    void setUp() {
+        jdbc.update("INSERT INTO tm_companies (company_id, name) VALUES (1, '회사')");
+        jdbc.update("INSERT INTO tn_departments (department_id, name, company_id) VALUES (1, '부서', 1)");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            project = new Project("프로젝트", 1L, new Date(), new Date(), "설명", null,
+                    LocalDateTime.now(), LocalDateTime.now());
+            entityManager.persist(project);
+            analyst = member("analyst", "분석가");
+            uploader = member("uploader", "업로더");
+            editor = member("editor", "편집자");
+            entityManager.persist(new Document("RFP-1", "제안요청서.pdf", "/rfp", true, project, analyst));
+        });
+
+        // 실제 서비스처럼 호출한 트랜잭션 안에서 읽은 엔티티를 돌려줍니다.
+        given(projectService.findByProjectId(any()))
+                .willAnswer(invocation -> entityManager.find(Project.class, project.getProjectId()));
+        given(memberService.findByMemberId(anyLong()))
+                .willAnswer(invocation -> entityManager.find(Member.class, invocation.getArgument(0)));
+        given(documentService.findByDocId(anyString()))
+                .willAnswer(invocation -> entityManager.find(Document.class, invocation.getArgument(0)));
+        AtomicInteger sequence = new AtomicInteger();
+        given(documentService.generateDocId(anyString()))
+                .willAnswer(invocation -> invocation.getArgument(0) + "-" + sequence.incrementAndGet());
+        given(documentContentStore.store(any()))
+                .willReturn(new StoredContent("hash", Path.of("contents", "hash"), 1));
+        given(documentContentStore.stage(any()))
+                .willReturn(new StagedContent(Path.of("tmp", "extra"), "extra", 1));
+        given(documentContentStore.commit(any()))
+                .willReturn(new StoredContent("extra", Path.of("contents", "extra"), 1));
+        given(requirementService.getRequirementsForUpdate(any(), anyInt())).willReturn(List.of());
+    }
+
+    @Test
+    void 업로드와_업데이트_요청이_프로젝트_리비전을_올려도_목록은_요구사항을_쓴_작성자와_문서를_보여준다() {
+        srsProcessingService.saveSRSAnalysis(project.getProjectId(), analyst.getMemberId(), "RFP-1", "COMPLETED",
+                List.of(rfpRequirement("REQ-001")));
+
+        // 요구사항 없이 프로젝트 리비전만 올리는 두 요청
+        documentUploadService.uploadDocuments(project.getProjectId(), uploader.getMemberId(),
+                List.of(new MockMultipartFile("files", "참고자료.pdf", "application/pdf", new byte[]{1})), List.of(4));
+        srsUpdateService.updateRFP(project.getProjectId(), editor.getMemberId(), "회의록",
+                new MockMultipartFile("file", "회의록.docx", "application/octet-stream", new byte[]{1}));
+        assertThat(jdbc.queryForObject("SELECT revision_count FROM tm_projects", Integer.class)).isEqualTo(2);
+        String minutesDocId = jdbc.queryForObject(
+                "SELECT doc_id FROM tm_documents WHERE doc_id LIKE 'MOMD-%'", String.class);
+
+        srsUpdateService.saveSRSUpdateAnalysis(project.getProjectId(), editor.getMemberId(), minutesDocId,
+                "COMPLETED", new SrsUpdateRequest(List.of(updateRequirement("REQ-002")), List.of(), List.of()));
+
+        List<RequirementRevisionDto> catalog = projectRevisionService.getCatalog(
+                entityManager.find(Project.class, project.getProjectId()));
+
+        assertThat(catalog).extracting(RequirementRevisionDto::getRevision).containsExactly(2, 1);
+        assertThat(catalog.get(0).getAuthor()).isEqualTo("편집자");
+        assertThat(catalog.get(0).getDocId()).isEqualTo(minutesDocId);
+        assertThat(catalog.get(1).getAuthor()).isEqualTo("분석가");
+        assertThat(catalog.get(1).getDocId()).isEqualTo("RFP-1");
+    }
+
+    private Member member(String id, String name) {
+        Member member = new Member(id, "pw", name, id + "@decase.com",
+                entityManager.getReference(Company.class, 1L), entityManager.getReference(Department.class, 1L));
+        entityManager.persist(member);
+        return member;
+    }
+
+    private static CreateRfpRequest rfpRequirement(String reqIdCode) {
+        return new CreateRfpRequest("로그인", "기능", null, "로그인 기능", "로그인 화면",
+                "공통", "인증", "로그인", "상", "중", "REQ", reqIdCode);
+    }
+
+    private static SrsUpdateRequestDetail updateRequirement(String reqIdCode) {
+        return new SrsUpdateRequestDetail(reqIdCode, "로그아웃", "기능", "로그아웃 기능", "로그아웃 화면",
+                "공통", "인증", "로그아웃", "HIGH", "MIDDLE", "회의록 반영");
+    }
+}
@@ -0,0 +1,93 @@
+package com.skala.decase.domain.requirement.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RequirementSearchIndexTest {
+
+    private RequirementSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        RequirementSearchIndex.Updater updater = RequirementSearchIndex.empty().toUpdater();
+        updater.put("REQ-001", 1L, "로그인", "사용자 인증 화면", List.of("아이디와 비밀번호로 로그인한다"));
+        updater.put("REQ-002", 2L, "회원 가입", "가입 후 로그인 화면으로 이동", List.of());
+        updater.put("REQ-003", 3L, "비밀번호 변경", "현재 비밀번호 확인", List.of());
+        updater.put("REQ-004", 4L, "보안 정책", "비밀번호를 주기적으로 변경하도록 안내", List.of());
+        index = updater.build(1);
+    }
+
+    @Test
+    void 모든_단어가_포함된_요구사항만_찾는다() {
+        assertThat(reqIdCodes(index.search("로그인 화면"))).containsExactlyInAnyOrder("REQ-001", "REQ-002");
+        assertThat(reqIdCodes(index.search("로그인 정책"))).isEmpty();
+        assertThat(reqIdCodes(index.search("  "))).isEmpty();
+    }
+
+    @Test
+    void 이름에_나온_요구사항이_설명에만_나온_요구사항보다_앞선다() {
+        List<RequirementSearchIndex.Hit> hits = index.search("로그인");
+
+        assertThat(reqIdCodes(hits)).containsExactly("REQ-001", "REQ-002");
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    @Test
+    void 따옴표_검색어는_문구가_그대로_있어야_한다() {
+        assertThat(reqIdCodes(index.search("비밀번호 변경"))).containsExactlyInAnyOrder("REQ-003", "REQ-004");
+        assertThat(reqIdCodes(index.search("\"비밀번호 변경\""))).containsExactly("REQ-003");
+    }
+
+    @Test
+    void 초성_검색어는_이름의_초성으로_찾는다() {
+        assertThat(reqIdCodes(index.search("ㄹㄱㅇ"))).containsExactly("REQ-001");
+        assertThat(reqIdCodes(index.search("ㅎㅇ ㄱㅇ"))).containsExactly("REQ-002");
+    }
+
+    @Test
+    void 다음_리비전은_바뀐_요구사항만_반영하고_이전_색인은_그대로_둔다() {
+        RequirementSearchIndex.Updater updater = index.toUpdater();
+        assertThat(updater.contains("REQ-001", 1L)).isTrue();
+        assertThat(updater.contains("REQ-002", 9L)).isFalse();
+
+        updater.put("REQ-002", 9L, "회원 탈퇴", "탈퇴 후 데이터 삭제", List.of());
+        updater.put("REQ-005", 5L, "결제", "카드 결제", List.of());
+        assertThat(updater.retainAll(Set.of("REQ-001", "REQ-002", "REQ-003", "REQ-005"))).isEqualTo(1);
+        RequirementSearchIndex next = updater.build(2);
+
+        assertThat(next.revision()).isEqualTo(2);
+        assertThat(next.size()).isEqualTo(4);
+        assertThat(reqIdCodes(next.search("가입"))).isEmpty();
+        assertThat(reqIdCodes(next.search("탈퇴"))).containsExactly("REQ-002");
+        assertThat(reqIdCodes(next.search("비밀번호 변경"))).containsExactly("REQ-003");
+        assertThat(reqIdCodes(next.search("결제"))).containsExactly("REQ-005");
+
+        assertThat(reqIdCodes(index.search("가입"))).containsExactly("REQ-002");
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void 저장한_색인을_읽으면_같은_결과를_낸다() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        RequirementSearchIndex read = RequirementSearchIndex.readFrom(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertThat(read.revision()).isEqualTo(1);
+        assertThat(read.search("로그인")).isEqualTo(index.search("로그인"));
+        assertThat(read.search("ㄹㄱㅇ")).isEqualTo(index.search("ㄹㄱㅇ"));
+    }
+
+    private static List<String> reqIdCodes(List<RequirementSearchIndex.Hit> hits) {
+        return hits.stream().map(RequirementSearchIndex.Hit::reqIdCode).toList();
+    }
+}
@@ -0,0 +1,88 @@
+package com.skala.decase.domain.requirement.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+class RequirementTimelineTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    @Test
+    void 리비전마다_그_시점까지_수정_시각이_가장_늦은_행을_고른다() {
+        RequirementTimeline timeline = RequirementTimeline.builder()
+                .version(version(1L, "REQ-002", 1, "검색", 0, 1L), 0, "추가")
+                .version(version(2L, "REQ-001", 2, "로그인", 1, 2L), 1, "추가")
+                .version(version(1L, "REQ-002", 3, "상세 검색", 2, 3L), 2, "수정")
+                .build();
+
+        assertThat(timeline.stateAt(0)).isEmpty();
+        assertThat(timeline.stateAt(1)).extracting(RequirementTimeline.Version::name).containsExactly("검색");
+        // req_id_code 순
+        assertThat(timeline.stateAt(2)).extracting(RequirementTimeline.Version::reqIdCode)
+                .containsExactly("REQ-001", "REQ-002");
+        assertThat(timeline.stateAt(2)).extracting(RequirementTimeline.Version::name).containsExactly("로그인", "검색");
+        assertThat(timeline.stateAt(3)).extracting(RequirementTimeline.Version::name).containsExactly("로그인", "상세 검색");
+        // 최신 리비전 뒤로는 최신 상태가 이어집니다.
+        assertThat(timeline.stateAt(10)).extracting(RequirementTimeline.Version::name).containsExactly("로그인", "상세 검색");
+        assertThat(timeline.latestRevision()).isEqualTo(3);
+    }
+
+    @Test
+    void 같은_리비전은_나중_rev_가_이기고_수정_시각이_이른_늦은_리비전은_무시한다() {
+        RequirementTimeline timeline = RequirementTimeline.builder()
+                .version(version(1L, "REQ-001", 1, "처음", 0, 1L), 0, "추가")
+                .version(version(1L, "REQ-001", 1, "같은 리비전 수정", 1, 2L), 1, "수정")
+                // 리비전은 높지만 수정 시각이 더 이릅니다 (스냅샷 쿼리는 modified_date 가 가장 늦은 행을 씁니다).
+                .version(version(1L, "REQ-001", 2, "늦게 기록된 이전 값", 0, 3L), 2, "수정")
+                .build();
+
+        assertThat(timeline.versionAt("REQ-001", 1).name()).isEqualTo("같은 리비전 수정");
+        assertThat(timeline.versionAt("REQ-001", 2).name()).isEqualTo("같은 리비전 수정");
+        assertThat(timeline.versionAt("REQ-002", 2)).isNull();
+    }
+
+    @Test
+    void 삭제_행은_상태에서_빠지고_변경_이유에만_남는다() {
+        RequirementTimeline.Version added = version(1L, "REQ-001", 1, "로그인", 0, 1L);
+        RequirementTimeline.Version removed = new RequirementTimeline.Version(1L, "REQ-001", 2, "FR", "ACCEPTED",
+                "공통", "인증", "로그인", "로그인", "설명", "HIGH", "MIDDLE", 2, false, BASE, BASE.plusMinutes(1), 2L);
+        RequirementTimeline timeline = RequirementTimeline.builder()
+                .version(added, 0, "추가")
+                .version(removed, 1, "삭제")
+                .build();
+
+        assertThat(timeline.stateAt(2)).containsExactly(added);
+        assertThat(timeline.modReasonsAt("REQ-001", 1)).extracting(RequirementTimeline.ModReason::reason)
+                .containsExactly("추가");
+        assertThat(timeline.modReasonsAt("REQ-001", 2)).extracting(RequirementTimeline.ModReason::reason)
+                .containsExactly("추가", "삭제");
+    }
+
+    @Test
+    void 출처는_문서별로_그_시점의_가장_최근_행을_고른다() {
+        RequirementTimeline timeline = RequirementTimeline.builder()
+                .version(version(1L, "REQ-001", 1, "로그인", 0, 1L), 0, "추가")
+                .source(new RequirementTimeline.SourceVersion(10L, 1L, "RFP-1", 1, "첫 문장", 1, 1L))
+                .source(new RequirementTimeline.SourceVersion(11L, 1L, "RFP-1", 2, "바뀐 문장", 3, 3L))
+                .source(new RequirementTimeline.SourceVersion(12L, 1L, "MOMD-1", 5, "회의록", 2, 2L))
+                .build();
+
+        assertThat(timeline.sourcesAt(1L, 1)).extracting(RequirementTimeline.SourceVersion::relSentence)
+                .containsExactly("첫 문장");
+        // doc_id 순
+        assertThat(timeline.sourcesAt(1L, 2)).extracting(RequirementTimeline.SourceVersion::docId)
+                .containsExactly("MOMD-1", "RFP-1");
+        assertThat(timeline.sourcesAt(1L, 3)).extracting(RequirementTimeline.SourceVersion::relSentence)
+                .containsExactly("회의록", "바뀐 문장");
+        assertThat(timeline.sourcesAt(2L, 3)).isEmpty();
+    }
+
+    private static RequirementTimeline.Version version(long reqPk, String reqIdCode, int revisionCount, String name,
+                                                       int minutes, long rev) {
+        return new RequirementTimeline.Version(reqPk, reqIdCode, revisionCount, "FR", "ACCEPTED",
+                "공통", "인증", "로그인", name, "설명", "HIGH", "MIDDLE",
+                revisionCount == 1 ? 0 : 1, false, BASE, BASE.plusMinutes(minutes), rev);
+    }
+}
@@ -0,0 +1,102 @@
+package com.skala.decase.domain.requirement.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skala.decase.domain.requirement.controller.dto.response.RequirementAuditResponse;
+import com.skala.decase.domain.requirement.mapper.RequirementAuditMapper;
+import com.skala.decase.global.jdbc.StreamingJdbcTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * 감사 이력 커서 페이지 조회를 H2(MariaDB 모드)에서 확인합니다.
+ */
+class RequirementAuditRepositoryTest {
+
+    private static final long PROJECT_ID = 1L;
+
+    private JdbcTemplate jdbc;
+    private RequirementAuditRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MariaDB;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE revinfo (rev INT PRIMARY KEY, revtstmp BIGINT)");
+        jdbc.execute("CREATE TABLE tn_members (member_id BIGINT PRIMARY KEY, id VARCHAR(50), name VARCHAR(50))");
+        jdbc.execute("CREATE TABLE td_requirements_aud (" +
+                "rev INT, revtype TINYINT, req_pk BIGINT, req_id_code VARCHAR(100), revision_count INT, " +
+                "type VARCHAR(20), name VARCHAR(100), description VARCHAR(5000), " +
+                "level_1 VARCHAR(100), level_2 VARCHAR(100), level_3 VARCHAR(100), " +
+                "priority VARCHAR(20), difficulty VARCHAR(20), reception VARCHAR(20), mod_reason VARCHAR(1000), " +
+                "project_id_aud BIGINT, member_id BIGINT, PRIMARY KEY (req_pk, rev))");
+        jdbc.update("INSERT INTO tn_members VALUES (1, 'user1', '작성자')");
+
+        repository = new RequirementAuditRepository(null, new RequirementAuditMapper(new ObjectMapper()),
+                new NamedParameterJdbcTemplate(dataSource), new StreamingJdbcTemplate(dataSource, 100));
+    }
+
+    @Test
+    void 커서로_이어_읽으면_모든_행을_한_번씩_최신_순으로_읽는다() {
+        // rev 1: 요구사항 3건 추가, rev 2: 2건 수정, rev 3: 1건 추가
+        insertRevision(1, 1000L);
+        insertAudit(1, 0, 10L, "REQ-001");
+        insertAudit(1, 0, 11L, "REQ-002");
+        insertAudit(1, 0, 12L, "REQ-003");
+        insertRevision(2, 2000L);
+        insertAudit(2, 1, 10L, "REQ-001");
+        insertAudit(2, 1, 12L, "REQ-003");
+        insertRevision(3, 3000L);
+        insertAudit(3, 0, 13L, "REQ-004");
+        // 다른 프로젝트 행은 나오지 않아야 합니다.
+        jdbc.update("INSERT INTO td_requirements_aud (rev, revtype, req_pk, req_id_code, revision_count, project_id_aud) " +
+                "VALUES (3, 0, 99, 'OTHER', 1, 2)");
+
+        List<String> read = new ArrayList<>();
+        Long cursorRev = null;
+        Long cursorReqPk = null;
+        while (true) {
+            List<RequirementAuditResponse> page = repository.findHistory(PROJECT_ID, cursorRev, cursorReqPk, 2);
+            page.forEach(row -> read.add(row.revisionNumber() + ":" + row.reqPk()));
+            if (page.size() < 2) {
+                break;
+            }
+            RequirementAuditResponse last = page.get(page.size() - 1);
+            cursorRev = last.revisionNumber();
+            cursorReqPk = last.reqPk();
+        }
+
+        assertThat(read).containsExactly("3:13", "2:12", "2:10", "1:12", "1:11", "1:10");
+    }
+
+    @Test
+    void 작성자와_기록_시각을_함께_읽는다() {
+        insertRevision(1, 1000L);
+        insertAudit(1, 0, 10L, "REQ-001");
+
+        List<RequirementAuditResponse> rows = repository.findHistory(PROJECT_ID, null, null, null);
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).reqIdCode()).isEqualTo("REQ-001");
+        assertThat(rows.get(0).changeType()).isEqualTo("ADD");
+        assertThat(rows.get(0).modifiedByName()).isEqualTo("작성자");
+    }
+
+    private void insertRevision(int rev, long timestamp) {
+        jdbc.update("INSERT INTO revinfo VALUES (?, ?)", rev, timestamp);
+    }
+
+    private void insertAudit(int rev, int revtype, long reqPk, String reqIdCode) {
+        jdbc.update("INSERT INTO td_requirements_aud (rev, revtype, req_pk, req_id_code, revision_count, type, name, " +
+                        "project_id_aud, member_id) VALUES (?, ?, ?, ?, ?, 'FR', ?, ?, 1)",
+                rev, revtype, reqPk, reqIdCode, rev, reqIdCode + " 이름", PROJECT_ID);
+    }
+}
@@ -0,0 +1,54 @@
+package com.skala.decase.domain.requirement.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.skala.decase.domain.requirement.domain.Priority;
+import com.skala.decase.domain.requirement.domain.Reception;
+import com.skala.decase.domain.requirement.domain.RequirementType;
+import com.skala.decase.domain.requirement.repository.RequirementImportRepository.CurrentRequirement;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RequirementImportRowTest {
+
+    private final CurrentRequirement current = new CurrentRequirement(10L, "REQ-001", 2, "FR", "ACCEPTED",
+            "회원", "인증", null, "로그인", "로그인 기능을 제공한다.", "HIGH", "MIDDLE");
+
+    @Test
+    void 같은_값이면_바뀌지_않는다() {
+        RequirementImportRow row = row(RequirementType.FR, "회원", "로그인 기능을 제공한다.", Priority.HIGH,
+                Reception.ACCEPTED);
+
+        assertThat(row.differsFrom(current)).isFalse();
+    }
+
+    @Test
+    void 빈_셀은_어느_열이든_기존_값을_유지하므로_변경이_아니다() {
+        RequirementImportRow row = row(null, null, null, null, null);
+
+        assertThat(row.differsFrom(current)).isFalse();
+    }
+
+    @Test
+    void 값이_있는_셀이_다르면_변경이다() {
+        assertThat(row(RequirementType.NFR, null, null, null, null).differsFrom(current)).isTrue();
+        assertThat(row(null, "주문", null, null, null).differsFrom(current)).isTrue();
+        assertThat(row(null, null, "다른 설명", null, null).differsFrom(current)).isTrue();
+        assertThat(row(null, null, null, Priority.LOW, null).differsFrom(current)).isTrue();
+        assertThat(row(null, null, null, null, Reception.UNACCEPTED).differsFrom(current)).isTrue();
+    }
+
+    @Test
+    void 현재_값이_비어_있는_항목을_채우면_변경이다() {
+        RequirementImportRow row = new RequirementImportRow(1, "REQ-001", null, null, null, "세션", null, null,
+                null, null, null, List.of());
+
+        assertThat(row.differsFrom(current)).isTrue();
+    }
+
+    private static RequirementImportRow row(RequirementType type, String level1, String description,
+                                            Priority priority, Reception reception) {
+        return new RequirementImportRow(1, "REQ-001", type, level1, null, null, null, description,
+                priority, null, reception, List.of());
+    }
+}
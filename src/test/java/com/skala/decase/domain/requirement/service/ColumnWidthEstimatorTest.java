@@ -0,0 +1,43 @@
+package com.skala.decase.domain.requirement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ColumnWidthEstimatorTest {
+
+    @Test
+    void 한글과_전각_문자는_두_칸_나머지는_한_칸으로_센다() {
+        assertThat(ColumnWidthEstimator.displayUnits(null)).isZero();
+        assertThat(ColumnWidthEstimator.displayUnits("")).isZero();
+        assertThat(ColumnWidthEstimator.displayUnits("REQ-001")).isEqualTo(7);
+        assertThat(ColumnWidthEstimator.displayUnits("로그인")).isEqualTo(6);
+        assertThat(ColumnWidthEstimator.displayUnits("ID 확인")).isEqualTo(7);
+        assertThat(ColumnWidthEstimator.displayUnits("漢字かなＡ")).isEqualTo(10);
+        // 보충 평면 한자 (서로게이트 쌍) 도 한 글자로 봅니다.
+        assertThat(ColumnWidthEstimator.displayUnits("𠀋")).isEqualTo(2);
+    }
+
+    @Test
+    void 여러_줄인_값은_가장_긴_줄로_센다() {
+        assertThat(ColumnWidthEstimator.displayUnits("짧은 줄\r\n조금 더 긴 줄입니다\nend")).isEqualTo(19);
+        assertThat(ColumnWidthEstimator.displayUnits("\n\n")).isZero();
+    }
+
+    @Test
+    void 컬럼별_최대_폭에_여백을_더하고_최대_너비에서_자른다() {
+        ColumnWidthEstimator estimator = new ColumnWidthEstimator(3, 40 * 256);
+        estimator.header(0, "요구사항 ID");    // 11칸 * 1.2 = 13
+        estimator.cell(0, "REQ-001");
+        estimator.cell(1, "로그인");
+        estimator.cell(1, "ID");
+        estimator.cell(2, "가".repeat(100));
+
+        assertThat(estimator.width(0)).isEqualTo((13 + 2) * 256);
+        assertThat(estimator.width(1)).isEqualTo((6 + 2) * 256);
+        assertThat(estimator.width(2)).isEqualTo(40 * 256);
+        // 범위 밖 컬럼은 기록하지 않고 최대 너비를 줍니다.
+        estimator.cell(5, "무시");
+        assertThat(estimator.width(5)).isEqualTo(40 * 256);
+    }
+}
@@ -0,0 +1,51 @@
+package com.skala.decase.domain.requirement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ExportFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 연_뒤_파일이_지워져도_끝까지_읽는다() throws IOException {
+        Path path = Files.writeString(directory.resolve("requirements-3-v1.xlsx"), "content", StandardCharsets.UTF_8);
+
+        try (ExportFile file = ExportFile.open(path)) {
+            Files.delete(path);
+
+            assertThat(file.length()).isEqualTo(7);
+            try (InputStream in = file.inputStream()) {
+                assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("content");
+            }
+        }
+    }
+
+    @Test
+    void ETag_는_파일_이름과_크기를_담고_If_None_Match_와_비교한다() throws IOException {
+        Path path = Files.writeString(directory.resolve("matrix-0-v1.xlsx"), "abc", StandardCharsets.UTF_8);
+
+        try (ExportFile file = ExportFile.open(path)) {
+            assertThat(file.etag()).startsWith("\"matrix-0-v1-").endsWith("-3\"");
+            assertThat(file.matches("W/" + file.etag())).isTrue();
+            assertThat(file.matches("\"other\", " + file.etag())).isTrue();
+            assertThat(file.matches("\"other\"")).isFalse();
+        }
+    }
+
+    @Test
+    void 없는_파일은_NoSuchFileException() {
+        assertThatThrownBy(() -> ExportFile.open(directory.resolve("none.xlsx")))
+                .isInstanceOf(NoSuchFileException.class);
+    }
+}
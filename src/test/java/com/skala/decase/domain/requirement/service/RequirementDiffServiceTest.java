@@ -0,0 +1,117 @@
+package com.skala.decase.domain.requirement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.skala.decase.domain.project.domain.Project;
+import com.skala.decase.domain.project.service.ProjectService;
+import com.skala.decase.domain.requirement.controller.dto.response.FieldChange;
+import com.skala.decase.domain.requirement.controller.dto.response.RequirementDiffItem;
+import com.skala.decase.domain.requirement.controller.dto.response.RequirementDiffResponse;
+import com.skala.decase.domain.requirement.domain.RequirementTimeline;
+import com.skala.decase.domain.requirement.exception.RequirementException;
+import com.skala.decase.domain.requirement.repository.RequirementRepository;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class RequirementDiffServiceTest {
+
+    private static final long PROJECT_ID = 1L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private RequirementTimelineService timelineService;
+    private RequirementDiffService service;
+
+    @BeforeEach
+    void setUp() {
+        timelineService = mock(RequirementTimelineService.class);
+        ProjectService projectService = mock(ProjectService.class);
+        when(projectService.findByProjectId(PROJECT_ID)).thenReturn(mock(Project.class));
+        RequirementRepository requirementRepository = mock(RequirementRepository.class);
+        when(requirementRepository.getMaxRevisionCount(any())).thenReturn(2);
+
+        // 1: REQ-001~003 추가
+        // 2: REQ-001 이름 수정, REQ-002 출처 추가, REQ-003 삭제 처리, REQ-004 추가
+        RequirementTimeline timeline = RequirementTimeline.builder()
+                .version(version(1L, "REQ-001", 1, "로그인", false, 0), 0, "추가")
+                .version(version(2L, "REQ-002", 1, "검색", false, 0), 0, "추가")
+                .version(version(3L, "REQ-003", 1, "알림", false, 0), 0, "추가")
+                .version(version(1L, "REQ-001", 2, "소셜 로그인", false, 1), 1, "수정")
+                .version(version(3L, "REQ-003", 2, "알림", true, 1), 1, "삭제")
+                .version(version(4L, "REQ-004", 2, "결제", false, 1), 1, "추가")
+                .source(new RequirementTimeline.SourceVersion(10L, 2L, "RFP-1", 1, "검색", 1, 1L))
+                .source(new RequirementTimeline.SourceVersion(11L, 2L, "MOMD-1", 3, "검색 조건", 2, 2L))
+                .build();
+        when(timelineService.getTimeline(PROJECT_ID)).thenReturn(timeline);
+
+        service = new RequirementDiffService(timelineService, projectService, requirementRepository, 10);
+    }
+
+    @Test
+    void 요구사항_ID_순으로_병합해_추가_수정_삭제를_나눈다() {
+        RequirementDiffResponse diff = service.diff(PROJECT_ID, 1, 2);
+
+        assertThat(diff.added()).extracting(RequirementDiffItem::reqIdCode).containsExactly("REQ-004");
+        assertThat(diff.deleted()).extracting(RequirementDiffItem::reqIdCode).containsExactly("REQ-003");
+        assertThat(diff.modified()).extracting(RequirementDiffItem::reqIdCode).containsExactly("REQ-001", "REQ-002");
+        assertThat(diff.modified().get(0).changes())
+                .containsExactly(new FieldChange("name", "로그인", "소셜 로그인"));
+        assertThat(diff.modified().get(1).changes())
+                .containsExactly(new FieldChange("sources", "RFP-1", "MOMD-1,RFP-1"));
+    }
+
+    @Test
+    void 같은_리비전끼리는_변경이_없다() {
+        RequirementDiffResponse diff = service.diff(PROJECT_ID, 2, 2);
+
+        assertThat(diff.added()).isEmpty();
+        assertThat(diff.modified()).isEmpty();
+        assertThat(diff.deleted()).isEmpty();
+    }
+
+    @Test
+    void 최신_리비전보다_큰_리비전은_404로_거부하고_캐시에_남기지_않는다() {
+        assertThatThrownBy(() -> service.diff(PROJECT_ID, 1, 3))
+                .isInstanceOf(RequirementException.class)
+                .extracting("status").isEqualTo(HttpStatus.NOT_FOUND);
+        assertThatThrownBy(() -> service.diff(PROJECT_ID, 3, 3))
+                .isInstanceOf(RequirementException.class)
+                .extracting("status").isEqualTo(HttpStatus.NOT_FOUND);
+
+        verify(timelineService, never()).getTimeline(any());
+    }
+
+    @Test
+    void 시작_리비전이_끝_리비전보다_크면_400으로_거부한다() {
+        assertThatThrownBy(() -> service.diff(PROJECT_ID, 2, 1))
+                .isInstanceOf(RequirementException.class)
+                .extracting("status").isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThatThrownBy(() -> service.diff(PROJECT_ID, 0, 1))
+                .isInstanceOf(RequirementException.class)
+                .extracting("status").isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void 같은_구간은_캐시된_결과를_쓴다() {
+        RequirementDiffResponse first = service.diff(PROJECT_ID, 1, 2);
+        RequirementDiffResponse second = service.diff(PROJECT_ID, 1, 2);
+
+        assertThat(second).isSameAs(first);
+        verify(timelineService, times(1)).getTimeline(PROJECT_ID);
+    }
+
+    private static RequirementTimeline.Version version(long reqPk, String reqIdCode, int revisionCount, String name,
+                                                       boolean deleted, int minutes) {
+        return new RequirementTimeline.Version(reqPk, reqIdCode, revisionCount, "FR", "ACCEPTED",
+                "공통", "인증", "로그인", name, "설명", "HIGH", "MIDDLE",
+                revisionCount == 1 ? 0 : 1, deleted, BASE, BASE.plusMinutes(minutes), revisionCount);
+    }
+}
@@ -0,0 +1,100 @@
+package com.skala.decase.domain.requirement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.skala.decase.domain.requirement.domain.Priority;
+import com.skala.decase.domain.requirement.domain.Reception;
+import com.skala.decase.domain.requirement.domain.RequirementType;
+import com.skala.decase.domain.requirement.exception.RequirementException;
+import com.skala.decase.domain.requirement.repository.RequirementImportRow;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class RequirementImportParserTest {
+
+    private final RequirementImportParser parser = new RequirementImportParser(
+            name -> Optional.ofNullable(Map.of("제안요청서.pdf", "RFP-1").get(name)));
+
+    @Test
+    void 내보내기_양식의_행을_읽는다() {
+        String[] cells = row("REQ-001", "로그인");
+        cells[1] = "기능";
+        cells[7] = "상";
+        cells[9] = "제안요청서.pdf (3페이지)\n로그인 기능을 제공한다.\n제안요청서.pdf (4페이지)\n비밀번호를 암호화한다.";
+        cells[11] = "검토중";
+
+        RequirementImportRow parsed = parser.parse(1, cells);
+
+        assertThat(parsed.reqIdCode()).isEqualTo("REQ-001");
+        assertThat(parsed.type()).isEqualTo(RequirementType.FR);
+        assertThat(parsed.priority()).isEqualTo(Priority.HIGH);
+        assertThat(parsed.reception()).isEqualTo(Reception.REVIEWING);
+        assertThat(parsed.sources()).containsExactly(
+                new RequirementImportRow.Source("RFP-1", 3, "로그인 기능을 제공한다."),
+                new RequirementImportRow.Source("RFP-1", 4, "비밀번호를 암호화한다."));
+    }
+
+    @Test
+    void 빈_셀은_null_로_둔다() {
+        RequirementImportRow parsed = parser.parse(1, row("REQ-001", "로그인"));
+
+        assertThat(parsed.type()).isNull();
+        assertThat(parsed.level1()).isNull();
+        assertThat(parsed.description()).isNull();
+        assertThat(parsed.priority()).isNull();
+        assertThat(parsed.difficulty()).isNull();
+        assertThat(parsed.reception()).isNull();
+        assertThat(parsed.sources()).isEmpty();
+    }
+
+    @Test
+    void int_범위를_넘는_페이지_번호는_행_오류로_거부한다() {
+        String[] cells = row("REQ-001", "로그인");
+        cells[9] = "제안요청서.pdf (99999999999페이지)\n문장";
+
+        assertThatThrownBy(() -> parser.parse(1, cells))
+                .isInstanceOf(RequirementException.class)
+                .hasMessageContaining("페이지 번호")
+                .extracting("status").isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void 형식이_다른_출처와_없는_문서는_거부한다() {
+        String[] malformed = row("REQ-001", "로그인");
+        malformed[9] = "제안요청서.pdf 3페이지";
+        String[] unknown = row("REQ-001", "로그인");
+        unknown[9] = "없는문서.pdf (1페이지)\n문장";
+
+        assertThatThrownBy(() -> parser.parse(1, malformed)).isInstanceOf(RequirementException.class);
+        assertThatThrownBy(() -> parser.parse(1, unknown))
+                .isInstanceOf(RequirementException.class)
+                .hasMessageContaining("없는문서.pdf");
+    }
+
+    @Test
+    void 요구사항_ID_와_명은_필수다() {
+        assertThatThrownBy(() -> parser.parse(1, row(null, "로그인"))).isInstanceOf(RequirementException.class);
+        assertThatThrownBy(() -> parser.parse(1, row("REQ-001", null))).isInstanceOf(RequirementException.class);
+    }
+
+    @Test
+    void 머리글이_다르면_거부한다() {
+        String[] header = RequirementImportParser.HEADERS.clone();
+        RequirementImportParser.checkHeader(header);
+
+        header[5] = "이름";
+        assertThatThrownBy(() -> RequirementImportParser.checkHeader(header))
+                .isInstanceOf(RequirementException.class)
+                .hasMessageContaining("6번째 열");
+    }
+
+    private static String[] row(String reqIdCode, String name) {
+        String[] cells = new String[RequirementImportParser.HEADERS.length];
+        cells[RequirementImportParser.COL_ID] = reqIdCode;
+        cells[5] = name;
+        return cells;
+    }
+}
@@ -0,0 +1,214 @@
+package com.skala.decase.domain.requirement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import com.skala.decase.domain.company.domain.Company;
+import com.skala.decase.domain.department.domain.Department;
+import com.skala.decase.domain.document.domain.Document;
+import com.skala.decase.domain.member.domain.Member;
+import com.skala.decase.domain.member.service.MemberService;
+import com.skala.decase.domain.project.domain.Project;
+import com.skala.decase.domain.project.service.ProjectRevisionService;
+import com.skala.decase.domain.project.service.ProjectService;
+import com.skala.decase.domain.requirement.controller.dto.response.RequirementImportResponse;
+import com.skala.decase.domain.requirement.domain.Requirement;
+import com.skala.decase.domain.requirement.repository.RequirementImportRepository;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 가져오기가 엔티티로 반영되어 Envers 가 감사 행을 남기는지 H2 에서 확인합니다.
+ * Envers 는 커밋 직전에 감사 행을 쓰므로 테스트 트랜잭션 없이 서비스 트랜잭션을 커밋합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({RequirementImportService.class, RequirementImportRepository.class, ProjectRevisionService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class RequirementImportServiceTest {
+
+    private static final String[] HEADERS = RequirementImportParser.HEADERS;
+
+    @Autowired
+    private RequirementImportService importService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbc;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ProjectRevisionService projectRevisionService;
+
+    @MockitoBean
+    private ProjectService projectService;
+    @MockitoBean
+    private MemberService memberService;
+
+    private Project project;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        jdbc.update("INSERT INTO tm_companies (company_id, name) VALUES (1, '회사')");
+        jdbc.update("INSERT INTO tn_departments (department_id, name, company_id) VALUES (1, '부서', 1)");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            project = new Project("프로젝트", 1L, new Date(), new Date(), "설명", null,
+                    LocalDateTime.now(), LocalDateTime.now());
+            entityManager.persist(project);
+            member = new Member("user1", "pw", "작성자", "user1@decase.com",
+                    entityManager.getReference(Company.class, 1L), entityManager.getReference(Department.class, 1L));
+            entityManager.persist(member);
+            entityManager.persist(new Document("RFP-1", "제안요청서.pdf", "/rfp", true, project, member));
+        });
+        // 실제 서비스처럼 가져오기 트랜잭션 안에서 읽은 엔티티를 돌려줍니다.
+        given(projectService.findByProjectId(any()))
+                .willAnswer(invocation -> entityManager.find(Project.class, project.getProjectId()));
+        given(memberService.findByMemberId(any()))
+                .willAnswer(invocation -> entityManager.find(Member.class, member.getMemberId()));
+    }
+
+    @Test
+    void 추가한_요구사항과_출처는_Envers_감사_행으로_남는다() throws IOException {
+        RequirementImportResponse response = importRows(
+                cells("REQ-001", "로그인", "로그인 기능을 제공한다.", "제안요청서.pdf (3페이지)\n로그인 문장"),
+                cells("REQ-002", "로그아웃", null, null));
+
+        assertThat(response.added()).isEqualTo(2);
+        assertThat(jdbc.queryForObject("SELECT revision_count FROM tm_projects", Integer.class)).isEqualTo(1);
+        List<Map<String, Object>> audits = jdbc.queryForList(
+                "SELECT rev, revtype, req_id_code, revision_count, mod_reason FROM td_requirements_aud ORDER BY req_id_code");
+        assertThat(audits).extracting(row -> row.get("REQ_ID_CODE")).containsExactly("REQ-001", "REQ-002");
+        assertThat(audits).allSatisfy(row -> {
+            assertThat(((Number) row.get("REVTYPE")).intValue()).isZero();
+            assertThat(((Number) row.get("REVISION_COUNT")).intValue()).isEqualTo(1);
+        });
+        // 한 가져오기는 하나의 Envers 리비전
+        assertThat(jdbc.queryForObject("SELECT COUNT(DISTINCT rev) FROM (" +
+                "SELECT rev FROM td_requirements_aud UNION ALL SELECT rev FROM td_source_aud) t", Integer.class))
+                .isEqualTo(1);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM td_source_aud WHERE revtype = 0", Integer.class))
+                .isEqualTo(1);
+
+        // Envers 로 읽은 감사 행이 현재 값과 같음
+        Long reqPk = jdbc.queryForObject(
+                "SELECT req_pk FROM td_requirements WHERE req_id_code = 'REQ-001'", Long.class);
+        Number rev = (Number) audits.get(0).get("REV");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            AuditReader auditReader = AuditReaderFactory.get(entityManager);
+            Requirement audited = auditReader.find(Requirement.class, reqPk, rev);
+            assertThat(audited.getName()).isEqualTo("로그인");
+            assertThat(audited.getDescription()).isEqualTo("로그인 기능을 제공한다.");
+            assertThat(audited.getModReason()).isEqualTo("엑셀 가져오기로 추가");
+            assertThat(audited.getProjectIdAud()).isEqualTo(project.getProjectId());
+        });
+    }
+
+    @Test
+    void 수정은_빈_셀의_기존_값을_유지하고_MOD_감사_행을_남긴다() throws IOException {
+        importRows(
+                cells("REQ-001", "로그인", "로그인 기능을 제공한다.", null),
+                cells("REQ-002", "로그아웃", null, null));
+
+        RequirementImportResponse response = importRows(
+                cells("REQ-001", "소셜 로그인", null, "제안요청서.pdf (5페이지)\n소셜 로그인 문장"),
+                cells("REQ-002", "로그아웃", null, null),
+                cells("REQ-003", "회원가입", null, null));
+
+        assertThat(response.added()).isEqualTo(1);
+        assertThat(response.updated()).isEqualTo(1);
+        assertThat(response.unchanged()).isEqualTo(1);
+
+        Map<String, Object> current = jdbc.queryForMap(
+                "SELECT name, description, revision_count, mod_reason FROM td_requirements WHERE req_id_code = 'REQ-001'");
+        assertThat(current.get("NAME")).isEqualTo("소셜 로그인");
+        assertThat(current.get("DESCRIPTION")).isEqualTo("로그인 기능을 제공한다.");
+        assertThat(((Number) current.get("REVISION_COUNT")).intValue()).isEqualTo(2);
+        assertThat(current.get("MOD_REASON")).isEqualTo("엑셀 가져오기로 수정");
+
+        Map<String, Object> modified = jdbc.queryForMap(
+                "SELECT a.name, a.description, a.revision_count FROM td_requirements_aud a " +
+                        "JOIN td_requirements r ON r.req_pk = a.req_pk " +
+                        "WHERE r.req_id_code = 'REQ-001' AND a.revtype = 1");
+        assertThat(modified.get("NAME")).isEqualTo("소셜 로그인");
+        assertThat(modified.get("DESCRIPTION")).isEqualTo("로그인 기능을 제공한다.");
+        assertThat(((Number) modified.get("REVISION_COUNT")).intValue()).isEqualTo(2);
+        assertThat(jdbc.queryForObject(
+                "SELECT revision_count FROM td_source_aud WHERE page_num = 5", Integer.class)).isEqualTo(2);
+        // 바뀌지 않은 REQ-002 는 감사 행이 추가되지 않음
+        assertThat(jdbc.queryForObject(
+                "SELECT COUNT(*) FROM td_requirements_aud WHERE req_id_code = 'REQ-002'", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void 프로젝트_리비전을_낮추지_않고_문서로_남긴_리비전_기록을_덮어쓰지_않는다() throws IOException {
+        // 문서 업로드로 프로젝트 리비전이 요구사항 리비전보다 앞서 있음
+        jdbc.update("UPDATE tm_projects SET revision_count = 5");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                projectRevisionService.recordRevision(entityManager.find(Project.class, project.getProjectId()), 1,
+                        entityManager.find(Member.class, member.getMemberId()), "RFP-1"));
+
+        RequirementImportResponse response = importRows(cells("REQ-001", "로그인", null, null));
+
+        assertThat(response.revisionCount()).isEqualTo(1);
+        assertThat(jdbc.queryForObject("SELECT revision_count FROM tm_projects", Integer.class)).isEqualTo(5);
+        assertThat(jdbc.queryForObject(
+                "SELECT doc_id FROM td_project_revisions WHERE revision = 1", String.class)).isEqualTo("RFP-1");
+    }
+
+    private RequirementImportResponse importRows(String[]... rows) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet();
+            write(sheet.createRow(0), HEADERS);
+            for (int i = 0; i < rows.length; i++) {
+                write(sheet.createRow(i + 1), rows[i]);
+            }
+            workbook.write(out);
+            MockMultipartFile file = new MockMultipartFile("file", "requirements.xlsx",
+                    "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", out.toByteArray());
+            return importService.importRequirements(project.getProjectId(), member.getMemberId(), file);
+        }
+    }
+
+    private static void write(Row row, String[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                row.createCell(i).setCellValue(values[i]);
+            }
+        }
+    }
+
+    private static String[] cells(String reqIdCode, String name, String description, String sources) {
+        String[] cells = new String[HEADERS.length];
+        cells[0] = reqIdCode;
+        cells[1] = "기능";
+        cells[5] = name;
+        cells[6] = description;
+        cells[9] = sources;
+        return cells;
+    }
+}
@@ -0,0 +1,108 @@
+package com.skala.decase.domain.requirement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skala.decase.domain.project.domain.Project;
+import com.skala.decase.domain.project.service.ProjectService;
+import com.skala.decase.domain.requirement.controller.dto.response.MatrixResponse;
+import com.skala.decase.domain.requirement.domain.Reception;
+import com.skala.decase.domain.requirement.event.RequirementChangedEvent;
+import com.skala.decase.domain.requirement.mapper.RequirementAuditMapper;
+import com.skala.decase.domain.requirement.repository.RequirementAuditRepository;
+import com.skala.decase.domain.requirement.repository.RequirementRepository;
+import com.skala.decase.global.jdbc.StreamingJdbcTemplate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * 추적 매트릭스 생성을 H2(MariaDB 모드)에서 확인합니다.
+ */
+class RequirementMatrixServiceTest {
+
+    private static final long PROJECT_ID = 1L;
+
+    private JdbcTemplate jdbc;
+    private RequirementRepository requirementRepository;
+    private RequirementMatrixService service;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MariaDB;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE td_requirements_aud (" +
+                "rev INT, revtype TINYINT, req_pk BIGINT, req_id_code VARCHAR(100), is_deleted BOOLEAN, " +
+                "level_1 VARCHAR(100), level_2 VARCHAR(100), level_3 VARCHAR(100), " +
+                "name VARCHAR(100), description VARCHAR(5000), project_id_aud BIGINT, PRIMARY KEY (req_pk, rev))");
+        jdbc.execute("CREATE TABLE td_requirements (" +
+                "req_pk BIGINT PRIMARY KEY, req_id_code VARCHAR(100), project_id BIGINT, is_deleted BOOLEAN, " +
+                "level_1 VARCHAR(100), level_2 VARCHAR(100), level_3 VARCHAR(100), " +
+                "name VARCHAR(100), description VARCHAR(5000), reception VARCHAR(20))");
+
+        ProjectService projectService = mock(ProjectService.class);
+        when(projectService.findByProjectId(PROJECT_ID)).thenReturn(mock(Project.class));
+        requirementRepository = mock(RequirementRepository.class);
+        when(requirementRepository.getMaxRevisionCount(any())).thenReturn(3);
+
+        RequirementAuditRepository auditRepository = new RequirementAuditRepository(null,
+                new RequirementAuditMapper(new ObjectMapper()), new NamedParameterJdbcTemplate(dataSource),
+                new StreamingJdbcTemplate(dataSource, 100));
+        service = new RequirementMatrixService(projectService, requirementRepository, auditRepository, 10);
+    }
+
+    @Test
+    void 현재_요구사항은_현재_값으로_삭제된_요구사항은_삭제_시점_값으로_미수용() {
+        // REQ-001: 추가 후 현재 값이 바뀜, REQ-002: 삭제(DEL), REQ-003: 삭제 처리(is_deleted)
+        insertAudit(1, 0, 10L, "REQ-001", false, "처음 이름");
+        insertAudit(1, 0, 11L, "REQ-002", false, "REQ-002 추가");
+        insertAudit(1, 0, 12L, "REQ-003", false, "REQ-003 추가");
+        insertAudit(2, 2, 11L, "REQ-002", false, "REQ-002 삭제 직전");
+        insertAudit(3, 1, 12L, "REQ-003", true, "REQ-003 삭제 직전");
+        insertCurrent(10L, "REQ-001", false, "지금 이름", "REVIEWING");
+        insertCurrent(12L, "REQ-003", true, "REQ-003 삭제 직전", "ACCEPTED");
+
+        List<MatrixResponse> matrix = service.getMatrix(PROJECT_ID);
+
+        assertThat(matrix).extracting(MatrixResponse::getReqIdCode).containsExactly("REQ-001", "REQ-002", "REQ-003");
+        assertThat(matrix.get(0).getName()).isEqualTo("지금 이름");
+        assertThat(matrix.get(0).getReception()).isEqualTo(Reception.REVIEWING);
+        assertThat(matrix.get(1).getName()).isEqualTo("REQ-002 삭제 직전");
+        assertThat(matrix.get(1).getReception()).isEqualTo(Reception.UNACCEPTED);
+        assertThat(matrix.get(2).getName()).isEqualTo("REQ-003 삭제 직전");
+        assertThat(matrix.get(2).getReception()).isEqualTo(Reception.UNACCEPTED);
+    }
+
+    @Test
+    void 변경이_커밋되면_다시_만든다() {
+        insertAudit(1, 0, 10L, "REQ-001", false, "처음 이름");
+        insertCurrent(10L, "REQ-001", false, "처음 이름", "ACCEPTED");
+        assertThat(service.getMatrix(PROJECT_ID)).hasSize(1);
+
+        insertAudit(2, 0, 11L, "REQ-002", false, "새 요구사항");
+        insertCurrent(11L, "REQ-002", false, "새 요구사항", "ACCEPTED");
+        assertThat(service.getMatrix(PROJECT_ID)).hasSize(1);
+
+        service.onRequirementChanged(new RequirementChangedEvent(PROJECT_ID, 2));
+        assertThat(service.getMatrix(PROJECT_ID)).hasSize(2);
+    }
+
+    private void insertAudit(int rev, int revtype, long reqPk, String reqIdCode, boolean deleted, String name) {
+        jdbc.update("INSERT INTO td_requirements_aud (rev, revtype, req_pk, req_id_code, is_deleted, level_1, name, " +
+                "project_id_aud) VALUES (?, ?, ?, ?, ?, '대분류', ?, ?)", rev, revtype, reqPk, reqIdCode, deleted, name,
+                PROJECT_ID);
+    }
+
+    private void insertCurrent(long reqPk, String reqIdCode, boolean deleted, String name, String reception) {
+        jdbc.update("INSERT INTO td_requirements (req_pk, req_id_code, project_id, is_deleted, level_1, name, reception) " +
+                "VALUES (?, ?, ?, ?, '대분류', ?, ?)", reqPk, reqIdCode, PROJECT_ID, deleted, name, reception);
+    }
+}
@@ -0,0 +1,32 @@
+package com.skala.decase.domain.requirement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+
+class RequirementTextExportServiceTest {
+
+    @Test
+    void 특수_문자가_없는_필드는_그대로_쓰고_빈_값과_null_은_비운다() throws IOException {
+        assertThat(csv("REQ-001", "로그인", null, "", "HIGH")).isEqualTo("REQ-001,로그인,,,HIGH\r\n");
+    }
+
+    @Test
+    void 쉼표_큰따옴표_줄바꿈이_있는_필드는_감싸고_큰따옴표는_두_번_쓴다() throws IOException {
+        assertThat(csv("a,b", "say \"hi\"", "줄1\n줄2", "cr\rlf", "\""))
+                .isEqualTo("\"a,b\",\"say \"\"hi\"\"\",\"줄1\n줄2\",\"cr\rlf\",\"\"\"\"\r\n");
+    }
+
+    @Test
+    void 앞뒤_공백은_감싸지_않고_보존한다() throws IOException {
+        assertThat(csv(" 앞 ", "뒤 ")).isEqualTo(" 앞 ,뒤 \r\n");
+    }
+
+    private static String csv(String... fields) throws IOException {
+        StringWriter writer = new StringWriter();
+        RequirementTextExportService.writeCsvRow(writer, fields);
+        return writer.toString();
+    }
+}
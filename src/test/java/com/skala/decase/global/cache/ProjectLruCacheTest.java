@@ -0,0 +1,78 @@
+package com.skala.decase.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ProjectLruCacheTest {
+
+    private record Key(Long projectId, int revision) {
+    }
+
+    @Test
+    void 항목_수를_넘으면_가장_오래_사용하지_않은_항목을_제거한다() {
+        ProjectLruCache<Key, String> cache = ProjectLruCache.ofEntries(2, Key::projectId);
+        cache.put(new Key(1L, 1), "a", 0L);
+        cache.put(new Key(1L, 2), "b", 0L);
+        cache.get(new Key(1L, 1));
+        cache.put(new Key(1L, 3), "c", 0L);
+
+        assertThat(cache.get(new Key(1L, 1))).isEqualTo("a");
+        assertThat(cache.get(new Key(1L, 2))).isNull();
+        assertThat(cache.get(new Key(1L, 3))).isEqualTo("c");
+        assertThat(cache.evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void 가중치_합으로_크기를_제한한다() {
+        ProjectLruCache<Key, String> cache = ProjectLruCache.ofWeight(5, String::length, Key::projectId);
+        cache.put(new Key(1L, 1), "aaa", 0L);
+        cache.put(new Key(1L, 2), "bbb", 0L);
+
+        assertThat(cache.get(new Key(1L, 1))).isNull();
+        assertThat(cache.weight()).isEqualTo(3);
+        assertThat(cache.put(new Key(1L, 3), "cccccc", 0L)).isFalse();
+    }
+
+    @Test
+    void 무효화는_해당_프로젝트의_조건에_맞는_항목만_제거한다() {
+        ProjectLruCache<Key, String> cache = ProjectLruCache.ofEntries(10, Key::projectId);
+        cache.put(new Key(1L, 1), "a", 0L);
+        cache.put(new Key(1L, 2), "b", 0L);
+        cache.put(new Key(2L, 2), "c", 0L);
+
+        int removed = cache.invalidate(1L, key -> key.revision() >= 2);
+
+        assertThat(removed).isEqualTo(1);
+        assertThat(cache.entriesOf(1L)).containsOnlyKeys(new Key(1L, 1));
+        assertThat(cache.get(new Key(2L, 2))).isEqualTo("c");
+    }
+
+    @Test
+    void 만드는_도중_무효화되면_보관하지_않는다() {
+        ProjectLruCache<Key, String> cache = ProjectLruCache.ofEntries(10, Key::projectId);
+        Key key = new Key(1L, 1);
+
+        String loaded = cache.getOrLoad(key, () -> {
+            cache.invalidate(1L);
+            return "stale";
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(cache.get(key)).isNull();
+        assertThat(cache.put(key, "fresh", cache.generation(1L))).isTrue();
+    }
+
+    @Test
+    void 캐시에_있으면_다시_만들지_않는다() {
+        ProjectLruCache<Key, String> cache = ProjectLruCache.ofEntries(10, Key::projectId);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getOrLoad(new Key(1L, 1), () -> "v" + loads.incrementAndGet());
+        String second = cache.getOrLoad(new Key(1L, 1), () -> "v" + loads.incrementAndGet());
+
+        assertThat(second).isEqualTo("v1");
+        assertThat(loads).hasValue(1);
+    }
+}
@@ -0,0 +1,59 @@
+package com.skala.decase.global.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+class PageCursorTest {
+
+    @Test
+    void 값을_그대로_되돌린다() {
+        String cursor = PageCursor.encode("FR", "REQ-001");
+
+        assertThat(PageCursor.decode(cursor, 2)).containsExactly("FR", "REQ-001");
+    }
+
+    @Test
+    void null_은_문자열_null_이나_빈_문자열과_구분된다() {
+        assertThat(PageCursor.decode(PageCursor.encode(null, "REQ-001"), 2)).containsExactly(null, "REQ-001");
+        assertThat(PageCursor.decode(PageCursor.encode("null", "REQ-001"), 2)).containsExactly("null", "REQ-001");
+        assertThat(PageCursor.decode(PageCursor.encode("", "REQ-001"), 2)).containsExactly("", "REQ-001");
+    }
+
+    @Test
+    void 숫자는_문자열로_되돌린다() {
+        String cursor = PageCursor.encode(12L, 345L);
+
+        assertThat(PageCursor.decode(cursor, 2)).containsExactly("12", "345");
+    }
+
+    @Test
+    void 커서가_없으면_null() {
+        assertThat(PageCursor.decode(null, 2)).isNull();
+        assertThat(PageCursor.decode(" ", 2)).isNull();
+    }
+
+    @Test
+    void 값_개수가_다르면_거부한다() {
+        String cursor = PageCursor.encode("FR", "REQ-001");
+
+        assertThatThrownBy(() -> PageCursor.decode(cursor, 3)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 형식이_맞지_않으면_거부한다() {
+        String legacy = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("FR\nREQ-001".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> PageCursor.decode(legacy, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode("%%%", 2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 줄바꿈이_있는_값은_인코딩하지_않는다() {
+        assertThatThrownBy(() -> PageCursor.encode("a\nb")).isInstanceOf(IllegalArgumentException.class);
+    }
+}